@@ -0,0 +1,285 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.cache.query.Query;
+import com.gemstone.gemfire.cache.query.QueryService;
+
+/**
+ * The CompiledQueryCache class is a bounded, thread-safe, least recently used (LRU) cache of GemFire {@link Query}
+ * objects keyed by query target and OQL query string, used to avoid parsing and compiling the same
+ * OQL statement on every execution.
+ *
+ * The query target identifies the {@link QueryService} a query is created with, for instance the local
+ * {@link QueryService} or the {@link com.gemstone.gemfire.cache.RegionService} providing it. It is used rather
+ * than the {@link QueryService} since GemFire returns a new {@link QueryService} instance on every lookup.
+ *
+ * Cache hits do not lock; only a miss that grows the cache beyond its maximum size synchronizes to evict
+ * the least recently used compiled {@link Query}.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.query.Query
+ * @see com.gemstone.gemfire.cache.query.QueryService
+ * @since 1.9.0
+ */
+public class CompiledQueryCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private final AtomicLong accessCount = new AtomicLong(0L);
+	private final AtomicLong hitCount = new AtomicLong(0L);
+	private final AtomicLong missCount = new AtomicLong(0L);
+
+	private final ConcurrentMap<QueryKey, CachedQuery> queries = new ConcurrentHashMap<QueryKey, CachedQuery>();
+
+	private final int maximumSize;
+
+	private final Object evictionMonitor = new Object();
+
+	/**
+	 * Constructs an instance of the CompiledQueryCache with the default maximum size.
+	 *
+	 * @see #DEFAULT_MAXIMUM_SIZE
+	 */
+	public CompiledQueryCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Constructs an instance of the CompiledQueryCache holding at most the given number of compiled queries.
+	 *
+	 * @param maximumSize an integer value indicating the maximum number of compiled queries held by this cache.
+	 * @throws IllegalArgumentException if maximum size is less than 1.
+	 */
+	public CompiledQueryCache(final int maximumSize) {
+		Assert.isTrue(maximumSize > 0, String.format("maximumSize [%d] must be greater than 0", maximumSize));
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Returns the compiled {@link Query} for the given query target and OQL query string, creating and caching
+	 * a new {@link Query} with the given {@link QueryService} if no compiled {@link Query} was previously cached.
+	 *
+	 * @param queryTarget {@link Object} identifying the {@link QueryService} the query is created with;
+	 * must not be {@literal null}.
+	 * @param queryService the GemFire {@link QueryService} used to create the {@link Query}.
+	 * @param queryString the OQL query statement.
+	 * @return the cached or newly compiled {@link Query} for the OQL query string.
+	 * @see #getQuery(Object, QueryServiceProvider, String)
+	 */
+	public Query getQuery(final Object queryTarget, final QueryService queryService, final String queryString) {
+		Assert.notNull(queryService, "QueryService must not be null");
+
+		return getQuery(queryTarget, new QueryServiceProvider() {
+			@Override public QueryService getQueryService() {
+				return queryService;
+			}
+		}, queryString);
+	}
+
+	/**
+	 * Returns the compiled {@link Query} for the given query target and OQL query string, creating and caching
+	 * a new {@link Query} with the {@link QueryService} resolved from the given {@link QueryServiceProvider}
+	 * if no compiled {@link Query} was previously cached.  The {@link QueryService} is only resolved on a miss.
+	 *
+	 * @param queryTarget {@link Object} identifying the {@link QueryService} the query is created with;
+	 * must not be {@literal null}.
+	 * @param queryServiceProvider {@link QueryServiceProvider} resolving the GemFire {@link QueryService}
+	 * used to create the {@link Query} on a cache miss.
+	 * @param queryString the OQL query statement.
+	 * @return the cached or newly compiled {@link Query} for the OQL query string.
+	 * @see com.gemstone.gemfire.cache.query.QueryService#newQuery(String)
+	 */
+	public Query getQuery(final Object queryTarget, final QueryServiceProvider queryServiceProvider,
+			final String queryString) {
+
+		Assert.notNull(queryServiceProvider, "QueryServiceProvider must not be null");
+
+		QueryKey key = new QueryKey(queryTarget, queryString);
+
+		CachedQuery cachedQuery = queries.get(key);
+
+		if (cachedQuery != null) {
+			hitCount.incrementAndGet();
+			return cachedQuery.touch(accessCount.incrementAndGet());
+		}
+
+		missCount.incrementAndGet();
+
+		QueryService queryService = queryServiceProvider.getQueryService();
+
+		Assert.notNull(queryService, "QueryService must not be null");
+
+		// NOTE concurrent misses on the same key may compile twice; the first one cached wins
+		cachedQuery = new CachedQuery(queryService.newQuery(queryString), accessCount.incrementAndGet());
+
+		CachedQuery existingCachedQuery = queries.putIfAbsent(key, cachedQuery);
+
+		if (existingCachedQuery != null) {
+			return existingCachedQuery.touch(accessCount.incrementAndGet());
+		}
+
+		evictLeastRecentlyUsed();
+
+		return cachedQuery.query;
+	}
+
+	/* (non-Javadoc) */
+	private void evictLeastRecentlyUsed() {
+		if (queries.size() > maximumSize) {
+			synchronized (evictionMonitor) {
+				while (queries.size() > maximumSize) {
+					Map.Entry<QueryKey, CachedQuery> eldest = null;
+
+					for (Map.Entry<QueryKey, CachedQuery> entry : queries.entrySet()) {
+						if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+							eldest = entry;
+						}
+					}
+
+					if (eldest != null) {
+						queries.remove(eldest.getKey(), eldest.getValue());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all compiled queries from this cache, for instance, after Indexes have been created or removed
+	 * so that subsequent query executions pick up the new query plan.
+	 */
+	public void clear() {
+		queries.clear();
+	}
+
+	/**
+	 * Returns the number of times a compiled {@link Query} was found in this cache.
+	 *
+	 * @return a long value indicating the number of cache hits.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the maximum number of compiled queries held by this cache.
+	 *
+	 * @return an integer value indicating the maximum size of this cache.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the number of times a {@link Query} had to be compiled because it was not present in this cache.
+	 *
+	 * @return a long value indicating the number of cache misses.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of compiled queries currently held by this cache.
+	 *
+	 * @return an integer value indicating the current size of this cache.
+	 */
+	public int size() {
+		return queries.size();
+	}
+
+	/**
+	 * Callback interface used to resolve the GemFire {@link QueryService} creating a {@link Query}
+	 * only when the {@link Query} is not already cached.
+	 */
+	public interface QueryServiceProvider {
+
+		/**
+		 * Returns the GemFire {@link QueryService} used to create and compile a {@link Query}.
+		 *
+		 * @return the GemFire {@link QueryService}.
+		 */
+		QueryService getQueryService();
+
+	}
+
+	/* (non-Javadoc) */
+	static final class CachedQuery {
+
+		private final Query query;
+
+		private volatile long lastAccess;
+
+		CachedQuery(final Query query, final long lastAccess) {
+			this.query = query;
+			this.lastAccess = lastAccess;
+		}
+
+		Query touch(final long lastAccess) {
+			this.lastAccess = lastAccess;
+			return query;
+		}
+	}
+
+	/* (non-Javadoc) */
+	static final class QueryKey {
+
+		private final Object queryTarget;
+
+		private final String queryString;
+
+		QueryKey(final Object queryTarget, final String queryString) {
+			Assert.notNull(queryTarget, "Query target must not be null");
+			Assert.hasText(queryString, "Query string must be specified");
+
+			this.queryTarget = queryTarget;
+			this.queryString = queryString;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (obj == this) {
+				return true;
+			}
+
+			if (!(obj instanceof QueryKey)) {
+				return false;
+			}
+
+			QueryKey that = (QueryKey) obj;
+
+			return (this.queryTarget.equals(that.queryTarget) && this.queryString.equals(that.queryString));
+		}
+
+		@Override
+		public int hashCode() {
+			int hashValue = 17;
+			hashValue = 37 * hashValue + queryTarget.hashCode();
+			hashValue = 37 * hashValue + queryString.hashCode();
+			return hashValue;
+		}
+	}
+
+}
@@ -65,8 +65,12 @@ import com.gemstone.gemfire.internal.cache.LocalRegion;
 @SuppressWarnings("unused")
 public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
 
+	static final String LOCAL_QUERY_TARGET = "[local]";
+
 	private boolean exposeNativeRegion = false;
 
+	private CompiledQueryCache queryCache = new CompiledQueryCache();
+
 	private Region<?, ?> regionProxy;
 
 	public GemfireTemplate() {
@@ -107,6 +111,41 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Sets the cache of compiled OQL {@link Query Queries} used by the <code>find</code> methods.  A {@literal null}
+	 * reference disables query caching, causing each OQL query string to be parsed and compiled on every execution.
+	 *
+	 * @param queryCache the {@link CompiledQueryCache} used by this template.
+	 * @see org.springframework.data.gemfire.CompiledQueryCache
+	 */
+	public void setQueryCache(CompiledQueryCache queryCache) {
+		this.queryCache = queryCache;
+	}
+
+	/**
+	 * Returns the cache of compiled OQL {@link Query Queries} used by the <code>find</code> methods.
+	 *
+	 * @return the {@link CompiledQueryCache} used by this template or {@literal null} if query caching is disabled.
+	 * @see org.springframework.data.gemfire.CompiledQueryCache
+	 */
+	public CompiledQueryCache getQueryCache() {
+		return this.queryCache;
+	}
+
+	/**
+	 * Invalidates all compiled OQL {@link Query Queries} cached by this template, for example, when Indexes
+	 * on the underlying {@link Region} have changed.
+	 *
+	 * @see org.springframework.data.gemfire.CompiledQueryCache#clear()
+	 */
+	public void clearQueryCache() {
+		CompiledQueryCache localQueryCache = getQueryCache();
+
+		if (localQueryCache != null) {
+			localQueryCache.clear();
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#containsKey(java.lang.Object)
 	 */
@@ -230,6 +269,22 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Removes the entries with the given keys from the Region in a single bulk operation.
+	 *
+	 * @param <K> the Class type of the keys.
+	 * @param keys the keys of the entries to remove.
+	 * @see com.gemstone.gemfire.cache.Region#removeAll(java.util.Collection)
+	 */
+	public <K> void removeAll(final Collection<? extends K> keys) {
+		try {
+			this.<K, Object>getRegion().removeAll(keys);
+		}
+		catch (GemFireException e) {
+			throw convertGemFireAccessException(e);
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#replace(K, V)
 	 */
@@ -294,8 +349,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@SuppressWarnings("unchecked")
 	public <E> SelectResults<E> find(final String queryString, final Object... params) throws InvalidDataAccessApiUsageException {
 		try {
-			QueryService queryService = lookupQueryService(getRegion());
-			Query query = queryService.newQuery(queryString);
+			Query query = newQuery(getRegion(), queryString);
 			Object result = query.execute(params);
 
 			if (result instanceof SelectResults) {
@@ -336,8 +390,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@SuppressWarnings("unchecked")
 	public <T> T findUnique(final String queryString, final Object... params) throws InvalidDataAccessApiUsageException {
 		try {
-			QueryService queryService = lookupQueryService(getRegion());
-			Query query = queryService.newQuery(queryString);
+			Query query = newQuery(getRegion(), queryString);
 			Object result = query.execute(params);
 
 			if (result instanceof SelectResults) {
@@ -377,6 +430,42 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Returns a compiled {@link Query} for the given OQL query string on the given {@link Region}, consulting
+	 * the {@link CompiledQueryCache} when query caching is enabled.
+	 *
+	 * @param region the {@link Region} determining the {@link QueryService} used to create the {@link Query}.
+	 * @param queryString the OQL query statement.
+	 * @return a compiled {@link Query} for the OQL query string.
+	 * @see com.gemstone.gemfire.cache.query.QueryService#newQuery(String)
+	 * @see #lookupQueryService(Region)
+	 * @see #getQueryCache()
+	 */
+	protected Query newQuery(final Region<?, ?> region, final String queryString) {
+		CompiledQueryCache localQueryCache = getQueryCache();
+
+		return (localQueryCache != null ? localQueryCache.getQuery(resolveQueryTarget(region),
+			new CompiledQueryCache.QueryServiceProvider() {
+				@Override public QueryService getQueryService() {
+					return lookupQueryService(region);
+				}
+			}, queryString) : lookupQueryService(region).newQuery(queryString));
+	}
+
+	/**
+	 * Resolves the target identifying the {@link QueryService} used by {@link #lookupQueryService(Region)}
+	 * to query the given {@link Region}, either the local {@link QueryService} or the {@link QueryService}
+	 * of the {@link Region Region's} {@link com.gemstone.gemfire.cache.RegionService}, which uses
+	 * the default Pool on clients regardless of the {@link Region Region's} Pool.
+	 *
+	 * @param region the {@link Region} to query.
+	 * @return an {@link Object} identifying the query target.
+	 * @see #lookupQueryService(Region)
+	 */
+	Object resolveQueryTarget(final Region<?, ?> region) {
+		return (requiresLocalQueryService(region) ? LOCAL_QUERY_TARGET : region.getRegionService());
+	}
+
 	/**
 	 * Returns the query service used by the template in its find methods.
 	 * 
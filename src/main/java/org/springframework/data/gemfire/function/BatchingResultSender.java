@@ -15,6 +15,7 @@ package org.springframework.data.gemfire.function;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -24,148 +25,214 @@ import org.springframework.util.ObjectUtils;
 import com.gemstone.gemfire.cache.execute.ResultSender;
 
 /**
- * Sends collection results using a {@link ResultSender} in chunks determined by batchSize
- * 
+ * Sends collection results using a {@link ResultSender} in chunks determined by batchSize.
+ *
+ * Results may alternatively be chunked by their serialized size in bytes.  Chunks of primitive arrays
+ * are sized exactly; chunks of Object arrays and Iterables are sized by the average serialized size of
+ * a sample of elements.  When both a batch size and a chunk size in bytes are configured, the batch size
+ * caps the number of elements per chunk.
+ *
+ * With a flush interval, a chunk of Iterable results is also sent once the interval has elapsed since
+ * the previous chunk was sent, so results of slowly producing Iterables still stream to the caller.
+ * The interval is only checked after the Iterator returns the next element; while the Iterator blocks,
+ * nothing is sent, since the {@link ResultSender} is only used from the Function's thread.
+ *
  * @author David Turanski
+ * @author John Blum
  * @since 1.3.0
  */
 class BatchingResultSender  {
+
+	/**
+	 * Number of Iterable elements between two samples of the serialized element size,
+	 * once the initial sample has been taken.
+	 */
+	static final int SAMPLE_INTERVAL = 64;
+
 	private final int batchSize;
+	private final int chunkSizeInBytes;
+
+	private final long flushInterval;
+
 	private ResultSender<Object> resultSender;
-	
+
 	public BatchingResultSender(int batchSize, ResultSender<Object> resultSender) {
+		this(batchSize, 0, resultSender);
+	}
+
+	public BatchingResultSender(int batchSize, int chunkSizeInBytes, ResultSender<Object> resultSender) {
+		this(batchSize, chunkSizeInBytes, 0L, resultSender);
+	}
+
+	public BatchingResultSender(int batchSize, int chunkSizeInBytes, long flushInterval,
+			ResultSender<Object> resultSender) {
+
 		Assert.notNull(resultSender, "resultSender cannot be null");
 		Assert.isTrue(batchSize >= 0, "batchSize must be >= 0");
+		Assert.isTrue(chunkSizeInBytes >= 0, "chunkSizeInBytes must be >= 0");
+		Assert.isTrue(flushInterval >= 0, "flushInterval must be >= 0");
 		this.batchSize = batchSize;
+		this.chunkSizeInBytes = chunkSizeInBytes;
+		this.flushInterval = flushInterval;
 		this.resultSender = resultSender;
 	}
-	
- 
+
 	public void sendResults(Iterable<?> result) {
-		if (batchSize == 0) {
+		if (batchSize == 0 && chunkSizeInBytes == 0 && flushInterval == 0) {
 			resultSender.lastResult(result);
 			return;
-		}	
-	
-		List<Object> chunk = new ArrayList<Object>(batchSize);
-		
-		for (Iterator<?> it = result.iterator(); it.hasNext();) {
-		    if (chunk.size() < batchSize) {
-				chunk.add(it.next());
-		    }		    
-			 
-			if (chunk.size() == batchSize || !it.hasNext()) {
-                if (it.hasNext()) {
-                		resultSender.sendResult(chunk);
-                } else {
-                		resultSender.lastResult(chunk);
-                }
-           		chunk.clear();
+		}
+
+		Iterator<?> it = result.iterator();
+
+		if (!it.hasNext()) {
+			resultSender.lastResult(Collections.emptyList());
+			return;
+		}
+
+		List<Object> chunk = newChunk();
+
+		long lastSendTime = (flushInterval > 0 ? System.currentTimeMillis() : 0L);
+		long sampledBytes = 0;
+		int elementCount = 0;
+		int sampleCount = 0;
+
+		while (it.hasNext()) {
+			Object element = it.next();
+
+			chunk.add(element);
+
+			if (chunkSizeInBytes > 0 && isSample(elementCount++)) {
+				sampledBytes += SerializedSizeEstimator.sizeOf(element);
+				sampleCount++;
 			}
+
+			if (!it.hasNext()) {
+				resultSender.lastResult(chunk);
+			}
+			else if (isFull(chunk, sampledBytes, sampleCount) || isFlushDue(lastSendTime)) {
+				resultSender.sendResult(chunk);
+				chunk = newChunk();
+				lastSendTime = (flushInterval > 0 ? System.currentTimeMillis() : 0L);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private List<Object> newChunk() {
+		return (batchSize > 0 ? new ArrayList<Object>(batchSize) : new ArrayList<Object>());
+	}
+
+	/* (non-Javadoc) */
+	private boolean isSample(int elementIndex) {
+		return (elementIndex < SerializedSizeEstimator.DEFAULT_SAMPLE_SIZE || elementIndex % SAMPLE_INTERVAL == 0);
+	}
+
+	/* (non-Javadoc) */
+	private boolean isFull(List<Object> chunk, long sampledBytes, int sampleCount) {
+		if (batchSize > 0 && chunk.size() >= batchSize) {
+			return true;
 		}
+
+		if (chunkSizeInBytes > 0 && sampleCount > 0) {
+			long averageElementSize = Math.max(1, sampledBytes / sampleCount);
+			return (chunk.size() * averageElementSize >= chunkSizeInBytes);
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private boolean isFlushDue(long lastSendTime) {
+		return (flushInterval > 0 && System.currentTimeMillis() - lastSendTime >= flushInterval);
 	}
 
-	
 	public void sendArrayResults(Object result) {
-		
-		if (batchSize == 0) {
+		if (batchSize == 0 && chunkSizeInBytes == 0) {
 			resultSender.lastResult(result);
 			return;
 		}
-		
-		Assert.isTrue(ObjectUtils.isArray(result));		
-		
+
+		Assert.isTrue(ObjectUtils.isArray(result), "result must be an array");
+
 		int length = Array.getLength(result);
-		
-		for (int from =0; from <  length; from += batchSize) {		
-			int to = Math.min(length,from + batchSize);
-			Object chunk = copyOfRange(result,from, to);
+		int elementsPerChunk = elementsPerChunk(result, length);
 
-			if (to == length -1) {
+		if (length <= elementsPerChunk) {
+			resultSender.lastResult(result);
+			return;
+		}
+
+		for (int from = 0; from < length; from += elementsPerChunk) {
+			int to = Math.min(length, from + elementsPerChunk);
+			Object chunk = copyOfRange(result, from, to);
+
+			if (to == length) {
 				resultSender.lastResult(chunk);
-			} else {
+			}
+			else {
 				resultSender.sendResult(chunk);
-			}	
+			}
 		}
 	}
 
+	/**
+	 * Determines the number of array elements sent per chunk.
+	 *
+	 * @param result the array to send.
+	 * @param length the length of the array.
+	 * @return the number of array elements per chunk; always greater than 0.
+	 */
+	int elementsPerChunk(Object result, int length) {
+		if (chunkSizeInBytes == 0) {
+			return batchSize;
+		}
+
+		int elementSize = SerializedSizeEstimator.sizeOfPrimitive(result.getClass().getComponentType());
+
+		if (elementSize < 0) {
+			elementSize = SerializedSizeEstimator.averageSizeOf((Object[]) result);
+		}
+
+		int elementsPerChunk = Math.max(1, chunkSizeInBytes / elementSize);
+
+		return (batchSize > 0 ? Math.min(batchSize, elementsPerChunk) : elementsPerChunk);
+	}
 
 	/**
-	 * @param result
-	 * @param from
-	 * @param to
-	 * @return
+	 * Copies the given range of the given array into a new array of the same component type.
+	 *
+	 * @param result the array to copy from.
+	 * @param from the initial index of the range to copy, inclusive.
+	 * @param to the final index of the range to copy, exclusive.
+	 * @return a new array containing the given range.
 	 */
 	private Object copyOfRange(Object result, int from, int to) {
-				
-		Class<?> arrayClass = result.getClass();
-		int size = to - from;
-		
-		if (int[].class.isAssignableFrom(arrayClass)) {
-			int[] array = new int[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getInt(result, from + i);
-            }
-			return array;
-		}
-		
-		if (float[].class.isAssignableFrom(arrayClass)) {
-			float[] array = new float[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getFloat(result, from + i);
-            }
-			return array;
-		}
-		
-		if (double[].class.isAssignableFrom(arrayClass)) {
-			double[] array = new double[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getDouble(result, from + i);
-            }
-			return array;
-		}
-		
-		if (boolean[].class.isAssignableFrom(arrayClass)) {
-			boolean[] array = new boolean[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getBoolean(result, from + i);
-            }
-			return array;
-		}
-		
-		if (byte[].class.isAssignableFrom(arrayClass)) {
-			byte[] array = new byte[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getByte(result, from + i);
-            }
-			return array;
-		}
-		
-		if (short[].class.isAssignableFrom(arrayClass)) {
-			short[] array = new short[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getShort(result, from + i);
-            }
-			return array;
-		}
-		
-		if (long[].class.isAssignableFrom(arrayClass)) {
-			long[] array = new long[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getLong(result, from + i);
-            }
-			return array;
-		}
-		
-		if (char[].class.isAssignableFrom(arrayClass)) {
-			char[] array = new char[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getChar(result, from + i);
-            }
-			return array;
-		}
-		
-	    return Arrays.copyOfRange((Object[])result, from, to);
-	 
+		if (result instanceof int[]) {
+			return Arrays.copyOfRange((int[]) result, from, to);
+		}
+		else if (result instanceof long[]) {
+			return Arrays.copyOfRange((long[]) result, from, to);
+		}
+		else if (result instanceof double[]) {
+			return Arrays.copyOfRange((double[]) result, from, to);
+		}
+		else if (result instanceof float[]) {
+			return Arrays.copyOfRange((float[]) result, from, to);
+		}
+		else if (result instanceof byte[]) {
+			return Arrays.copyOfRange((byte[]) result, from, to);
+		}
+		else if (result instanceof short[]) {
+			return Arrays.copyOfRange((short[]) result, from, to);
+		}
+		else if (result instanceof char[]) {
+			return Arrays.copyOfRange((char[]) result, from, to);
+		}
+		else if (result instanceof boolean[]) {
+			return Arrays.copyOfRange((boolean[]) result, from, to);
+		}
+
+		return Arrays.copyOfRange((Object[]) result, from, to);
 	}
 }
@@ -20,7 +20,6 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.RegionData;
-import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.util.Assert;
 
 import com.gemstone.gemfire.cache.Region;
@@ -42,6 +41,10 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 	private final int functionContextParameterPosition;
 	private final int regionParameterPosition;
 	private final int resultSenderParameterPosition;
+	private final int parameterCount;
+
+	private final int[] argumentPositions;
+	private final int[] regionContextArgumentPositions;
 
 	private final Method method;
 
@@ -73,6 +76,14 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 		functionContextParameterPosition = getArgumentTypePosition(method, FunctionContext.class);
 
 		resultSenderParameterPosition = getArgumentTypePosition(method, ResultSender.class);
+
+		parameterCount = method.getParameterTypes().length;
+
+		argumentPositions = getArgumentPositions(parameterCount, functionContextParameterPosition,
+			resultSenderParameterPosition);
+
+		regionContextArgumentPositions = getArgumentPositions(parameterCount, regionParameterPosition,
+			filterParameterPosition, functionContextParameterPosition, resultSenderParameterPosition);
 	}
 
 	@Override
@@ -82,35 +93,82 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 
 	@Override
 	public Object[] resolveFunctionArguments(FunctionContext functionContext) {
-		Object[] args = super.resolveFunctionArguments(functionContext);
+		return resolveFunctionArguments(functionContext, functionContext.getResultSender());
+	}
+
+	/**
+	 * Resolves the Function invocation arguments, injecting the given {@link ResultSender} rather than
+	 * the {@link ResultSender} of the {@link FunctionContext}, for instance one recording metrics.
+	 *
+	 * @param functionContext the {@link FunctionContext} of the Function execution.
+	 * @param resultSender the {@link ResultSender} injected into a {@link ResultSender} parameter.
+	 * @return the resolved Function invocation arguments.
+	 */
+	Object[] resolveFunctionArguments(FunctionContext functionContext, ResultSender<?> resultSender) {
+		Object[] arguments = super.resolveFunctionArguments(functionContext);
+
+		boolean regionFunctionContext = (functionContext instanceof RegionFunctionContext);
+
+		int[] positions = (regionFunctionContext ? regionContextArgumentPositions : argumentPositions);
+
+		Assert.isTrue(arguments.length == positions.length, String.format(
+			"wrong number of arguments for method %s. Expected %d, but was %d", method.getName(),
+				parameterCount, arguments.length + (parameterCount - positions.length)));
+
+		Object[] args = new Object[parameterCount];
+
+		for (int index = 0; index < positions.length; index++) {
+			args[positions[index]] = arguments[index];
+		}
 
-		if (functionContext instanceof RegionFunctionContext) {
+		if (regionFunctionContext) {
 			if (this.regionParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, regionParameterPosition, getRegionForContext(
-					(RegionFunctionContext) functionContext));
+				args[regionParameterPosition] = getRegionForContext((RegionFunctionContext) functionContext);
 			}
 
 			if (this.filterParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, filterParameterPosition,
-					((RegionFunctionContext) functionContext).getFilter());
+				args[filterParameterPosition] = ((RegionFunctionContext) functionContext).getFilter();
 			}
 		}
 
 		if (this.functionContextParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, functionContextParameterPosition, functionContext);
+			args[functionContextParameterPosition] = functionContext;
 		}
 
 		if (this.resultSenderParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, resultSenderParameterPosition, functionContext.getResultSender());
+			args[resultSenderParameterPosition] = resultSender;
 		}
 
-		Assert.isTrue(args.length == method.getParameterTypes().length, String.format(
-			"wrong number of arguments for method %s. Expected %d, but was %d", method.getName(),
-				method.getParameterTypes().length, args.length));
-
 		return args;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * Computes the parameter positions, in order, that are bound to the arguments passed by the caller,
+	 * i.e. all positions except those injected by this resolver.
+	 */
+	private static int[] getArgumentPositions(int parameterCount, int... injectedPositions) {
+		boolean[] injected = new boolean[parameterCount];
+		int injectedCount = 0;
+
+		for (int position : injectedPositions) {
+			if (position >= 0 && !injected[position]) {
+				injected[position] = true;
+				injectedCount++;
+			}
+		}
+
+		int[] positions = new int[parameterCount - injectedCount];
+
+		for (int position = 0, index = 0; position < parameterCount; position++) {
+			if (!injected[position]) {
+				positions[index++] = position;
+			}
+		}
+
+		return positions;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.gemstone.gemfire.cache.execute.RegionFunctionContext
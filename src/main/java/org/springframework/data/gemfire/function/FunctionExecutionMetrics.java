@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+/**
+ * The FunctionExecutionMetrics interface is a Service Provider Interface (SPI) for recording the timings,
+ * result counts, chunk counts and failures of GemFire Function executions, both on the caller side
+ * (Function templates and proxies) and on the server side (POJO Functions registered with {@literal @GemfireFunction}).
+ *
+ * Implementations are invoked on the thread executing or invoking the Function and must therefore be thread-safe
+ * and must not block.  Implementations may adapt the recorded measurements to a metrics library of choice.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.function.SimpleFunctionExecutionMetrics
+ * @since 1.9.0
+ */
+public interface FunctionExecutionMetrics {
+
+	/**
+	 * Records a successful Function execution.
+	 *
+	 * @param functionId the ID of the executed Function.
+	 * @param side the {@link ExecutionSide side} on which the execution was measured.
+	 * @param elapsedNanos the duration of the execution in nanoseconds.
+	 * @param resultCount the number of results returned or sent, or -1 if unknown.
+	 */
+	void recordExecution(String functionId, ExecutionSide side, long elapsedNanos, int resultCount);
+
+	/**
+	 * Records a failed Function execution.
+	 *
+	 * @param functionId the ID of the executed Function.
+	 * @param side the {@link ExecutionSide side} on which the execution was measured.
+	 * @param elapsedNanos the duration of the execution in nanoseconds.
+	 * @param cause the {@link Throwable} causing the execution to fail.
+	 * @param timedOut a boolean value indicating whether the execution failed because it timed out.
+	 */
+	void recordFailure(String functionId, ExecutionSide side, long elapsedNanos, Throwable cause, boolean timedOut);
+
+	/**
+	 * Records a chunk of results sent by a Function on the server side.
+	 *
+	 * @param functionId the ID of the Function sending the results.
+	 * @param resultCount the number of results in the chunk.
+	 */
+	void recordChunk(String functionId, int resultCount);
+
+	/**
+	 * The side of a Function execution on which a measurement was taken.
+	 */
+	enum ExecutionSide {
+		CALLER,
+		SERVER
+	}
+
+}
@@ -44,10 +44,29 @@ public abstract class GemfireFunctionUtils {
 	public static void registerFunctionForPojoMethod(Object target, Method method, Map<String, Object> attributes,
 		boolean overwrite) {
 
+		registerFunctionForPojoMethod(target, method, attributes, overwrite, null);
+	}
+
+	/**
+	 * Wrap a target object and method in a GemFire Function recording its executions with the given
+	 * {@link FunctionExecutionMetrics} and register the function to the {@link FunctionService}
+	 *
+	 * @param target the target object
+	 * @param method the method bound to the function
+	 * @param attributes function attributes
+	 * @param overwrite if true, will replace the existing function
+	 * @param functionExecutionMetrics the {@link FunctionExecutionMetrics} recording the executions
+	 * of the function; may be null
+	 */
+	public static void registerFunctionForPojoMethod(Object target, Method method, Map<String, Object> attributes,
+		boolean overwrite, FunctionExecutionMetrics functionExecutionMetrics) {
+
 		String id = attributes.containsKey("id") ? (String) attributes.get("id") : "";
 
 		PojoFunctionWrapper function = new PojoFunctionWrapper(target, method, id);
 
+		function.setFunctionExecutionMetrics(functionExecutionMetrics);
+
 		if (attributes.containsKey("HA")) {
 			function.setHA((Boolean) attributes.get("HA"));
 		}
@@ -63,6 +82,20 @@ public abstract class GemfireFunctionUtils {
 			function.setBatchSize(batchSize);
 		}
 
+		if (attributes.containsKey("chunkSizeInBytes")) {
+			int chunkSizeInBytes = (Integer) attributes.get("chunkSizeInBytes");
+			Assert.isTrue(chunkSizeInBytes >= 0, String.format("chunkSizeInBytes must be a non-negative value %1$s.%2$s",
+				target.getClass().getName(), method.getName()));
+			function.setChunkSizeInBytes(chunkSizeInBytes);
+		}
+
+		if (attributes.containsKey("flushInterval")) {
+			long flushInterval = (Long) attributes.get("flushInterval");
+			Assert.isTrue(flushInterval >= 0, String.format("flushInterval must be a non-negative value %1$s.%2$s",
+				target.getClass().getName(), method.getName()));
+			function.setFlushInterval(flushInterval);
+		}
+
 		if (attributes.containsKey("hasResult")) {
 			// only set if true  TODO figure out why???
 			if (Boolean.TRUE.equals(attributes.get("hasResult"))) {
@@ -17,6 +17,10 @@
 package org.springframework.data.gemfire.function;
 
 import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.util.ClassUtils;
 
@@ -30,6 +34,10 @@ import com.gemstone.gemfire.pdx.PdxInstance;
  * PDX types when GemFire is configured with read-serialized set to true, but the application domain classes
  * are actually on the classpath.
  *
+ * Whether a PdxSerializer is configured, the parameter types of the Function-annotated method and
+ * the deserialization decision for each PDX class name are resolved once and then cached, so that
+ * neither the cache configuration nor the class loader is consulted on every Function invocation.
+ *
  * @author John Blum
  * @see org.springframework.data.gemfire.function.DefaultFunctionArgumentResolver
  * @see com.gemstone.gemfire.pdx.PdxInstance
@@ -38,6 +46,12 @@ import com.gemstone.gemfire.pdx.PdxInstance;
 @SuppressWarnings("unused")
 class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 
+	private final ConcurrentMap<String, Boolean> deserializationDecisions = new ConcurrentHashMap<String, Boolean>();
+
+	private volatile Boolean pdxSerializerConfigured;
+
+	private volatile Set<String> parameterTypeNames;
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -47,7 +61,7 @@ class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 	public Object[] resolveFunctionArguments(final FunctionContext functionContext) {
 		Object[] functionArguments = super.resolveFunctionArguments(functionContext);
 
-		if (isPdxSerializerConfigured()) {
+		if (functionArguments.length > 0 && isPdxSerializerConfigured()) {
 			int index = 0;
 
 			for (Object functionArgument : functionArguments) {
@@ -83,12 +97,19 @@ class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 	 * @see com.gemstone.gemfire.cache.CacheFactory#getAnyInstance()
 	 */
 	boolean isPdxSerializerConfigured() {
-		try {
-			return (CacheFactory.getAnyInstance().getPdxSerializer() != null);
-		}
-		catch (CacheClosedException ignore) {
-			return false;
+		Boolean localPdxSerializerConfigured = this.pdxSerializerConfigured;
+
+		if (localPdxSerializerConfigured == null) {
+			try {
+				localPdxSerializerConfigured = (CacheFactory.getAnyInstance().getPdxSerializer() != null);
+				this.pdxSerializerConfigured = localPdxSerializerConfigured;
+			}
+			catch (CacheClosedException ignore) {
+				return false;
+			}
 		}
+
+		return localPdxSerializerConfigured;
 	}
 
 	/*
@@ -98,7 +119,18 @@ class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 	 * @see #functionAnnotatedMethodHasParameterOfType(String)
 	 */
 	boolean isDeserializationNecessary(final String className) {
-		return (isOnClasspath(className) && functionAnnotatedMethodHasParameterOfType(className));
+		if (!functionAnnotatedMethodHasParameterOfType(className)) {
+			return false;
+		}
+
+		Boolean deserializationNecessary = deserializationDecisions.get(className);
+
+		if (deserializationNecessary == null) {
+			deserializationNecessary = isOnClasspath(className);
+			deserializationDecisions.putIfAbsent(className, deserializationNecessary);
+		}
+
+		return deserializationNecessary;
 	}
 	/*
 	 * (non-Javadoc)
@@ -118,13 +150,19 @@ class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 	 * @see java.lang.reflect.Method#getParameterTypes()
 	 */
 	boolean functionAnnotatedMethodHasParameterOfType(final String className) {
-		for (Class<?> parameterType : getFunctionAnnotatedMethod().getParameterTypes()) {
-			if (parameterType.getName().equals(className)) {
-				return true;
+		Set<String> localParameterTypeNames = this.parameterTypeNames;
+
+		if (localParameterTypeNames == null) {
+			localParameterTypeNames = new HashSet<String>();
+
+			for (Class<?> parameterType : getFunctionAnnotatedMethod().getParameterTypes()) {
+				localParameterTypeNames.add(parameterType.getName());
 			}
+
+			this.parameterTypeNames = localParameterTypeNames;
 		}
 
-		return false;
+		return localParameterTypeNames.contains(className);
 	}
 
 }
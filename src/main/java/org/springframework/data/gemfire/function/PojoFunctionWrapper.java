@@ -12,7 +12,9 @@
  */
 package org.springframework.data.gemfire.function;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.util.Collection;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -45,8 +47,13 @@ public class PojoFunctionWrapper implements Function {
 	private volatile boolean optimizeForWrite;
 
 	private volatile int batchSize;
+	private volatile int chunkSizeInBytes;
 
-	private final FunctionArgumentResolver functionArgumentResolver;
+	private volatile long flushInterval;
+
+	private transient volatile FunctionExecutionMetrics functionExecutionMetrics;
+
+	private final FunctionContextInjectingArgumentResolver functionArgumentResolver;
 
 	private final Method method;
 
@@ -58,6 +65,7 @@ public class PojoFunctionWrapper implements Function {
 		this.functionArgumentResolver = new FunctionContextInjectingArgumentResolver(method);
 		this.target = target;
 		this.method = method;
+		ReflectionUtils.makeAccessible(method);
 		this.id = (StringUtils.hasText(id) ? id : method.getName());
 		this.HA = false;
 		this.hasResult = !(method.getReturnType().equals(void.class));
@@ -68,6 +76,35 @@ public class PojoFunctionWrapper implements Function {
 		this.batchSize = batchSize;
 	}
 
+	/**
+	 * Sets the targeted serialized size in bytes of each chunk of results; 0 disables byte-size based chunking.
+	 *
+	 * @param chunkSizeInBytes the targeted size in bytes of each chunk of results.
+	 */
+	public void setChunkSizeInBytes(int chunkSizeInBytes) {
+		this.chunkSizeInBytes = chunkSizeInBytes;
+	}
+
+	/**
+	 * Sets the maximum number of milliseconds between two chunks of Iterable results; 0 disables
+	 * time based flushing.
+	 *
+	 * @param flushInterval the maximum number of milliseconds between two chunks of results.
+	 */
+	public void setFlushInterval(long flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * Sets the {@link FunctionExecutionMetrics} recording the server side timings, result counts, chunk counts
+	 * and failures of this Function; {@literal null} disables recording.
+	 *
+	 * @param functionExecutionMetrics the {@link FunctionExecutionMetrics} recording executions of this Function.
+	 */
+	public void setFunctionExecutionMetrics(FunctionExecutionMetrics functionExecutionMetrics) {
+		this.functionExecutionMetrics = functionExecutionMetrics;
+	}
+
 	public void setHA(boolean HA) {
 		this.HA = HA;
 	}
@@ -102,12 +139,40 @@ public class PojoFunctionWrapper implements Function {
 
 	@Override
 	public void execute(final FunctionContext functionContext) {
-		Object[] args = this.functionArgumentResolver.resolveFunctionArguments(functionContext);
+		FunctionExecutionMetrics metrics = this.functionExecutionMetrics;
+
+		if (metrics == null) {
+			doExecute(functionContext, functionContext.getResultSender());
+			return;
+		}
+
+		long startTime = System.nanoTime();
+
+		// NOTE wrapped before the arguments are resolved so an injected ResultSender records metrics as well
+		MetricsRecordingResultSender resultSender = new MetricsRecordingResultSender(
+			functionContext.getResultSender(), metrics, this.id);
+
+		try {
+			doExecute(functionContext, resultSender);
+
+			metrics.recordExecution(this.id, FunctionExecutionMetrics.ExecutionSide.SERVER,
+				System.nanoTime() - startTime, resultSender.getResultCount());
+		}
+		catch (RuntimeException e) {
+			metrics.recordFailure(this.id, FunctionExecutionMetrics.ExecutionSide.SERVER,
+				System.nanoTime() - startTime, e, false);
+			throw e;
+		}
+	}
+
+	/* the given ResultSender is also the one injected into a ResultSender parameter of the method */
+	private void doExecute(FunctionContext functionContext, ResultSender<Object> resultSender) {
+		Object[] args = this.functionArgumentResolver.resolveFunctionArguments(functionContext, resultSender);
 
 		Object result = invokeTargetMethod(args);
 
 		if (hasResult()) {
-			sendResults(functionContext.getResultSender(), result);
+			sendResults(resultSender, result);
 		}
 	}
 
@@ -117,7 +182,7 @@ public class PojoFunctionWrapper implements Function {
 				target.getClass().getName(), this.id));
 
 			for (Object arg : args) {
-				logger.debug("arg:" + arg.getClass().getName() + " " + arg.toString());
+				logger.debug("arg:" + (arg != null ? arg.getClass().getName() + " " + arg : null));
 			}
 		}
 
@@ -130,10 +195,10 @@ public class PojoFunctionWrapper implements Function {
 		}
 		else {
 			if (ObjectUtils.isArray(result)) {
-				new BatchingResultSender(batchSize, resultSender).sendArrayResults(result);
+				newBatchingResultSender(resultSender).sendArrayResults(result);
 			}
 			else if (Iterable.class.isAssignableFrom(result.getClass())) {
-				new BatchingResultSender(batchSize, resultSender).sendResults((Iterable<?>) result);
+				newBatchingResultSender(resultSender).sendResults((Iterable<?>) result);
 			}
 			else {
 				resultSender.lastResult(result);
@@ -141,4 +206,59 @@ public class PojoFunctionWrapper implements Function {
 		}
 	}
 
+	private BatchingResultSender newBatchingResultSender(ResultSender<Object> resultSender) {
+		return new BatchingResultSender(batchSize, chunkSizeInBytes, flushInterval, resultSender);
+	}
+
+	/**
+	 * Records each chunk of results sent by the Function with the {@link FunctionExecutionMetrics}.
+	 */
+	private static final class MetricsRecordingResultSender implements ResultSender<Object> {
+
+		private final FunctionExecutionMetrics metrics;
+
+		private int resultCount;
+
+		private final ResultSender<Object> delegate;
+
+		private final String functionId;
+
+		MetricsRecordingResultSender(ResultSender<Object> delegate, FunctionExecutionMetrics metrics,
+				String functionId) {
+
+			this.delegate = delegate;
+			this.metrics = metrics;
+			this.functionId = functionId;
+		}
+
+		int getResultCount() {
+			return resultCount;
+		}
+
+		@Override
+		public void lastResult(Object result) {
+			record(result);
+			delegate.lastResult(result);
+		}
+
+		@Override
+		public void sendResult(Object result) {
+			record(result);
+			delegate.sendResult(result);
+		}
+
+		@Override
+		public void sendException(Throwable cause) {
+			delegate.sendException(cause);
+		}
+
+		private void record(Object result) {
+			int count = (result instanceof Collection ? ((Collection<?>) result).size()
+				: (ObjectUtils.isArray(result) ? Array.getLength(result) : (result != null ? 1 : 0)));
+
+			resultCount += count;
+			metrics.recordChunk(functionId, count);
+		}
+	}
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+
+import com.gemstone.gemfire.DataSerializer;
+
+/**
+ * Estimates the number of bytes a Function result occupies once serialized by GemFire.
+ *
+ * Primitive array elements have a fixed size.  The size of any other object is measured by serializing it
+ * with {@link DataSerializer#writeObject(Object, java.io.DataOutput)} to a stream that only counts bytes,
+ * so estimates should be taken from a small sample of the results rather than from every result.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.DataSerializer
+ * @since 1.9.0
+ */
+abstract class SerializedSizeEstimator {
+
+	/**
+	 * Size assumed for an object whose serialized size cannot be measured.
+	 */
+	static final int DEFAULT_OBJECT_SIZE = 64;
+
+	/**
+	 * Maximum number of results measured to estimate the average serialized size of a result.
+	 */
+	static final int DEFAULT_SAMPLE_SIZE = 8;
+
+	/**
+	 * Returns the serialized size of an element of the given primitive array component type.
+	 *
+	 * @param componentType the component type of a primitive array.
+	 * @return the serialized size in bytes of an element of the given type,
+	 * or -1 if the given type is not primitive.
+	 */
+	static int sizeOfPrimitive(Class<?> componentType) {
+		if (boolean.class.equals(componentType) || byte.class.equals(componentType)) {
+			return 1;
+		}
+		else if (char.class.equals(componentType) || short.class.equals(componentType)) {
+			return 2;
+		}
+		else if (int.class.equals(componentType) || float.class.equals(componentType)) {
+			return 4;
+		}
+		else if (long.class.equals(componentType) || double.class.equals(componentType)) {
+			return 8;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Measures the serialized size of the given object.
+	 *
+	 * @param value the object to measure.
+	 * @return the serialized size of the given object in bytes, or {@link #DEFAULT_OBJECT_SIZE}
+	 * if the object cannot be serialized in this context.
+	 */
+	static int sizeOf(Object value) {
+		CountingOutputStream out = new CountingOutputStream();
+
+		try {
+			DataSerializer.writeObject(value, new DataOutputStream(out));
+			return Math.max(1, out.getCount());
+		}
+		catch (Exception ignore) {
+			return DEFAULT_OBJECT_SIZE;
+		}
+	}
+
+	/**
+	 * Estimates the average serialized size of the elements of the given Object array by measuring
+	 * at most {@link #DEFAULT_SAMPLE_SIZE} elements spread evenly across the array.
+	 *
+	 * @param array the array of objects to sample.
+	 * @return the estimated average serialized size of an element in bytes.
+	 */
+	static int averageSizeOf(Object[] array) {
+		if (array.length == 0) {
+			return DEFAULT_OBJECT_SIZE;
+		}
+
+		int samples = Math.min(array.length, DEFAULT_SAMPLE_SIZE);
+		int step = array.length / samples;
+		long total = 0;
+
+		for (int index = 0; index < samples; index++) {
+			total += sizeOf(array[index * step]);
+		}
+
+		return (int) Math.max(1, total / samples);
+	}
+
+	/* (non-Javadoc) */
+	private static final class CountingOutputStream extends OutputStream {
+
+		private int count;
+
+		int getCount() {
+			return count;
+		}
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			count += length;
+		}
+	}
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * The SimpleFunctionExecutionMetrics class is an in-memory {@link FunctionExecutionMetrics} implementation
+ * keeping counters and a latency histogram per Function ID and {@link ExecutionSide side}.
+ *
+ * Latencies are counted in power-of-two buckets of microseconds, so percentiles are approximated by
+ * the upper bound of the bucket in which they fall.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics
+ * @since 1.9.0
+ */
+public class SimpleFunctionExecutionMetrics implements FunctionExecutionMetrics {
+
+	private final ConcurrentMap<String, Statistics> callerStatistics = new ConcurrentHashMap<String, Statistics>();
+	private final ConcurrentMap<String, Statistics> serverStatistics = new ConcurrentHashMap<String, Statistics>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics#recordExecution(String, ExecutionSide, long, int)
+	 */
+	@Override
+	public void recordExecution(String functionId, ExecutionSide side, long elapsedNanos, int resultCount) {
+		Statistics statistics = statisticsFor(functionId, side);
+
+		statistics.executionCount.incrementAndGet();
+		statistics.recordLatency(elapsedNanos);
+
+		if (resultCount > 0) {
+			statistics.resultCount.addAndGet(resultCount);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics#recordFailure(String, ExecutionSide, long, Throwable, boolean)
+	 */
+	@Override
+	public void recordFailure(String functionId, ExecutionSide side, long elapsedNanos, Throwable cause,
+			boolean timedOut) {
+
+		Statistics statistics = statisticsFor(functionId, side);
+
+		statistics.failureCount.incrementAndGet();
+		statistics.recordLatency(elapsedNanos);
+
+		if (timedOut) {
+			statistics.timeoutCount.incrementAndGet();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics#recordChunk(String, int)
+	 */
+	@Override
+	public void recordChunk(String functionId, int resultCount) {
+		Statistics statistics = statisticsFor(functionId, ExecutionSide.SERVER);
+
+		statistics.chunkCount.incrementAndGet();
+		statistics.chunkedResultCount.addAndGet(Math.max(0, resultCount));
+	}
+
+	/**
+	 * Returns the statistics recorded for the given Function on the given side.
+	 *
+	 * @param functionId the ID of the Function.
+	 * @param side the {@link ExecutionSide side} on which the statistics were recorded.
+	 * @return the {@link Statistics} of the Function, or {@literal null} if nothing was recorded.
+	 */
+	public Statistics getStatistics(String functionId, ExecutionSide side) {
+		return statisticsMap(side).get(functionId);
+	}
+
+	/**
+	 * Returns the statistics recorded for all Functions on the given side, sorted by Function ID.
+	 *
+	 * @param side the {@link ExecutionSide side} on which the statistics were recorded.
+	 * @return an unmodifiable Map of Function ID to {@link Statistics}.
+	 */
+	public Map<String, Statistics> getStatistics(ExecutionSide side) {
+		return Collections.unmodifiableMap(new TreeMap<String, Statistics>(statisticsMap(side)));
+	}
+
+	/**
+	 * Discards all recorded statistics.
+	 */
+	public void reset() {
+		callerStatistics.clear();
+		serverStatistics.clear();
+	}
+
+	/* (non-Javadoc) */
+	private ConcurrentMap<String, Statistics> statisticsMap(ExecutionSide side) {
+		return (ExecutionSide.SERVER.equals(side) ? serverStatistics : callerStatistics);
+	}
+
+	/* (non-Javadoc) */
+	private Statistics statisticsFor(String functionId, ExecutionSide side) {
+		ConcurrentMap<String, Statistics> statisticsMap = statisticsMap(side);
+
+		String key = String.valueOf(functionId);
+
+		Statistics statistics = statisticsMap.get(key);
+
+		if (statistics == null) {
+			Statistics newStatistics = new Statistics();
+			statistics = statisticsMap.putIfAbsent(key, newStatistics);
+			statistics = (statistics != null ? statistics : newStatistics);
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Counters and latency histogram of a single Function on a single side.
+	 */
+	public static final class Statistics {
+
+		static final int BUCKET_COUNT = 32;
+
+		private final AtomicLong chunkCount = new AtomicLong(0);
+		private final AtomicLong chunkedResultCount = new AtomicLong(0);
+		private final AtomicLong executionCount = new AtomicLong(0);
+		private final AtomicLong failureCount = new AtomicLong(0);
+		private final AtomicLong resultCount = new AtomicLong(0);
+		private final AtomicLong timeoutCount = new AtomicLong(0);
+		private final AtomicLong totalLatencyNanos = new AtomicLong(0);
+
+		private final AtomicLongArray latencyHistogram = new AtomicLongArray(BUCKET_COUNT);
+
+		Statistics() {
+		}
+
+		/* (non-Javadoc) */
+		void recordLatency(long elapsedNanos) {
+			long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, elapsedNanos));
+
+			totalLatencyNanos.addAndGet(Math.max(0, elapsedNanos));
+			latencyHistogram.incrementAndGet(Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(elapsedMicros)));
+		}
+
+		public long getChunkCount() {
+			return chunkCount.get();
+		}
+
+		/**
+		 * Returns the average number of results per chunk sent by the Function.
+		 *
+		 * @return the average number of results per chunk, or 0 if no chunk was sent.
+		 */
+		public double getAverageResultsPerChunk() {
+			long chunks = getChunkCount();
+			return (chunks > 0 ? (double) chunkedResultCount.get() / chunks : 0.0d);
+		}
+
+		public long getExecutionCount() {
+			return executionCount.get();
+		}
+
+		public long getFailureCount() {
+			return failureCount.get();
+		}
+
+		public long getResultCount() {
+			return resultCount.get();
+		}
+
+		public long getTimeoutCount() {
+			return timeoutCount.get();
+		}
+
+		/**
+		 * Returns the average latency of all successful and failed executions.
+		 *
+		 * @return the average latency in nanoseconds, or 0 if nothing was recorded.
+		 */
+		public long getAverageLatencyNanos() {
+			long count = getExecutionCount() + getFailureCount();
+			return (count > 0 ? totalLatencyNanos.get() / count : 0L);
+		}
+
+		/**
+		 * Returns a snapshot of the latency histogram.  Bucket 0 counts executions faster than 1 microsecond;
+		 * bucket {@literal i} counts executions taking from 2^(i-1) up to 2^i - 1 microseconds.
+		 *
+		 * @return an array of execution counts per latency bucket.
+		 */
+		public long[] getLatencyHistogram() {
+			long[] histogram = new long[BUCKET_COUNT];
+
+			for (int index = 0; index < BUCKET_COUNT; index++) {
+				histogram[index] = latencyHistogram.get(index);
+			}
+
+			return histogram;
+		}
+
+		/**
+		 * Approximates the given latency percentile by the upper bound of the histogram bucket in which it falls.
+		 *
+		 * @param percentile the percentile, between 0.0 and 1.0.
+		 * @return the approximate latency percentile in microseconds, or 0 if nothing was recorded.
+		 */
+		public long getLatencyPercentileMicros(double percentile) {
+			Assert.isTrue(percentile >= 0.0d && percentile <= 1.0d, String.format(
+				"percentile [%1$s] must be between 0.0 and 1.0", percentile));
+
+			long[] histogram = getLatencyHistogram();
+			long total = 0;
+
+			for (long count : histogram) {
+				total += count;
+			}
+
+			long threshold = (long) Math.ceil(total * percentile);
+			long cumulative = 0;
+
+			for (int index = 0; index < BUCKET_COUNT && total > 0; index++) {
+				cumulative += histogram[index];
+
+				if (cumulative >= threshold && cumulative > 0) {
+					return (index == 0 ? 0L : (1L << index) - 1);
+				}
+			}
+
+			return 0L;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ executions = %1$d, failures = %2$d, timeouts = %3$d, results = %4$d,"
+				+ " chunks = %5$d, averageLatency = %6$d ns }", getExecutionCount(), getFailureCount(),
+					getTimeoutCount(), getResultCount(), getChunkCount(), getAverageLatencyNanos());
+		}
+	}
+
+}
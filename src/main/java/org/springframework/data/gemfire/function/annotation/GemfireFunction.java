@@ -55,6 +55,28 @@ public @interface GemfireFunction {
 	 */
 	int batchSize() default 0;
 
+	/**
+	 * Targets the serialized size in bytes of each chunk of results sent at one time.  The size of the results
+	 * is estimated from a sample.  When a batch size is also set, the batch size caps the number of results
+	 * per chunk.
+	 *
+	 * @return an integer value indicating the targeted chunk size in bytes, or 0 to disable byte-size based chunking.
+	 */
+	int chunkSizeInBytes() default 0;
+
+	/**
+	 * Number of milliseconds after which a partial chunk of results returned as an {@link Iterable} is sent,
+	 * so that results of slowly producing Iterables are still streamed to the caller.
+	 *
+	 * The interval is checked each time the {@link Iterable Iterable's} {@link java.util.Iterator} returns
+	 * an element, on the Function's own thread; no timer is involved.  A chunk is therefore sent late when
+	 * {@link java.util.Iterator#hasNext()} or {@link java.util.Iterator#next()} blocks, and the interval
+	 * is not a bound on the time between two chunks.
+	 *
+	 * @return a long value indicating the flush interval in milliseconds, or 0 to disable time based flushing.
+	 */
+	long flushInterval() default 0L;
+
 	/**
 	 * Normally follows the method return type, i.e., false if void, true otherwise. This allows overriding
 	 * a void method which uses the resultSender directly.
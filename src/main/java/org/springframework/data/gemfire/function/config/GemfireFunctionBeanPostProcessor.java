@@ -17,8 +17,13 @@ import java.lang.reflect.Modifier;
 import java.util.Map;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
 import org.springframework.data.gemfire.function.GemfireFunctionUtils;
 import org.springframework.data.gemfire.function.annotation.GemfireFunction;
 import org.springframework.util.Assert;
@@ -27,14 +32,59 @@ import org.springframework.util.ReflectionUtils;
 /**
  * A {@link BeanPostProcessor} to discover components wired as function implementations. That is 
  * beans that contain methods annotated with {code} @GemfireFunction {code}
+ *
+ * When a single {@link FunctionExecutionMetrics} bean is defined, or one is set explicitly, the registered
+ * functions record their executions with it.  The bean is looked up when the first execution is recorded.
  *  
  * @author David Turanski
- *
+ * @author John Blum
  */
-public class GemfireFunctionBeanPostProcessor implements BeanPostProcessor {
+public class GemfireFunctionBeanPostProcessor implements BeanPostProcessor, BeanFactoryAware {
  
 	private static final String GEMFIRE_FUNCTION_ANNOTATION_NAME = GemfireFunction.class.getName();
 
+	private BeanFactory beanFactory;
+
+	private FunctionExecutionMetrics functionExecutionMetrics;
+
+	private boolean functionExecutionMetricsResolved;
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanFactoryAware#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Sets the {@link FunctionExecutionMetrics} recording the executions of the registered functions.
+	 *
+	 * @param functionExecutionMetrics the {@link FunctionExecutionMetrics} recording function executions.
+	 */
+	public void setFunctionExecutionMetrics(FunctionExecutionMetrics functionExecutionMetrics) {
+		this.functionExecutionMetrics = functionExecutionMetrics;
+		this.functionExecutionMetricsResolved = true;
+	}
+
+	/* (non-Javadoc) */
+	FunctionExecutionMetrics resolveFunctionExecutionMetrics() {
+		if (!functionExecutionMetricsResolved) {
+			functionExecutionMetricsResolved = true;
+
+			if (beanFactory instanceof ListableBeanFactory) {
+				String[] beanNames = BeanFactoryUtils.beanNamesForTypeIncludingAncestors(
+					(ListableBeanFactory) beanFactory, FunctionExecutionMetrics.class, false, false);
+
+				if (beanNames.length == 1) {
+					functionExecutionMetrics = new LazyFunctionExecutionMetrics(beanFactory, beanNames[0]);
+				}
+			}
+		}
+
+		return functionExecutionMetrics;
+	}
+
 
 	/* (non-Javadoc)
 	 * @see org.springframework.beans.factory.config.BeanPostProcessor#postProcessBeforeInitialization(java.lang.Object, java.lang.String)
@@ -64,9 +114,57 @@ public class GemfireFunctionBeanPostProcessor implements BeanPostProcessor {
 			if (annotation != null) {
 				Assert.isTrue(Modifier.isPublic(method.getModifiers()),"The method " + method.getName()+ " annotated with" + GEMFIRE_FUNCTION_ANNOTATION_NAME+ " must be public");
 				Map<String,Object> attributes = AnnotationUtils.getAnnotationAttributes(annotation,false,true);
-				GemfireFunctionUtils.registerFunctionForPojoMethod(bean, method, attributes, false);
+				GemfireFunctionUtils.registerFunctionForPojoMethod(bean, method, attributes, false,
+					resolveFunctionExecutionMetrics());
 			}
 		}
 	}
-	
+
+	/**
+	 * {@link FunctionExecutionMetrics} looking up the {@link FunctionExecutionMetrics} bean on first use so that
+	 * registering the functions during post-processing does not initialize the bean prematurely.
+	 */
+	static class LazyFunctionExecutionMetrics implements FunctionExecutionMetrics {
+
+		private final BeanFactory beanFactory;
+
+		private volatile FunctionExecutionMetrics delegate;
+
+		private final String beanName;
+
+		LazyFunctionExecutionMetrics(BeanFactory beanFactory, String beanName) {
+			this.beanFactory = beanFactory;
+			this.beanName = beanName;
+		}
+
+		/* (non-Javadoc) */
+		FunctionExecutionMetrics getDelegate() {
+			FunctionExecutionMetrics delegate = this.delegate;
+
+			if (delegate == null) {
+				delegate = beanFactory.getBean(beanName, FunctionExecutionMetrics.class);
+				this.delegate = delegate;
+			}
+
+			return delegate;
+		}
+
+		@Override
+		public void recordExecution(String functionId, ExecutionSide side, long elapsedNanos, int resultCount) {
+			getDelegate().recordExecution(functionId, side, elapsedNanos, resultCount);
+		}
+
+		@Override
+		public void recordFailure(String functionId, ExecutionSide side, long elapsedNanos, Throwable cause,
+				boolean timedOut) {
+
+			getDelegate().recordFailure(functionId, side, elapsedNanos, cause, timedOut);
+		}
+
+		@Override
+		public void recordChunk(String functionId, int resultCount) {
+			getDelegate().recordChunk(functionId, resultCount);
+		}
+	}
+
 }
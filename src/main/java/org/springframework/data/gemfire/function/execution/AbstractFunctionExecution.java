@@ -13,14 +13,20 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
 import com.gemstone.gemfire.cache.execute.Execution;
 import com.gemstone.gemfire.cache.execute.Function;
@@ -51,6 +57,8 @@ abstract class AbstractFunctionExecution {
 
 	private String functionId;
 
+	private FunctionExecutionMetrics functionExecutionMetrics;
+
 	public AbstractFunctionExecution(Function function, Object... args) {
 		Assert.notNull(function, "function cannot be null");
 		this.function = function;
@@ -91,13 +99,154 @@ abstract class AbstractFunctionExecution {
 		return execute(true);
 	}
 
-	@SuppressWarnings("unchecked")
 	<T> Iterable<T> execute(Boolean returnResult) {
-		Execution execution = getExecution();
+		FunctionExecutionMetrics metrics = this.functionExecutionMetrics;
 
-		execution = execution.withArgs(getArgs());
-		execution = (getCollector() == null ? execution : execution.withCollector(getCollector()));
-		execution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
+		if (metrics == null) {
+			return doExecute(returnResult);
+		}
+
+		String id = (function != null ? function.getId() : functionId);
+		long startTime = System.nanoTime();
+
+		try {
+			Iterable<T> results = doExecute(returnResult);
+
+			metrics.recordExecution(id, FunctionExecutionMetrics.ExecutionSide.CALLER, System.nanoTime() - startTime,
+				(results instanceof Collection ? ((Collection<?>) results).size() : -1));
+
+			return results;
+		}
+		catch (RuntimeException e) {
+			metrics.recordFailure(id, FunctionExecutionMetrics.ExecutionSide.CALLER, System.nanoTime() - startTime, e,
+				isTimeout(e));
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Executes the Function without waiting for its results.  The returned {@link ListenableFuture} is completed
+	 * by a {@link ListenableResultCollector} when GemFire signals the end of the results, so no thread is held
+	 * while the Function executes.  The timeout does not apply; callers bound the wait with
+	 * {@link ListenableFuture#get(long, TimeUnit)}.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @return a {@link ListenableFuture} for the results of the Function execution.
+	 * @see org.springframework.data.gemfire.function.execution.ListenableResultCollector
+	 */
+	@SuppressWarnings("unchecked")
+	<T> ListenableFuture<Iterable<T>> executeAsync() {
+		final ListenableResultCollector resultCollector = new ListenableResultCollector(getCollector());
+
+		final FunctionExecutionMetrics metrics = this.functionExecutionMetrics;
+
+		if (metrics != null) {
+			final String id = (function != null ? function.getId() : functionId);
+			final long startTime = System.nanoTime();
+
+			resultCollector.getFuture().addCallback(new ListenableFutureCallback<Iterable<Object>>() {
+				@Override
+				public void onSuccess(Iterable<Object> results) {
+					metrics.recordExecution(id, FunctionExecutionMetrics.ExecutionSide.CALLER,
+						System.nanoTime() - startTime, (results instanceof Collection ? ((Collection<?>) results).size() : -1));
+				}
+
+				@Override
+				public void onFailure(Throwable cause) {
+					metrics.recordFailure(id, FunctionExecutionMetrics.ExecutionSide.CALLER,
+						System.nanoTime() - startTime, cause, isTimeout(cause));
+				}
+			});
+		}
+
+		try {
+			Execution execution = prepareExecution(resultCollector);
+
+			if (isRegisteredFunction()) {
+				execution.execute(functionId);
+			}
+			else {
+				execution.execute(function);
+			}
+
+			// GemFire never ends the results of a Function that does not return any
+			if (!hasResult()) {
+				resultCollector.complete(null);
+			}
+		}
+		catch (RuntimeException e) {
+			resultCollector.fail(e);
+		}
+
+		return (ListenableFuture<Iterable<T>>) (ListenableFuture<?>) resultCollector.getFuture();
+	}
+
+	/**
+	 * Executes the Function without waiting for its results, completing the returned {@link ListenableFuture}
+	 * with the first result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @return a {@link ListenableFuture} for the first result of the Function execution.
+	 * @see #executeAsync()
+	 */
+	<T> ListenableFuture<T> executeAndExtractAsync() {
+		final SettableListenableFuture<T> future = new SettableListenableFuture<T>();
+
+		this.<T>executeAsync().addCallback(new ListenableFutureCallback<Iterable<T>>() {
+			@Override
+			public void onSuccess(Iterable<T> results) {
+				try {
+					future.set(AbstractFunctionExecution.this.<T>extract(results));
+				}
+				catch (RuntimeException e) {
+					future.setException(e);
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable cause) {
+				future.setException(cause);
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Determines whether the Function returns results.  A Function executed by ID is resolved from
+	 * the {@link FunctionService}; when it is not registered locally, for instance on a client,
+	 * it is assumed to return results.
+	 *
+	 * @return a boolean value indicating whether the Function returns results.
+	 * @see com.gemstone.gemfire.cache.execute.FunctionService#getFunction(String)
+	 */
+	boolean hasResult() {
+		Function resolvedFunction = (function != null ? function : FunctionService.getFunction(functionId));
+
+		return (resolvedFunction == null || resolvedFunction.hasResult());
+	}
+
+	/**
+	 * Determines whether the given failure was caused by the Function results not being received in time,
+	 * i.e. whether a {@link TimeoutException} is anywhere in the cause chain.
+	 *
+	 * @param failure the {@link Throwable} thrown by the Function execution.
+	 * @return a boolean value indicating whether the Function execution timed out.
+	 */
+	static boolean isTimeout(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = (cause.getCause() != cause ? cause.getCause() : null)) {
+			if (cause instanceof TimeoutException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Iterable<T> doExecute(Boolean returnResult) {
+		Execution execution = prepareExecution(getCollector());
 
 		ResultCollector<?, ?> resultCollector;
 
@@ -124,11 +273,14 @@ abstract class AbstractFunctionExecution {
 
 		try {
 			if (this.timeout > 0) {
+				long startTime = System.currentTimeMillis();
+
 				try {
 					results = (Iterable<T>) resultCollector.getResult(this.timeout, TimeUnit.MILLISECONDS);
 				}
 				catch (FunctionException e) {
-					throw new RuntimeException(e);
+					throw new RuntimeException(System.currentTimeMillis() - startTime >= this.timeout
+						? newTimeoutFunctionException(e) : e);
 				}
 				catch (InterruptedException e) {
 					throw new RuntimeException(e);
@@ -150,10 +302,38 @@ abstract class AbstractFunctionExecution {
 		return results;
 	}
 
-	@SuppressWarnings("unchecked")
+	/*
+	 * (non-Javadoc)
+	 * GemFire does not give the FunctionException thrown when getResult(timeout) expires a distinguishing cause,
+	 * so one is added here; see isTimeout(Throwable)
+	 */
+	private FunctionException newTimeoutFunctionException(FunctionException cause) {
+		TimeoutException timeoutException = new TimeoutException(String.format(
+			"Function results not received within %1$d ms", this.timeout));
+
+		timeoutException.initCause(cause);
+
+		return new FunctionException(cause.getMessage(), timeoutException);
+	}
+
+	/* (non-Javadoc) */
+	private Execution prepareExecution(ResultCollector<?, ?> resultCollector) {
+		Execution execution = getExecution();
+
+		execution = execution.withArgs(getArgs());
+		execution = (resultCollector == null ? execution : execution.withCollector(resultCollector));
+		execution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
+
+		return execution;
+	}
+
 	<T> T executeAndExtract() {
-		Iterable<T> results = execute();
+		return this.<T>extract(this.<T>execute());
+	}
 
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	<T> T extract(Iterable<T> results) {
 		if (results == null || !results.iterator().hasNext()) {
 			return null;
 		}
@@ -186,6 +366,11 @@ abstract class AbstractFunctionExecution {
 		return this;
 	}
 
+	protected AbstractFunctionExecution setFunctionExecutionMetrics(FunctionExecutionMetrics functionExecutionMetrics) {
+		this.functionExecutionMetrics = functionExecutionMetrics;
+		return this;
+	}
+
 	protected AbstractFunctionExecution setResultCollector(ResultCollector<?, ?> resultCollector) {
 		this.resultCollector = resultCollector;
 		return this;
@@ -204,7 +389,7 @@ abstract class AbstractFunctionExecution {
 		return function == null;
 	}
 
-	private <T> Iterable<T> replaceSingletonNullCollectionWithEmptyList(Iterable<T> results) {
+	static <T> Iterable<T> replaceSingletonNullCollectionWithEmptyList(Iterable<T> results) {
 		if (results != null) {
 			Iterator<T> it = results.iterator();
 
@@ -12,8 +12,16 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import com.gemstone.gemfire.cache.execute.Function;
 import com.gemstone.gemfire.cache.execute.ResultCollector;
@@ -21,15 +29,39 @@ import com.gemstone.gemfire.cache.execute.ResultCollector;
 /**
  * The base class for GemFire FunctionTemplates used to invoke GemFire Functions.
  *
+ * Asynchronous executions do not hold a thread; the returned {@link ListenableFuture} is completed by
+ * the {@link ResultCollector} when GemFire delivers the end of the results.  Executions that need a thread
+ * of their own, such as streaming executions, run on an {@link AsyncListenableTaskExecutor}, which defaults to
+ * a {@link ThreadPoolTaskExecutor} running at most {@link #DEFAULT_ASYNC_POOL_SIZE} executions at once and queuing
+ * at most {@link #DEFAULT_ASYNC_QUEUE_CAPACITY} more and rejecting executions beyond that.  Streaming executions
+ * must never run on the calling thread, which consumes the results, so a rejected streaming execution fails
+ * its {@link StreamingResultCollector} instead.  The default executor is shut down when this template
+ * is {@link #destroy() destroyed}.
+ *
  * @author David Turanski
  * @author John Blum
+ * @see org.springframework.core.task.AsyncListenableTaskExecutor
  * @see com.gemstone.gemfire.cache.execute.Function
  * @see com.gemstone.gemfire.cache.execute.ResultCollector
  */
-abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
+abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, AsyncGemfireFunctionOperations,
+		DisposableBean {
+
+	public static final int DEFAULT_ASYNC_POOL_SIZE = 16;
+	public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1000;
+
+	protected static final String DEFAULT_ASYNC_THREAD_NAME_PREFIX = "gemfire-function-";
+
+	private volatile AsyncListenableTaskExecutor asyncTaskExecutor;
+
+	private ThreadPoolTaskExecutor defaultAsyncTaskExecutor;
+
+	private volatile FunctionExecutionMetrics functionExecutionMetrics;
 
 	protected Log log = LogFactory.getLog(this.getClass());
 
+	protected int streamingBufferSize = StreamingResultCollector.DEFAULT_CAPACITY;
+
 	protected long timeout;
 
 	protected volatile ResultCollector<?, ?> resultCollector;
@@ -54,6 +86,11 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 		return executeAndExtract(getFunctionExecution().setArgs(args).setFunctionId(functionId));
 	}
 
+	@Override
+	public <T> StreamingResultCollector<T> executeStreaming(String functionId, Object... args) {
+		return executeStreaming(getFunctionExecution().setArgs(args).setFunctionId(functionId));
+	}
+
 	@Override
 	public void executeWithNoResult(String functionId, Object... args) {
 		execute(getFunctionExecution().setArgs(args).setFunctionId(functionId), false);
@@ -64,16 +101,195 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 		return callback.doInGemfire(getFunctionExecution().getExecution());
 	}
 
+	@Override
+	public <T> ListenableFuture<Iterable<T>> executeAsync(Function function, Object... args) {
+		return executeAsync(getFunctionExecution().setArgs(args).setFunction(function));
+	}
+
+	@Override
+	public <T> ListenableFuture<Iterable<T>> executeAsync(String functionId, Object... args) {
+		return executeAsync(getFunctionExecution().setArgs(args).setFunctionId(functionId));
+	}
+
+	@Override
+	public <T> ListenableFuture<T> executeAndExtractAsync(Function function, Object... args) {
+		return executeAndExtractAsync(getFunctionExecution().setArgs(args).setFunction(function));
+	}
+
+	@Override
+	public <T> ListenableFuture<T> executeAndExtractAsync(String functionId, Object... args) {
+		return executeAndExtractAsync(getFunctionExecution().setArgs(args).setFunctionId(functionId));
+	}
+
 	protected <T> Iterable<T> execute(AbstractFunctionExecution execution) {
-		 return execution.setTimeout(timeout).setResultCollector(resultCollector).execute();
+		 return withMetrics(execution).setTimeout(timeout).setResultCollector(resultCollector).execute();
 	}
 	
 	protected <T> Iterable<T> execute(AbstractFunctionExecution execution, boolean returnResult) {
-		 return execution.setTimeout(timeout).setResultCollector(resultCollector).execute(returnResult);
+		 return withMetrics(execution).setTimeout(timeout).setResultCollector(resultCollector).execute(returnResult);
 	}
 
 	protected <T> T executeAndExtract(AbstractFunctionExecution execution) {
-		 return execution.setTimeout(timeout).setResultCollector(resultCollector).executeAndExtract();
+		 return withMetrics(execution).setTimeout(timeout).setResultCollector(resultCollector).executeAndExtract();
+	}
+
+	protected <T> ListenableFuture<Iterable<T>> executeAsync(AbstractFunctionExecution execution) {
+		return withMetrics(execution).setTimeout(timeout).setResultCollector(resultCollector).executeAsync();
+	}
+
+	protected <T> ListenableFuture<T> executeAndExtractAsync(AbstractFunctionExecution execution) {
+		return withMetrics(execution).setTimeout(timeout).setResultCollector(resultCollector).executeAndExtractAsync();
+	}
+
+	/**
+	 * Executes the Function on the {@link #getAsyncTaskExecutor() async TaskExecutor} with a
+	 * {@link StreamingResultCollector}, which is returned immediately so the caller can consume the results
+	 * as they arrive.  Any configured {@link ResultCollector} is replaced by the streaming collector.
+	 * If the {@link #getAsyncTaskExecutor() async TaskExecutor} rejects the execution, the returned collector
+	 * fails with the {@link TaskRejectedException}.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param execution the Function execution to run.
+	 * @return the {@link StreamingResultCollector} receiving the results.
+	 */
+	protected <T> StreamingResultCollector<T> executeStreaming(AbstractFunctionExecution execution) {
+		final StreamingResultCollector<T> resultCollector = new StreamingResultCollector<T>(streamingBufferSize);
+
+		resultCollector.setTimeout(timeout);
+
+		final AbstractFunctionExecution configuredExecution = withMetrics(execution).setTimeout(timeout)
+			.setResultCollector(resultCollector);
+
+		try {
+			getAsyncTaskExecutor().execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						configuredExecution.execute(false);
+
+						// GemFire never ends the results of a Function that does not return any
+						if (!configuredExecution.hasResult()) {
+							resultCollector.endResults();
+						}
+					}
+					catch (RuntimeException e) {
+						resultCollector.fail(e);
+					}
+				}
+			});
+		}
+		catch (TaskRejectedException e) {
+			resultCollector.fail(e);
+		}
+
+		return resultCollector;
+	}
+
+	/**
+	 * Sets the {@link FunctionExecutionMetrics} recording the caller side timings, result counts and failures
+	 * of the Function executions of this template; {@literal null} disables recording.
+	 *
+	 * @param functionExecutionMetrics the {@link FunctionExecutionMetrics} recording Function executions.
+	 */
+	public void setFunctionExecutionMetrics(FunctionExecutionMetrics functionExecutionMetrics) {
+		this.functionExecutionMetrics = functionExecutionMetrics;
+	}
+
+	public FunctionExecutionMetrics getFunctionExecutionMetrics() {
+		return functionExecutionMetrics;
+	}
+
+	/* (non-Javadoc) */
+	AbstractFunctionExecution withMetrics(AbstractFunctionExecution execution) {
+		FunctionExecutionMetrics functionExecutionMetrics = this.functionExecutionMetrics;
+
+		if (functionExecutionMetrics != null) {
+			execution.setFunctionExecutionMetrics(functionExecutionMetrics);
+		}
+
+		return execution;
+	}
+
+	/**
+	 * Sets the maximum number of results buffered by a {@link StreamingResultCollector} before the Function
+	 * execution is blocked waiting for the consumer.
+	 *
+	 * @param streamingBufferSize maximum number of buffered results; must be greater than 0.
+	 * @see #executeStreaming(String, Object...)
+	 */
+	public void setStreamingBufferSize(int streamingBufferSize) {
+		this.streamingBufferSize = streamingBufferSize;
+	}
+
+	/**
+	 * Sets the {@link AsyncListenableTaskExecutor} used to run streaming Function executions.  The executor must
+	 * reject executions it cannot run rather than run them on the calling thread, since the caller would then block
+	 * producing results it has yet to consume.
+	 *
+	 * @param asyncTaskExecutor the {@link AsyncListenableTaskExecutor} used to run streaming Function executions.
+	 */
+	public void setAsyncTaskExecutor(AsyncListenableTaskExecutor asyncTaskExecutor) {
+		this.asyncTaskExecutor = asyncTaskExecutor;
+	}
+
+	/**
+	 * Returns the {@link AsyncListenableTaskExecutor} used to run streaming Function executions, creating
+	 * a bounded {@link ThreadPoolTaskExecutor} on first use if none was configured.  The default executor runs
+	 * at most {@link #DEFAULT_ASYNC_POOL_SIZE} executions concurrently, queues at most
+	 * {@link #DEFAULT_ASYNC_QUEUE_CAPACITY} more and rejects executions when the queue is full.
+	 *
+	 * @return the {@link AsyncListenableTaskExecutor} used to run streaming Function executions.
+	 */
+	public AsyncListenableTaskExecutor getAsyncTaskExecutor() {
+		AsyncListenableTaskExecutor asyncTaskExecutor = this.asyncTaskExecutor;
+
+		if (asyncTaskExecutor == null) {
+			synchronized (this) {
+				asyncTaskExecutor = this.asyncTaskExecutor;
+
+				if (asyncTaskExecutor == null) {
+					ThreadPoolTaskExecutor defaultTaskExecutor = new ThreadPoolTaskExecutor();
+
+					defaultTaskExecutor.setAllowCoreThreadTimeOut(true);
+					defaultTaskExecutor.setCorePoolSize(DEFAULT_ASYNC_POOL_SIZE);
+					defaultTaskExecutor.setDaemon(true);
+					defaultTaskExecutor.setMaxPoolSize(DEFAULT_ASYNC_POOL_SIZE);
+					defaultTaskExecutor.setQueueCapacity(DEFAULT_ASYNC_QUEUE_CAPACITY);
+					defaultTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+					defaultTaskExecutor.setThreadNamePrefix(DEFAULT_ASYNC_THREAD_NAME_PREFIX);
+					defaultTaskExecutor.initialize();
+					asyncTaskExecutor = defaultTaskExecutor;
+					this.asyncTaskExecutor = asyncTaskExecutor;
+					this.defaultAsyncTaskExecutor = defaultTaskExecutor;
+				}
+			}
+		}
+
+		return asyncTaskExecutor;
+	}
+
+	/**
+	 * Shuts down the default {@link ThreadPoolTaskExecutor} if this template created one.  A configured
+	 * {@link AsyncListenableTaskExecutor} is managed by its owner and left running.
+	 *
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		ThreadPoolTaskExecutor defaultTaskExecutor;
+
+		synchronized (this) {
+			defaultTaskExecutor = this.defaultAsyncTaskExecutor;
+			this.defaultAsyncTaskExecutor = null;
+
+			if (defaultTaskExecutor != null && this.asyncTaskExecutor == defaultTaskExecutor) {
+				this.asyncTaskExecutor = null;
+			}
+		}
+
+		if (defaultTaskExecutor != null) {
+			defaultTaskExecutor.shutdown();
+		}
 	}
 
 	public void setResultCollector(ResultCollector<?,?> resultCollector) {
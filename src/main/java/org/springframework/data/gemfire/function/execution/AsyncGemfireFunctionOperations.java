@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.gemstone.gemfire.cache.execute.Function;
+
+/**
+ * An interface for invoking GemFire Functions asynchronously.  Each operation returns immediately
+ * with a {@link ListenableFuture} that completes once the results of the Function execution are available.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.function.execution.GemfireFunctionOperations
+ * @see org.springframework.util.concurrent.ListenableFuture
+ * @since 1.9.0
+ */
+public interface AsyncGemfireFunctionOperations {
+
+	/**
+	 * Asynchronously execute an unregistered GemFire Function with the given arguments.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link ListenableFuture} for the contents of the ResultsCollector.
+	 */
+	<T> ListenableFuture<Iterable<T>> executeAsync(Function function, Object... args);
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link ListenableFuture} for the results.
+	 */
+	<T> ListenableFuture<Iterable<T>> executeAsync(String functionId, Object... args);
+
+	/**
+	 * Asynchronously execute an unregistered GemFire Function with the expected singleton result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link ListenableFuture} for the first item in the ResultsCollector.
+	 */
+	<T> ListenableFuture<T> executeAndExtractAsync(Function function, Object... args);
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with an ID and with an expected singleton result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link ListenableFuture} for the first item in the results collector.
+	 */
+	<T> ListenableFuture<T> executeAndExtractAsync(String functionId, Object... args);
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID, streaming the results
+	 * to the caller as they arrive.  The returned {@link Iterable} may be iterated once; its iterator blocks
+	 * until the next result is available.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link StreamingResultCollector} over the results.
+	 * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+	 */
+	<T> StreamingResultCollector<T> executeStreaming(String functionId, Object... args);
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Set;
+
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * An interface for invoking GemFire Functions on a Region asynchronously, optionally filtered by keys.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.function.execution.AsyncGemfireFunctionOperations
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations
+ * @since 1.9.0
+ */
+public interface AsyncGemfireOnRegionOperations extends AsyncGemfireFunctionOperations {
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID on the Region entries
+	 * with the given keys.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param keys the keys of the Region entries on which the Function is executed.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link ListenableFuture} for the results.
+	 */
+	<T> ListenableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args);
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID on the Region entries
+	 * with the given keys and with an expected singleton result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param keys the keys of the Region entries on which the Function is executed.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link ListenableFuture} for the first item in the results collector.
+	 */
+	<T> ListenableFuture<T> executeAndExtractAsync(String functionId, Set<?> keys, Object... args);
+
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * The CoalescingRegionFunctionExecutor class merges single-key executions of the same Function, requested
+ * concurrently by different callers, into a single execution filtered on all of the requested keys.
+ *
+ * A batch of keys is executed once the coalescing window has elapsed since the first key was added to the batch,
+ * or as soon as the batch reaches the maximum batch size.  Only executions with the same Function ID and equal
+ * arguments are merged.
+ *
+ * The results of the merged execution are routed back to each caller by key.  Results that are {@link Map Maps}
+ * or {@link Map.Entry Map.Entries} are routed by their keys; any other result is routed by the key extracted with
+ * the configured {@link #setResultKeyExtractor(Converter) result key extractor}.  Callers whose key has no result
+ * receive {@literal null}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations
+ * @see org.springframework.util.concurrent.ListenableFuture
+ * @since 1.9.0
+ */
+public class CoalescingRegionFunctionExecutor implements DisposableBean {
+
+	public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+	public static final long DEFAULT_COALESCING_WINDOW = 5L;
+
+	public static final int DEFAULT_POOL_SIZE = 16;
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	protected static final String DEFAULT_THREAD_NAME_PREFIX = "gemfire-function-coalescing-";
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final ConcurrentMap<BatchKey, Batch> pendingBatches = new ConcurrentHashMap<BatchKey, Batch>();
+
+	private Converter<Object, ?> resultKeyExtractor;
+
+	private volatile Executor taskExecutor;
+
+	private final GemfireOnRegionOperations functionOperations;
+
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	private long coalescingWindow = DEFAULT_COALESCING_WINDOW;
+
+	private final ScheduledExecutorService flushScheduler;
+
+	/**
+	 * Constructs an instance of the CoalescingRegionFunctionExecutor executing the merged Functions
+	 * with the given {@link GemfireOnRegionOperations}.
+	 *
+	 * @param functionOperations the {@link GemfireOnRegionOperations} used to execute the merged Functions.
+	 * @throws IllegalArgumentException if the {@link GemfireOnRegionOperations} is null.
+	 */
+	public CoalescingRegionFunctionExecutor(GemfireOnRegionOperations functionOperations) {
+		Assert.notNull(functionOperations, "GemfireOnRegionOperations must not be null");
+
+		this.functionOperations = functionOperations;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(DEFAULT_THREAD_NAME_PREFIX);
+
+		threadFactory.setDaemon(true);
+		this.flushScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+
+	/**
+	 * Sets the number of milliseconds a batch waits for more keys after its first key was added.
+	 *
+	 * @param coalescingWindow the coalescing window in milliseconds; must be greater than 0.
+	 */
+	public void setCoalescingWindow(long coalescingWindow) {
+		Assert.isTrue(coalescingWindow > 0, String.format("coalescingWindow [%d] must be greater than 0",
+			coalescingWindow));
+		this.coalescingWindow = coalescingWindow;
+	}
+
+	public long getCoalescingWindow() {
+		return coalescingWindow;
+	}
+
+	/**
+	 * Sets the maximum number of keys merged into a single Function execution.
+	 *
+	 * @param maxBatchSize the maximum number of keys per execution; must be greater than 0.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, String.format("maxBatchSize [%d] must be greater than 0", maxBatchSize));
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Sets the {@link Converter} extracting the key from a Function result that is neither
+	 * a {@link Map} nor a {@link Map.Entry}.
+	 *
+	 * @param resultKeyExtractor the {@link Converter} extracting the key of a result.
+	 */
+	public void setResultKeyExtractor(Converter<Object, ?> resultKeyExtractor) {
+		this.resultKeyExtractor = resultKeyExtractor;
+	}
+
+	public Converter<Object, ?> getResultKeyExtractor() {
+		return resultKeyExtractor;
+	}
+
+	/**
+	 * Sets the {@link Executor} running the merged Function executions.  Defaults to a bounded
+	 * {@link ThreadPoolTaskExecutor}.
+	 *
+	 * @param taskExecutor the {@link Executor} running the merged Function executions.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} running the merged Function executions, creating a bounded
+	 * {@link ThreadPoolTaskExecutor} on first use if none was configured.  The default executor runs at most
+	 * {@link #DEFAULT_POOL_SIZE} merged executions concurrently, queues at most {@link #DEFAULT_QUEUE_CAPACITY}
+	 * more and runs the execution on the flushing Thread when the queue is full.
+	 *
+	 * @return the {@link Executor} running the merged Function executions.
+	 */
+	public Executor getTaskExecutor() {
+		Executor taskExecutor = this.taskExecutor;
+
+		if (taskExecutor == null) {
+			synchronized (this) {
+				taskExecutor = this.taskExecutor;
+
+				if (taskExecutor == null) {
+					ThreadPoolTaskExecutor defaultTaskExecutor = new ThreadPoolTaskExecutor();
+
+					defaultTaskExecutor.setAllowCoreThreadTimeOut(true);
+					defaultTaskExecutor.setCorePoolSize(DEFAULT_POOL_SIZE);
+					defaultTaskExecutor.setDaemon(true);
+					defaultTaskExecutor.setMaxPoolSize(DEFAULT_POOL_SIZE);
+					defaultTaskExecutor.setQueueCapacity(DEFAULT_QUEUE_CAPACITY);
+					defaultTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+					defaultTaskExecutor.setThreadNamePrefix(DEFAULT_THREAD_NAME_PREFIX);
+					defaultTaskExecutor.initialize();
+					taskExecutor = defaultTaskExecutor;
+					this.taskExecutor = taskExecutor;
+				}
+			}
+		}
+
+		return taskExecutor;
+	}
+
+	/**
+	 * Executes the GemFire Function registered with the given ID on the Region entry with the given key,
+	 * merged with the executions of the same Function and arguments requested by other callers
+	 * within the coalescing window.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param key the key of the Region entry on which the Function is executed.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link ListenableFuture} for the result of the Function for the given key.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> ListenableFuture<T> execute(String functionId, Object key, Object... args) {
+		Assert.hasText(functionId, "functionId must not be null or empty");
+		Assert.notNull(key, "key must not be null");
+
+		SettableListenableFuture<Object> future = new SettableListenableFuture<Object>();
+
+		BatchKey batchKey = new BatchKey(functionId, args);
+
+		while (true) {
+			Batch batch = pendingBatches.get(batchKey);
+
+			if (batch == null) {
+				Batch newBatch = new Batch(batchKey);
+
+				batch = pendingBatches.putIfAbsent(batchKey, newBatch);
+
+				if (batch == null) {
+					batch = newBatch;
+					scheduleFlush(batch);
+				}
+			}
+
+			int size = batch.add(key, future);
+
+			if (size > 0) {
+				if (size >= maxBatchSize) {
+					flush(batch);
+				}
+
+				return (ListenableFuture<T>) future;
+			}
+
+			// the batch was flushed concurrently; retry with a new batch
+			pendingBatches.remove(batchKey, batch);
+		}
+	}
+
+	/**
+	 * Executes all pending batches and stops the scheduler flushing batches after the coalescing window.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		for (Batch batch : pendingBatches.values()) {
+			flush(batch);
+		}
+
+		flushScheduler.shutdownNow();
+	}
+
+	/* (non-Javadoc) */
+	private void scheduleFlush(final Batch batch) {
+		flushScheduler.schedule(new Runnable() {
+			@Override
+			public void run() {
+				flush(batch);
+			}
+		}, coalescingWindow, TimeUnit.MILLISECONDS);
+	}
+
+	/* (non-Javadoc) */
+	private void flush(final Batch batch) {
+		pendingBatches.remove(batch.batchKey, batch);
+
+		final Map<Object, List<SettableListenableFuture<Object>>> callers = batch.close();
+
+		if (callers != null) {
+			getTaskExecutor().execute(new Runnable() {
+				@Override
+				public void run() {
+					execute(batch.batchKey, callers);
+				}
+			});
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void execute(BatchKey batchKey, Map<Object, List<SettableListenableFuture<Object>>> callers) {
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("executing Function [%1$s] for %2$d coalesced keys", batchKey.functionId,
+					callers.size()));
+			}
+
+			Iterable<Object> results = functionOperations.execute(batchKey.functionId,
+				new LinkedHashSet<Object>(callers.keySet()), batchKey.args);
+
+			Map<Object, Object> resultsByKey = routeResults(results, callers);
+
+			for (Map.Entry<Object, List<SettableListenableFuture<Object>>> entry : callers.entrySet()) {
+				Object result = resultsByKey.get(entry.getKey());
+
+				for (SettableListenableFuture<Object> future : entry.getValue()) {
+					future.set(result);
+				}
+			}
+		}
+		catch (Throwable cause) {
+			for (List<SettableListenableFuture<Object>> futures : callers.values()) {
+				for (SettableListenableFuture<Object> future : futures) {
+					future.setException(cause);
+				}
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Map<Object, Object> routeResults(Iterable<Object> results,
+			Map<Object, List<SettableListenableFuture<Object>>> callers) {
+
+		Map<Object, Object> resultsByKey = new LinkedHashMap<Object, Object>(callers.size());
+
+		if (results != null) {
+			for (Object result : results) {
+				if (result instanceof Map) {
+					resultsByKey.putAll((Map<?, ?>) result);
+				}
+				else if (result instanceof Map.Entry) {
+					Map.Entry<?, ?> entry = (Map.Entry<?, ?>) result;
+					resultsByKey.put(entry.getKey(), entry.getValue());
+				}
+				else if (resultKeyExtractor != null) {
+					resultsByKey.put(resultKeyExtractor.convert(result), result);
+				}
+				else if (callers.size() == 1) {
+					resultsByKey.put(callers.keySet().iterator().next(), result);
+				}
+				else {
+					throw new IllegalStateException(String.format(
+						"Cannot route result [%1$s] to one of the keys %2$s; return Maps or Map.Entries,"
+							+ " or configure a result key extractor", result, callers.keySet()));
+				}
+			}
+		}
+
+		return resultsByKey;
+	}
+
+	/* (non-Javadoc) */
+	private static final class BatchKey {
+
+		private final String functionId;
+
+		private final Object[] args;
+
+		BatchKey(String functionId, Object[] args) {
+			this.functionId = functionId;
+			this.args = args;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+
+			if (!(obj instanceof BatchKey)) {
+				return false;
+			}
+
+			BatchKey that = (BatchKey) obj;
+
+			return (this.functionId.equals(that.functionId) && Arrays.deepEquals(this.args, that.args));
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * functionId.hashCode() + Arrays.deepHashCode(args));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static final class Batch {
+
+		private final BatchKey batchKey;
+
+		private Map<Object, List<SettableListenableFuture<Object>>> callers =
+			new LinkedHashMap<Object, List<SettableListenableFuture<Object>>>();
+
+		Batch(BatchKey batchKey) {
+			this.batchKey = batchKey;
+		}
+
+		/* returns the number of keys in the batch after adding the key, or 0 if the batch was already flushed */
+		synchronized int add(Object key, SettableListenableFuture<Object> future) {
+			if (callers == null) {
+				return 0;
+			}
+
+			List<SettableListenableFuture<Object>> futures = callers.get(key);
+
+			if (futures == null) {
+				futures = new ArrayList<SettableListenableFuture<Object>>(1);
+				callers.put(key, futures);
+			}
+
+			futures.add(future);
+
+			return callers.size();
+		}
+
+		/* returns the callers of the batch, or null if the batch was already flushed */
+		synchronized Map<Object, List<SettableListenableFuture<Object>>> close() {
+			Map<Object, List<SettableListenableFuture<Object>>> closedCallers = callers;
+			callers = null;
+			return closedCallers;
+		}
+	}
+
+}
@@ -13,6 +13,7 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.Future;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -22,12 +23,17 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFuture;
 
 /**
  * A Proxy FactoryBean for all non-Region Function Execution interfaces.
- *  
+ *
+ * Interface methods declaring a {@link Future} or {@link ListenableFuture} return type are executed asynchronously
+ * when the configured {@link GemfireFunctionOperations} also implement {@link AsyncGemfireFunctionOperations}.
+ *
  * @author David Turanski
  * @author John Blum
  * @see java.lang.reflect.Method
@@ -83,7 +89,10 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 			logger.debug("invoking method " + invocation.getMethod().getName());
 		}
 
-		return invokeFunction(invocation.getMethod(), invocation.getArguments());
+		Method method = invocation.getMethod();
+
+		return (isAsync(method) ? invokeFunctionAsync(method, invocation.getArguments())
+			: invokeFunction(method, invocation.getArguments()));
 	}
 
 	protected Object invokeFunction(Method method, Object[] args) {
@@ -91,6 +100,44 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 			methodMetadata.getMethodMetadata(method).getFunctionId(), args);
 	}
 
+	/**
+	 * Invokes the Function for the given method asynchronously, returning a {@link ListenableFuture}
+	 * for the result.  If the {@link GemfireFunctionOperations} do not support asynchronous execution,
+	 * the Function is executed synchronously and the outcome is returned as a completed future.
+	 *
+	 * @param method the proxied interface {@link Method} declaring a future return type.
+	 * @param args the arguments passed to the method.
+	 * @return a {@link ListenableFuture} for the Function result.
+	 */
+	protected Object invokeFunctionAsync(Method method, Object[] args) {
+		String functionId = methodMetadata.getMethodMetadata(method).getFunctionId();
+
+		if (this.gemfireFunctionOperations instanceof AsyncGemfireFunctionOperations) {
+			return ((AsyncGemfireFunctionOperations) this.gemfireFunctionOperations).executeAndExtractAsync(
+				functionId, args);
+		}
+
+		try {
+			return new AsyncResult<Object>(this.gemfireFunctionOperations.executeAndExtract(functionId, args));
+		}
+		catch (RuntimeException e) {
+			return AsyncResult.forExecutionException(e);
+		}
+	}
+
+	/**
+	 * Determines whether the given method is executed asynchronously, which is the case when it declares
+	 * a {@link Future} return type that a {@link ListenableFuture} can be assigned to.
+	 *
+	 * @param method the proxied interface {@link Method} to evaluate.
+	 * @return a boolean value indicating whether the Function for the given method is executed asynchronously.
+	 */
+	protected boolean isAsync(Method method) {
+		Class<?> returnType = method.getReturnType();
+
+		return (Future.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(ListenableFuture.class));
+	}
+
 	@Override
 	public Object getObject() throws Exception {
 		if (functionExecutionProxy == null) {
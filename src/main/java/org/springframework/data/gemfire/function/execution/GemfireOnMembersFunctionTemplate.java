@@ -12,17 +12,42 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.data.gemfire.function.execution.ScatterGatherResults.MemberResult;
+import org.springframework.data.gemfire.function.execution.ScatterGatherResults.MemberStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.cache.Cache;
+import com.gemstone.gemfire.cache.CacheFactory;
 import com.gemstone.gemfire.distributed.DistributedMember;
 
 /**
  * @author David Turanski
+ * @author John Blum
  * @see org.springframework.data.gemfire.function.execution.AbstractFunctionTemplate
+ * @see org.springframework.data.gemfire.function.execution.ScatterGatherResults
  * @see com.gemstone.gemfire.distributed.DistributedMember
  */
 public class GemfireOnMembersFunctionTemplate  extends AbstractFunctionTemplate {
 
+	protected static final String SCATTER_GATHER_THREAD_NAME_PREFIX = "gemfire-scatter-gather-";
+
 	private final Set<DistributedMember> distributedMembers;
     private final String[] groups;
 
@@ -50,5 +75,161 @@ public class GemfireOnMembersFunctionTemplate  extends AbstractFunctionTemplate
 
 		return new DistributedMembersFunctionExecution(this.distributedMembers);
 	}
+
+	/**
+	 * Executes the GemFire Function registered with the given ID separately on each targeted member, in parallel
+	 * on a thread per member, and waits at most the given number of milliseconds for all members.  Members that
+	 * fail or do not complete in time do not fail the call; their status is reported in the returned
+	 * {@link ScatterGatherResults} along with the results of the members that completed.
+	 *
+	 * When a member times out, only the local thread waiting for its results is interrupted; GemFire offers
+	 * no means to cancel a Function execution, which keeps running on the member.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param memberTimeout maximum number of milliseconds to wait for the members; must be greater than 0.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return the {@link ScatterGatherResults} of all targeted members.
+	 * @see org.springframework.data.gemfire.function.execution.ScatterGatherResults
+	 */
+	public <T> ScatterGatherResults<T> executeScatterGather(final String functionId, long memberTimeout,
+			final Object... args) {
+
+		Assert.isTrue(memberTimeout > 0, String.format("memberTimeout [%d] must be greater than 0", memberTimeout));
+
+		Set<DistributedMember> members = resolveMembers();
+
+		ScatterGatherResults<T> scatterGatherResults = new ScatterGatherResults<T>();
+
+		if (members.isEmpty()) {
+			return scatterGatherResults;
+		}
+
+		// NOTE a thread per member so that every member is contacted at once and the deadline is the same for all
+		ExecutorService scatterGatherExecutor = Executors.newFixedThreadPool(members.size(),
+			newScatterGatherThreadFactory());
+
+		try {
+			final long startTime = System.currentTimeMillis();
+			long deadline = startTime + memberTimeout;
+
+			Map<DistributedMember, Future<MemberResult<T>>> futures =
+				new LinkedHashMap<DistributedMember, Future<MemberResult<T>>>();
+
+			for (final DistributedMember member : members) {
+				final AbstractFunctionExecution execution = withMetrics(getMemberFunctionExecution(member))
+					.setArgs(args).setFunctionId(functionId).setTimeout(memberTimeout);
+
+				futures.put(member, scatterGatherExecutor.submit(new Callable<MemberResult<T>>() {
+					@Override
+					public MemberResult<T> call() throws Exception {
+						Iterable<T> results = execution.execute();
+						return new MemberResult<T>(member, MemberStatus.COMPLETED, toList(results), null,
+							System.currentTimeMillis() - startTime);
+					}
+				}));
+			}
+
+			for (Map.Entry<DistributedMember, Future<MemberResult<T>>> entry : futures.entrySet()) {
+				scatterGatherResults.add(gather(entry.getKey(), entry.getValue(), startTime, deadline));
+			}
+
+			return scatterGatherResults;
+		}
+		finally {
+			scatterGatherExecutor.shutdownNow();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private CustomizableThreadFactory newScatterGatherThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(SCATTER_GATHER_THREAD_NAME_PREFIX);
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	/**
+	 * Resolves the members targeted by a scatter-gather Function execution: the configured members,
+	 * or this member and all other members returned by {@link Cache#getMembers()}, optionally restricted
+	 * to the configured groups.  {@link Cache#getMembers()} excludes locators and admin members,
+	 * which do not host a cache.
+	 *
+	 * @return the Set of targeted {@link DistributedMember DistributedMembers}.
+	 * @see com.gemstone.gemfire.cache.Cache#getMembers()
+	 */
+	protected Set<DistributedMember> resolveMembers() {
+		if (distributedMembers != null) {
+			return distributedMembers;
+		}
+
+		Cache cache = resolveCache();
+
+		Set<DistributedMember> members = new LinkedHashSet<DistributedMember>();
+
+		members.add(cache.getDistributedSystem().getDistributedMember());
+		members.addAll(cache.getMembers());
+
+		if (groups != null) {
+			Set<DistributedMember> groupMembers = new LinkedHashSet<DistributedMember>();
+
+			for (DistributedMember member : members) {
+				if (!Collections.disjoint(member.getGroups(), Arrays.asList(groups))) {
+					groupMembers.add(member);
+				}
+			}
+
+			return groupMembers;
+		}
+
+		return members;
+	}
+
+	/* (non-Javadoc) */
+	Cache resolveCache() {
+		return CacheFactory.getAnyInstance();
+	}
+
+	/* (non-Javadoc) */
+	AbstractFunctionExecution getMemberFunctionExecution(DistributedMember member) {
+		return new DistributedMemberFunctionExecution(member);
+	}
+
+	/* (non-Javadoc) */
+	private <T> MemberResult<T> gather(DistributedMember member, Future<MemberResult<T>> future, long startTime,
+			long deadline) {
+
+		try {
+			return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException e) {
+			return new MemberResult<T>(member, MemberStatus.FAILED, null, e.getCause(),
+				System.currentTimeMillis() - startTime);
+		}
+		catch (TimeoutException e) {
+			// NOTE interrupts the local thread only; the Function keeps running on the member
+			future.cancel(true);
+			return new MemberResult<T>(member, MemberStatus.TIMED_OUT, null, null,
+				System.currentTimeMillis() - startTime);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			return new MemberResult<T>(member, MemberStatus.FAILED, null, e,
+				System.currentTimeMillis() - startTime);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static <T> List<T> toList(Iterable<T> results) {
+		List<T> list = new ArrayList<T>();
+
+		if (results != null) {
+			for (T result : results) {
+				list.add(result);
+			}
+		}
+
+		return list;
+	}
 	
 }
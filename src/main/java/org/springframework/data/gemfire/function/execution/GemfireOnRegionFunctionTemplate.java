@@ -15,6 +15,7 @@ package org.springframework.data.gemfire.function.execution;
 import java.util.Set;
 
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import com.gemstone.gemfire.cache.Region;
 import com.gemstone.gemfire.cache.execute.Function;
@@ -23,7 +24,8 @@ import com.gemstone.gemfire.cache.execute.Function;
  * @author David Turanski
  *
  */
-public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate implements GemfireOnRegionOperations {
+public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate
+		implements GemfireOnRegionOperations, AsyncGemfireOnRegionOperations {
 
 	private Region<?, ?> region;
 
@@ -56,6 +58,33 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 				.setTimeout(timeout).setArgs(args));
 	}
 
+	@Override
+	public <T> ListenableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args) {
+		return executeAsync(new RegionFunctionExecution(region).setKeys(keys).setFunctionId(functionId)
+				.setArgs(args));
+	}
+
+	@Override
+	public <T> ListenableFuture<T> executeAndExtractAsync(String functionId, Set<?> keys, Object... args) {
+		return executeAndExtractAsync(new RegionFunctionExecution(region).setKeys(keys).setFunctionId(functionId)
+				.setArgs(args));
+	}
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID on the Region entries
+	 * with the given keys, streaming the results to the caller as they arrive.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param keys the keys of the Region entries on which the Function is executed.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link StreamingResultCollector} over the results.
+	 */
+	public <T> StreamingResultCollector<T> executeStreaming(String functionId, Set<?> keys, Object... args) {
+		return executeStreaming(new RegionFunctionExecution(region).setKeys(keys).setFunctionId(functionId)
+				.setArgs(args));
+	}
+
 	@Override
 	protected AbstractFunctionExecution getFunctionExecution() {
 		return new RegionFunctionExecution(this.region);
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.ResultCollector;
+import com.gemstone.gemfire.distributed.DistributedMember;
+
+/**
+ * The ListenableResultCollector class is a GemFire {@link ResultCollector} completing a {@link ListenableFuture}
+ * when GemFire signals the end of the results, so that an asynchronous Function execution does not occupy a thread
+ * waiting for the results.
+ *
+ * Results are either gathered in a {@link List} or, when a {@link ResultCollector} has been configured,
+ * passed on to that collector, whose result then completes the {@link ListenableFuture}.
+ *
+ * @author John Blum
+ * @see org.springframework.util.concurrent.SettableListenableFuture
+ * @see com.gemstone.gemfire.cache.execute.ResultCollector
+ * @since 1.9.0
+ */
+class ListenableResultCollector implements ResultCollector<Object, Iterable<Object>> {
+
+	private final List<Object> results = new ArrayList<Object>();
+
+	private final ResultCollector<Object, ?> delegate;
+
+	private final SettableListenableFuture<Iterable<Object>> future = new SettableListenableFuture<Iterable<Object>>();
+
+	/**
+	 * Constructs an instance of the ListenableResultCollector optionally passing results on to the given
+	 * {@link ResultCollector}.
+	 *
+	 * @param delegate the configured {@link ResultCollector}; may be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	ListenableResultCollector(ResultCollector<?, ?> delegate) {
+		this.delegate = (ResultCollector<Object, ?>) delegate;
+	}
+
+	/**
+	 * Returns the {@link ListenableFuture} completed with the results of the Function execution.
+	 *
+	 * @return the {@link ListenableFuture} for the results.
+	 */
+	ListenableFuture<Iterable<Object>> getFuture() {
+		return future;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#addResult(DistributedMember, Object)
+	 */
+	@Override
+	public void addResult(DistributedMember memberId, Object result) {
+		if (delegate != null) {
+			delegate.addResult(memberId, result);
+		}
+		else {
+			synchronized (results) {
+				results.add(result);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#endResults()
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void endResults() {
+		try {
+			Iterable<Object> collectedResults;
+
+			if (delegate != null) {
+				delegate.endResults();
+				collectedResults = (Iterable<Object>) delegate.getResult();
+			}
+			else {
+				synchronized (results) {
+					collectedResults = new ArrayList<Object>(results);
+				}
+			}
+
+			complete(collectedResults);
+		}
+		catch (RuntimeException e) {
+			fail(e);
+		}
+	}
+
+	/**
+	 * Completes the {@link ListenableFuture} with the given results, unless it has already been completed.
+	 *
+	 * @param results the results of the Function execution; may be {@literal null}.
+	 */
+	void complete(Iterable<Object> results) {
+		future.set(AbstractFunctionExecution.replaceSingletonNullCollectionWithEmptyList(results));
+	}
+
+	/**
+	 * Completes the {@link ListenableFuture} exceptionally, unless it has already been completed.
+	 *
+	 * @param cause the {@link Throwable} causing the Function execution to fail.
+	 */
+	void fail(Throwable cause) {
+		future.setException(cause);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#clearResults()
+	 */
+	@Override
+	public void clearResults() {
+		if (delegate != null) {
+			delegate.clearResults();
+		}
+		else {
+			synchronized (results) {
+				results.clear();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#getResult()
+	 */
+	@Override
+	public Iterable<Object> getResult() throws FunctionException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for the results", e);
+		}
+		catch (ExecutionException e) {
+			throw new FunctionException(e.getCause());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#getResult(long, TimeUnit)
+	 */
+	@Override
+	public Iterable<Object> getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+		try {
+			return future.get(timeout, unit);
+		}
+		catch (ExecutionException e) {
+			throw new FunctionException(e.getCause());
+		}
+		catch (TimeoutException e) {
+			throw new FunctionException(e);
+		}
+	}
+
+}
@@ -16,6 +16,7 @@ import java.lang.reflect.Method;
 import java.util.Set;
 
 import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.scheduling.annotation.AsyncResult;
 
 /**
  * @author David Turanski
@@ -57,4 +58,34 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 			: gemfireOnRegionOperations.execute(functionId, filter, args));
 	}
 
+	@Override
+	protected Object invokeFunctionAsync(Method method, Object[] args) {
+		if (!(getGemfireFunctionOperations() instanceof AsyncGemfireOnRegionOperations)) {
+			try {
+				return new AsyncResult<Object>(invokeFunction(method, args));
+			}
+			catch (RuntimeException e) {
+				return AsyncResult.forExecutionException(e);
+			}
+		}
+
+		AsyncGemfireOnRegionOperations asyncGemfireOnRegionOperations =
+			(AsyncGemfireOnRegionOperations) getGemfireFunctionOperations();
+
+		OnRegionMethodMetadata onRegionMethodMetadata = methodMetadata.getMethodMetadata(method);
+
+		int filterArgPosition = onRegionMethodMetadata.getFilterArgPosition();
+		String functionId = onRegionMethodMetadata.getFunctionId();
+
+		Set<?> filter = null;
+
+		if (filterArgPosition >= 0) {
+			filter = (Set<?>) args[filterArgPosition];
+			args = ArrayUtils.remove(args, filterArgPosition);
+		}
+
+		return (filter == null ? asyncGemfireOnRegionOperations.executeAsync(functionId, args)
+			: asyncGemfireOnRegionOperations.executeAsync(functionId, filter, args));
+	}
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.distributed.DistributedMember;
+
+/**
+ * The ScatterGatherResults class holds the outcome of a Function executed separately on each of a set of members,
+ * each with its own deadline.  The results of the members that completed in time are available even when
+ * other members failed or timed out, along with the status of every member.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.distributed.DistributedMember
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnMembersFunctionTemplate
+ * @since 1.9.0
+ */
+public class ScatterGatherResults<T> {
+
+	private final Map<DistributedMember, MemberResult<T>> memberResults =
+		new LinkedHashMap<DistributedMember, MemberResult<T>>();
+
+	/* (non-Javadoc) */
+	void add(MemberResult<T> memberResult) {
+		memberResults.put(memberResult.getMember(), memberResult);
+	}
+
+	/**
+	 * Returns the results of all members that completed the Function execution, in member order.
+	 *
+	 * @return a List of the results of all completed members.
+	 */
+	public List<T> getResults() {
+		List<T> results = new ArrayList<T>();
+
+		for (MemberResult<T> memberResult : memberResults.values()) {
+			results.addAll(memberResult.getResults());
+		}
+
+		return results;
+	}
+
+	/**
+	 * Returns the outcome of the Function execution on the given member.
+	 *
+	 * @param member the {@link DistributedMember} on which the Function was executed.
+	 * @return the {@link MemberResult} for the given member, or {@literal null} if the Function
+	 * was not executed on the given member.
+	 */
+	public MemberResult<T> getMemberResult(DistributedMember member) {
+		return memberResults.get(member);
+	}
+
+	/**
+	 * Returns the outcome of the Function execution on every member.
+	 *
+	 * @return an unmodifiable Collection of {@link MemberResult MemberResults}.
+	 */
+	public Collection<MemberResult<T>> getMemberResults() {
+		return Collections.unmodifiableCollection(memberResults.values());
+	}
+
+	/**
+	 * Returns the members on which the Function execution ended with the given status.
+	 *
+	 * @param status the {@link MemberStatus} to match.
+	 * @return a List of the {@link DistributedMember DistributedMembers} having the given status.
+	 */
+	public List<DistributedMember> getMembers(MemberStatus status) {
+		List<DistributedMember> members = new ArrayList<DistributedMember>();
+
+		for (MemberResult<T> memberResult : memberResults.values()) {
+			if (memberResult.getStatus() == status) {
+				members.add(memberResult.getMember());
+			}
+		}
+
+		return members;
+	}
+
+	/**
+	 * Determines whether the Function execution completed on every member.
+	 *
+	 * @return a boolean value indicating whether no member failed or timed out.
+	 */
+	public boolean isComplete() {
+		for (MemberResult<T> memberResult : memberResults.values()) {
+			if (memberResult.getStatus() != MemberStatus.COMPLETED) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * The outcome of a Function execution on a single member.
+	 */
+	public enum MemberStatus {
+		COMPLETED,
+		FAILED,
+		TIMED_OUT
+	}
+
+	/**
+	 * The results, status and elapsed time of a Function execution on a single member.
+	 */
+	public static final class MemberResult<T> {
+
+		private final DistributedMember member;
+
+		private final List<T> results;
+
+		private final long elapsedTime;
+
+		private final MemberStatus status;
+
+		private final Throwable cause;
+
+		MemberResult(DistributedMember member, MemberStatus status, List<T> results, Throwable cause,
+				long elapsedTime) {
+
+			Assert.notNull(member, "member must not be null");
+			Assert.notNull(status, "status must not be null");
+			this.member = member;
+			this.status = status;
+			this.results = (results != null ? results : Collections.<T>emptyList());
+			this.cause = cause;
+			this.elapsedTime = elapsedTime;
+		}
+
+		public DistributedMember getMember() {
+			return member;
+		}
+
+		public MemberStatus getStatus() {
+			return status;
+		}
+
+		/**
+		 * Returns the results of the member; empty unless the status is {@link MemberStatus#COMPLETED}.
+		 *
+		 * @return a List of the results of the member.
+		 */
+		public List<T> getResults() {
+			return results;
+		}
+
+		/**
+		 * Returns the reason the Function execution failed on the member.
+		 *
+		 * @return the {@link Throwable} causing the failure, or {@literal null} if the member did not fail.
+		 */
+		public Throwable getCause() {
+			return cause;
+		}
+
+		/**
+		 * Returns the number of milliseconds elapsed before the member completed, failed or timed out.
+		 *
+		 * @return the elapsed time in milliseconds.
+		 */
+		public long getElapsedTime() {
+			return elapsedTime;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ member = %1$s, status = %2$s, results = %3$d, elapsedTime = %4$d ms }",
+				member, status, results.size(), elapsedTime);
+		}
+	}
+
+}
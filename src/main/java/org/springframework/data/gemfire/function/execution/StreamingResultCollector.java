@@ -0,0 +1,338 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.ResultCollector;
+import com.gemstone.gemfire.distributed.DistributedMember;
+
+/**
+ * The StreamingResultCollector class is a GemFire {@link ResultCollector} that hands Function results to
+ * a consumer as they arrive rather than buffering all results until the Function execution completes.
+ *
+ * Results are held in a bounded buffer.  When the buffer is full, {@link #addResult(DistributedMember, Object)}
+ * blocks the thread delivering results until the consumer catches up, which applies backpressure to the
+ * Function execution.  Consequently, the Function must be executed on a different thread than the one
+ * consuming the results; see {@link AsyncGemfireFunctionOperations#executeStreaming(String, Object...)}.
+ *
+ * By default, chunks sent by a batching Function ({@link java.util.Collection Collections} and Object arrays)
+ * are unwrapped so that the consumer iterates the individual elements.
+ *
+ * The results may be iterated only once, by a single consumer.  Consumers that stop iterating early
+ * should {@link #close()} the collector so that the Function execution is not blocked indefinitely.
+ *
+ * @author John Blum
+ * @see java.lang.Iterable
+ * @see com.gemstone.gemfire.cache.execute.ResultCollector
+ * @since 1.9.0
+ */
+public class StreamingResultCollector<T> implements ResultCollector<Object, Iterable<T>>, Iterable<T>, Closeable {
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	protected static final Object END_OF_RESULTS = new Object();
+
+	protected static final Object NULL_RESULT = new Object();
+
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	private final AtomicBoolean iterated = new AtomicBoolean(false);
+
+	private final BlockingQueue<Object> results;
+
+	private volatile boolean unwrapChunks = true;
+
+	private volatile long timeout;
+
+	/**
+	 * Constructs an instance of the StreamingResultCollector with the {@link #DEFAULT_CAPACITY default capacity}.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an instance of the StreamingResultCollector buffering at most the given number of results.
+	 *
+	 * @param capacity maximum number of results buffered before the Function execution is blocked;
+	 * must be greater than 0.
+	 * @throws IllegalArgumentException if capacity is less than 1.
+	 */
+	public StreamingResultCollector(int capacity) {
+		Assert.isTrue(capacity > 0, String.format("capacity [%d] must be greater than 0", capacity));
+		this.results = new ArrayBlockingQueue<Object>(capacity);
+	}
+
+	/**
+	 * Sets the maximum number of milliseconds the consumer waits for the next result; 0 waits indefinitely.
+	 *
+	 * @param timeout the maximum number of milliseconds to wait for the next result.
+	 */
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Returns the maximum number of milliseconds the consumer waits for the next result.
+	 *
+	 * @return the maximum number of milliseconds to wait for the next result; 0 waits indefinitely.
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Sets whether chunks ({@link java.util.Collection Collections} and Object arrays) received from the Function
+	 * are unwrapped into their individual elements.  Defaults to {@literal true}.
+	 *
+	 * @param unwrapChunks boolean value indicating whether chunks are unwrapped.
+	 */
+	public void setUnwrapChunks(boolean unwrapChunks) {
+		this.unwrapChunks = unwrapChunks;
+	}
+
+	/**
+	 * Determines whether chunks received from the Function are unwrapped into their individual elements.
+	 *
+	 * @return a boolean value indicating whether chunks are unwrapped.
+	 */
+	public boolean isUnwrapChunks() {
+		return unwrapChunks;
+	}
+
+	/**
+	 * Determines whether this collector has been closed by the consumer.
+	 *
+	 * @return a boolean value indicating whether this collector has been closed.
+	 */
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	/**
+	 * Returns the number of results currently buffered and not yet consumed.
+	 *
+	 * @return an integer value indicating the number of buffered results.
+	 */
+	public int getBufferedCount() {
+		return results.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#addResult(DistributedMember, Object)
+	 */
+	@Override
+	public void addResult(DistributedMember memberId, Object result) {
+		if (unwrapChunks && result instanceof Iterable && !(result instanceof Map)) {
+			for (Object element : (Iterable<?>) result) {
+				put(element);
+			}
+		}
+		else if (unwrapChunks && result instanceof Object[]) {
+			for (Object element : (Object[]) result) {
+				put(element);
+			}
+		}
+		else {
+			put(result);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#endResults()
+	 */
+	@Override
+	public void endResults() {
+		put(END_OF_RESULTS);
+	}
+
+	/**
+	 * Signals the consumer that the Function execution failed.  The consumer receives the failure,
+	 * wrapped in a {@link FunctionException}, after all results buffered so far.
+	 *
+	 * @param cause the {@link Throwable} causing the Function execution to fail.
+	 */
+	public void fail(Throwable cause) {
+		put(new Failure(cause));
+	}
+
+	/**
+	 * Clears all buffered results that have not yet been consumed.  Results already handed to the consumer
+	 * cannot be recalled; consumers of Functions that are re-executed on failure (HA) must tolerate duplicates.
+	 *
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#clearResults()
+	 */
+	@Override
+	public void clearResults() {
+		results.clear();
+	}
+
+	/**
+	 * Closes this collector, discarding all buffered and subsequently delivered results
+	 * and unblocking the Function execution.
+	 */
+	@Override
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			results.clear();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#getResult()
+	 */
+	@Override
+	public Iterable<T> getResult() throws FunctionException {
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.ResultCollector#getResult(long, TimeUnit)
+	 */
+	@Override
+	public Iterable<T> getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+		setTimeout(unit.toMillis(timeout));
+		return this;
+	}
+
+	/**
+	 * Returns an {@link Iterator} over the results, blocking in {@link Iterator#hasNext()} until the next
+	 * result arrives, the Function execution ends or the timeout expires.
+	 *
+	 * @return an {@link Iterator} over the results.
+	 * @throws IllegalStateException if the results have already been iterated.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		Assert.state(iterated.compareAndSet(false, true), "The streamed results may only be iterated once");
+		return new StreamingIterator();
+	}
+
+	/* (non-Javadoc) */
+	private void put(Object result) {
+		Object element = (result != null ? result : NULL_RESULT);
+
+		try {
+			while (!isClosed()) {
+				if (results.offer(element, 100, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for the consumer of the streamed results", e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Object take() {
+		try {
+			long timeout = getTimeout();
+
+			Object result = (timeout > 0 ? results.poll(timeout, TimeUnit.MILLISECONDS) : results.take());
+
+			if (result == null) {
+				throw new FunctionException(String.format("Timed out after %1$d ms waiting for the next result",
+					timeout));
+			}
+
+			return result;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for the next result", e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static final class Failure {
+
+		private final Throwable cause;
+
+		Failure(Throwable cause) {
+			this.cause = cause;
+		}
+	}
+
+	/* (non-Javadoc) */
+	private final class StreamingIterator implements Iterator<T> {
+
+		private boolean done;
+
+		private Object next;
+
+		@Override
+		public boolean hasNext() {
+			if (done) {
+				return false;
+			}
+
+			if (next == null) {
+				next = take();
+			}
+
+			if (next == END_OF_RESULTS) {
+				done = true;
+				next = null;
+			}
+			else if (next instanceof Failure) {
+				Throwable cause = ((Failure) next).cause;
+
+				done = true;
+				next = null;
+
+				throw (cause instanceof FunctionException ? (FunctionException) cause
+					: new FunctionException(String.format("Function execution failed: %1$s",
+						ObjectUtils.nullSafeToString(cause.getMessage())), cause));
+			}
+
+			return !done;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more results");
+			}
+
+			Object result = next;
+
+			next = null;
+
+			return (result == NULL_RESULT ? null : (T) result);
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("Streamed results cannot be removed");
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.List;
+
+import com.gemstone.gemfire.cache.query.CqEvent;
+
+/**
+ * Continuous Query (CQ) listener receiving CQ events in batches.  When batching is enabled on the
+ * {@link ContinuousQueryListenerContainer}, events are accumulated and delivered to {@link #onEvents(List)}
+ * once the configured batch size is reached or the configured maximum delay has elapsed.  Otherwise,
+ * events are delivered one at a time to {@link #onEvent(CqEvent)}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer#setBatchSize(int)
+ * @see com.gemstone.gemfire.cache.query.CqEvent
+ * @since 1.9.0
+ */
+public interface BatchingContinuousQueryListener extends ContinuousQueryListener {
+
+	/**
+	 * Action performed by the listener when notified of a batch of CQ events.
+	 *
+	 * @param events the events from the CQ, in the order they were received.
+	 * @see com.gemstone.gemfire.cache.query.CqEvent
+	 */
+	void onEvents(List<CqEvent> events);
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * The BoundedTaskExecutor class is a Spring {@link TaskExecutor} backed by a fixed number of worker threads
+ * and a bounded work queue, applying a configurable {@link RejectionPolicy} to provide backpressure when the queue
+ * is full.  In addition, the executor records queue depth, queue latency and processing time metrics.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ThreadPoolExecutor
+ * @see org.springframework.core.task.TaskExecutor
+ * @since 1.9.0
+ */
+public class BoundedTaskExecutor implements TaskExecutor, DisposableBean {
+
+	public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+	public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+	private final AtomicLong completedCount = new AtomicLong(0L);
+	private final AtomicLong droppedCount = new AtomicLong(0L);
+	private final AtomicLong maxQueueLatency = new AtomicLong(0L);
+	private final AtomicLong rejectedCount = new AtomicLong(0L);
+	private final AtomicLong submittedCount = new AtomicLong(0L);
+	private final AtomicLong totalProcessingTime = new AtomicLong(0L);
+	private final AtomicLong totalQueueLatency = new AtomicLong(0L);
+
+	private final BlockingQueue<Runnable> queue;
+
+	private final RejectionPolicy rejectionPolicy;
+
+	private final ThreadPoolExecutor threadPoolExecutor;
+
+	/**
+	 * Constructs an instance of the BoundedTaskExecutor with the given Thread name prefix and the default pool size,
+	 * queue capacity and {@link RejectionPolicy}.
+	 *
+	 * @param threadNamePrefix {@link String} prefix for the names of the worker threads.
+	 * @see #BoundedTaskExecutor(String, int, int, RejectionPolicy)
+	 */
+	public BoundedTaskExecutor(String threadNamePrefix) {
+		this(threadNamePrefix, DEFAULT_POOL_SIZE, DEFAULT_QUEUE_CAPACITY, RejectionPolicy.DEFAULT);
+	}
+
+	/**
+	 * Constructs an instance of the BoundedTaskExecutor.
+	 *
+	 * @param threadNamePrefix {@link String} prefix for the names of the worker threads.
+	 * @param poolSize number of worker threads; must be greater than 0.
+	 * @param queueCapacity maximum number of tasks waiting to be run; must be greater than 0.
+	 * @param rejectionPolicy {@link RejectionPolicy} applied when the queue is full;
+	 * defaults to {@link RejectionPolicy#BLOCK} if {@literal null}.
+	 * @throws IllegalArgumentException if pool size or queue capacity is less than 1.
+	 */
+	public BoundedTaskExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+			RejectionPolicy rejectionPolicy) {
+
+		Assert.isTrue(poolSize > 0, String.format("poolSize [%d] must be greater than 0", poolSize));
+		Assert.isTrue(queueCapacity > 0, String.format("queueCapacity [%d] must be greater than 0", queueCapacity));
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+
+		threadFactory.setDaemon(true);
+
+		this.queue = new ArrayBlockingQueue<Runnable>(queueCapacity);
+		this.rejectionPolicy = (rejectionPolicy != null ? rejectionPolicy : RejectionPolicy.DEFAULT);
+		this.threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			this.queue, threadFactory, new BackpressureHandler());
+	}
+
+	/**
+	 * Submits the given task to run on one of the worker threads.  If the queue is full, the configured
+	 * {@link RejectionPolicy} determines whether the caller blocks, runs the task itself or whether the oldest
+	 * queued task is dropped.
+	 *
+	 * @param task {@link Runnable} task to run.
+	 * @see org.springframework.core.task.TaskExecutor#execute(Runnable)
+	 */
+	@Override
+	public void execute(Runnable task) {
+		submittedCount.incrementAndGet();
+		threadPoolExecutor.execute(new TimedTask(task));
+	}
+
+	/**
+	 * Shuts down the worker threads after all queued tasks have been processed.
+	 *
+	 * @throws Exception if shutdown fails.
+	 * @see java.util.concurrent.ThreadPoolExecutor#shutdown()
+	 */
+	@Override
+	public void destroy() throws Exception {
+		threadPoolExecutor.shutdown();
+	}
+
+	/**
+	 * Returns the number of worker threads currently running tasks.
+	 *
+	 * @return an integer value indicating the number of active worker threads.
+	 */
+	public int getActiveCount() {
+		return threadPoolExecutor.getActiveCount();
+	}
+
+	/**
+	 * Returns the average time, in nanoseconds, tasks spent running on a worker thread.
+	 *
+	 * @return a long value indicating the average processing time in nanoseconds.
+	 */
+	public long getAverageProcessingTime() {
+		long completed = getCompletedCount();
+		return (completed > 0 ? totalProcessingTime.get() / completed : 0L);
+	}
+
+	/**
+	 * Returns the average time, in nanoseconds, tasks spent waiting in the queue before running.
+	 *
+	 * @return a long value indicating the average queue latency in nanoseconds.
+	 */
+	public long getAverageQueueLatency() {
+		long completed = getCompletedCount();
+		return (completed > 0 ? totalQueueLatency.get() / completed : 0L);
+	}
+
+	/**
+	 * Returns the number of tasks that ran to completion, successfully or otherwise.
+	 *
+	 * @return a long value indicating the number of completed tasks.
+	 */
+	public long getCompletedCount() {
+		return completedCount.get();
+	}
+
+	/**
+	 * Returns the number of queued tasks discarded by the {@link RejectionPolicy#DROP_OLDEST} policy.
+	 *
+	 * @return a long value indicating the number of dropped tasks.
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * Returns the maximum time, in nanoseconds, any task spent waiting in the queue before running.
+	 *
+	 * @return a long value indicating the maximum queue latency in nanoseconds.
+	 */
+	public long getMaxQueueLatency() {
+		return maxQueueLatency.get();
+	}
+
+	/**
+	 * Returns the number of worker threads.
+	 *
+	 * @return an integer value indicating the number of worker threads.
+	 */
+	public int getPoolSize() {
+		return threadPoolExecutor.getCorePoolSize();
+	}
+
+	/**
+	 * Returns the maximum number of tasks that can wait in the queue.
+	 *
+	 * @return an integer value indicating the capacity of the queue.
+	 */
+	public int getQueueCapacity() {
+		return (queue.size() + queue.remainingCapacity());
+	}
+
+	/**
+	 * Returns the number of tasks currently waiting in the queue.
+	 *
+	 * @return an integer value indicating the current queue depth.
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Returns the number of times the queue was full and the {@link RejectionPolicy} was applied.
+	 *
+	 * @return a long value indicating the number of times backpressure was applied.
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * Returns the {@link RejectionPolicy} applied when the queue is full.
+	 *
+	 * @return the {@link RejectionPolicy} applied when the queue is full.
+	 */
+	public RejectionPolicy getRejectionPolicy() {
+		return rejectionPolicy;
+	}
+
+	/**
+	 * Returns the number of tasks submitted to this executor.
+	 *
+	 * @return a long value indicating the number of submitted tasks.
+	 */
+	public long getSubmittedCount() {
+		return submittedCount.get();
+	}
+
+	/* (non-Javadoc) */
+	private void recordMaxQueueLatency(long queueLatency) {
+		long currentMaxQueueLatency = maxQueueLatency.get();
+
+		while (queueLatency > currentMaxQueueLatency
+				&& !maxQueueLatency.compareAndSet(currentMaxQueueLatency, queueLatency)) {
+			currentMaxQueueLatency = maxQueueLatency.get();
+		}
+	}
+
+	/**
+	 * The RejectionPolicy enum defines the backpressure strategies applied when the queue is full.
+	 */
+	public enum RejectionPolicy {
+		BLOCK,
+		CALLER_RUNS,
+		DROP_OLDEST;
+
+		public static final RejectionPolicy DEFAULT = BLOCK;
+	}
+
+	/* (non-Javadoc) */
+	private final class BackpressureHandler implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+			if (executor.isShutdown()) {
+				throw new RejectedExecutionException(String.format(
+					"Task [%s] rejected; the executor has been shutdown", task));
+			}
+
+			rejectedCount.incrementAndGet();
+
+			switch (rejectionPolicy) {
+				case CALLER_RUNS:
+					task.run();
+					break;
+				case DROP_OLDEST:
+					if (executor.getQueue().poll() != null) {
+						droppedCount.incrementAndGet();
+					}
+
+					executor.execute(task);
+					break;
+				case BLOCK:
+				default:
+					try {
+						executor.getQueue().put(task);
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new RejectedExecutionException(String.format(
+							"Interrupted while waiting to queue task [%s]", task), e);
+					}
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private final class TimedTask implements Runnable {
+
+		private final long queuedTime = System.nanoTime();
+
+		private final Runnable delegate;
+
+		private TimedTask(Runnable delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void run() {
+			long startTime = System.nanoTime();
+			long queueLatency = (startTime - queuedTime);
+
+			totalQueueLatency.addAndGet(queueLatency);
+			recordMaxQueueLatency(queueLatency);
+
+			try {
+				delegate.run();
+			}
+			finally {
+				totalProcessingTime.addAndGet(System.nanoTime() - startTime);
+				completedCount.incrementAndGet();
+			}
+		}
+	}
+
+}
@@ -16,11 +16,17 @@
 
 package org.springframework.data.gemfire.listener;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -38,6 +44,7 @@ import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.client.support.DefaultableDelegatingPoolAdapter;
 import org.springframework.data.gemfire.client.support.DelegatingPoolAdapter;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ErrorHandler;
@@ -81,14 +88,26 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	public static final String DEFAULT_THREAD_NAME_PREFIX = String.format("%1$s-", ClassUtils.getShortName(
 		ContinuousQueryListenerContainer.class));
 
+	// Default maximum time, in milliseconds, a CQ event is held in a batch before the batch is delivered.
+	public static final long DEFAULT_BATCH_MAX_DELAY = 100L;
+
 	private boolean autoStartup = true;
 
+	private boolean dispatchOrderedByKey = false;
+
 	private volatile boolean initialized = false;
 	private volatile boolean manageExecutor = false;
 	private volatile boolean running = false;
 
+	private int batchSize = 0;
+	private int dispatchPoolSize = 0;
+	private int dispatchQueueCapacity = BoundedTaskExecutor.DEFAULT_QUEUE_CAPACITY;
 	private int phase = Integer.MAX_VALUE;
 
+	private BoundedTaskExecutor.RejectionPolicy dispatchRejectionPolicy = BoundedTaskExecutor.RejectionPolicy.DEFAULT;
+
+	private long batchMaxDelay = DEFAULT_BATCH_MAX_DELAY;
+
 	private BeanFactory beanFactory;
 
 	private ErrorHandler errorHandler;
@@ -99,6 +118,10 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private Queue<CqQuery> continuousQueries = new ConcurrentLinkedQueue<CqQuery>();
 
+	private Queue<EventBatch> eventBatches = new ConcurrentLinkedQueue<EventBatch>();
+
+	private ScheduledExecutorService batchFlushScheduler;
+
 	private QueryService queryService;
 
 	private Set<ContinuousQueryDefinition> continuousQueryDefinitions = new LinkedHashSet<ContinuousQueryDefinition>();
@@ -165,20 +188,43 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			manageExecutor = true;
 		}
 
+		if (isBatching() && batchMaxDelay > 0 && batchFlushScheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(String.format("%1$sbatch-",
+				(beanName != null ? String.format("%1$s-", beanName) : DEFAULT_THREAD_NAME_PREFIX)));
+
+			threadFactory.setDaemon(true);
+			batchFlushScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+
 		return taskExecutor;
 	}
 
 	/**
 	 * Creates a default TaskExecutor. Called if no explicit TaskExecutor has been configured.
-	 * <p>The default implementation builds a {@link org.springframework.core.task.SimpleAsyncTaskExecutor}
-	 * with the specified bean name (or the class name, if no bean name is specified) as thread name prefix.</p>
+	 * <p>When a dispatch pool size has been configured, the default implementation builds
+	 * a {@link BoundedTaskExecutor} with a fixed number of worker threads and a bounded queue, or,
+	 * when dispatch ordered by key is enabled, a {@link KeyOrderedTaskExecutor} with one single-threaded lane
+	 * per worker.  Otherwise,
+	 * a {@link org.springframework.core.task.SimpleAsyncTaskExecutor} is used.  In either case, the specified
+	 * bean name (or the class name, if no bean name is specified) is used as thread name prefix.</p>
 	 *
 	 * @return an instance of the TaskExecutor used to process CQ events asynchronously.
 	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor#SimpleAsyncTaskExecutor(String)
+	 * @see org.springframework.data.gemfire.listener.BoundedTaskExecutor
+	 * @see org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor
+	 * @see #setDispatchPoolSize(int)
+	 * @see #setDispatchOrderedByKey(boolean)
 	 */
 	protected TaskExecutor createDefaultTaskExecutor() {
-		return new SimpleAsyncTaskExecutor(beanName != null ? String.format("%1$s-", beanName)
-			: DEFAULT_THREAD_NAME_PREFIX);
+		String threadNamePrefix = (beanName != null ? String.format("%1$s-", beanName) : DEFAULT_THREAD_NAME_PREFIX);
+
+		if (dispatchPoolSize > 0) {
+			return (dispatchOrderedByKey ? new KeyOrderedTaskExecutor(threadNamePrefix, dispatchPoolSize,
+				dispatchQueueCapacity, dispatchRejectionPolicy) : new BoundedTaskExecutor(threadNamePrefix,
+					dispatchPoolSize, dispatchQueueCapacity, dispatchRejectionPolicy));
+		}
+
+		return new SimpleAsyncTaskExecutor(threadNamePrefix);
 	}
 
 	private void initContinuousQueries(Set<ContinuousQueryDefinition> continuousQueryDefinitions) {
@@ -233,6 +279,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			running = false;
 		}
 
+		flushEventBatches();
+
 		if (logger.isDebugEnabled()) {
 			logger.debug("Stopped ContinuousQueryListenerContainer");
 		}
@@ -275,9 +323,21 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 
 		continuousQueries.clear();
+		eventBatches.clear();
+	}
+
+	private void flushEventBatches() {
+		for (EventBatch eventBatch : eventBatches) {
+			eventBatch.flush();
+		}
 	}
 
 	private void destroyExecutor() throws Exception {
+		if (batchFlushScheduler != null) {
+			batchFlushScheduler.shutdownNow();
+			batchFlushScheduler = null;
+		}
+
 		if (manageExecutor) {
 			if (taskExecutor instanceof DisposableBean) {
 				((DisposableBean) taskExecutor).destroy();
@@ -360,6 +420,88 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		setQueryService(cache.getQueryService());
 	}
 
+	/**
+	 * Sets the maximum time, in milliseconds, a CQ event is held in a batch before the batch is delivered
+	 * to the {@link BatchingContinuousQueryListener}, even if the batch size has not been reached.
+	 * Defaults to {@link #DEFAULT_BATCH_MAX_DELAY}.  A value of 0 disables time-based delivery.
+	 *
+	 * @param batchMaxDelay the maximum delay, in milliseconds, before a partial batch is delivered.
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchMaxDelay(long batchMaxDelay) {
+		this.batchMaxDelay = batchMaxDelay;
+	}
+
+	/**
+	 * Sets the number of CQ events accumulated before being delivered as a batch to listeners implementing
+	 * {@link BatchingContinuousQueryListener}.  A value greater than 1 enables batching; listeners that do not
+	 * implement {@link BatchingContinuousQueryListener} continue to receive CQ events one at a time.
+	 *
+	 * @param batchSize the maximum number of CQ events per batch.
+	 * @see org.springframework.data.gemfire.listener.BatchingContinuousQueryListener
+	 * @see #setBatchMaxDelay(long)
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Determines whether CQ events are delivered in batches to {@link BatchingContinuousQueryListener}s.
+	 *
+	 * @return a boolean value indicating whether CQ event batching is enabled.
+	 * @see #setBatchSize(int)
+	 */
+	protected boolean isBatching() {
+		return (batchSize > 1);
+	}
+
+	/**
+	 * Sets whether CQ events for the same key are dispatched in order.  When enabled along with a dispatch
+	 * pool size, each CQ event is hashed by {@link CqEvent#getKey()} onto one of {@literal dispatchPoolSize}
+	 * single-threaded lanes, preserving per-key ordering while still processing events for different keys
+	 * in parallel.
+	 *
+	 * @param dispatchOrderedByKey a boolean value indicating whether CQ events are dispatched in order per key.
+	 * @see org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor
+	 * @see #setDispatchPoolSize(int)
+	 */
+	public void setDispatchOrderedByKey(boolean dispatchOrderedByKey) {
+		this.dispatchOrderedByKey = dispatchOrderedByKey;
+	}
+
+	/**
+	 * Sets the number of worker threads used to dispatch CQ events when no explicit Task Executor has been
+	 * configured.  A value greater than 0 enables the built-in {@link BoundedTaskExecutor} in place of
+	 * the thread-per-event {@link SimpleAsyncTaskExecutor}.
+	 *
+	 * @param dispatchPoolSize the number of worker threads used to dispatch CQ events.
+	 * @see org.springframework.data.gemfire.listener.BoundedTaskExecutor
+	 */
+	public void setDispatchPoolSize(int dispatchPoolSize) {
+		this.dispatchPoolSize = dispatchPoolSize;
+	}
+
+	/**
+	 * Sets the maximum number of CQ events waiting to be dispatched by the built-in {@link BoundedTaskExecutor}.
+	 *
+	 * @param dispatchQueueCapacity the capacity of the CQ event dispatch queue.
+	 * @see #setDispatchPoolSize(int)
+	 */
+	public void setDispatchQueueCapacity(int dispatchQueueCapacity) {
+		this.dispatchQueueCapacity = dispatchQueueCapacity;
+	}
+
+	/**
+	 * Sets the backpressure policy applied by the built-in {@link BoundedTaskExecutor} when the CQ event
+	 * dispatch queue is full.  Defaults to {@link BoundedTaskExecutor.RejectionPolicy#BLOCK}.
+	 *
+	 * @param dispatchRejectionPolicy the {@link BoundedTaskExecutor.RejectionPolicy} applied when the queue is full.
+	 * @see #setDispatchPoolSize(int)
+	 */
+	public void setDispatchRejectionPolicy(BoundedTaskExecutor.RejectionPolicy dispatchRejectionPolicy) {
+		this.dispatchRejectionPolicy = dispatchRejectionPolicy;
+	}
+
 	/**
 	 * Set an ErrorHandler to be invoked in case of any uncaught exceptions thrown while processing a CQ event.
 	 * By default there will be <b>no</b> ErrorHandler so that error-level logging is the only result.
@@ -432,6 +574,17 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Returns the Task Executor used for running the event listeners.
+	 *
+	 * @return the {@link Executor} used to run event listeners, or {@literal null} if this container
+	 * has not been initialized and no Task Executor was configured.
+	 * @see java.util.concurrent.Executor
+	 */
+	public Executor getTaskExecutor() {
+		return taskExecutor;
+	}
+
 	/**
 	 * Adds a Continuous Query (CQ) definition to the (potentially running) container. If the container is running,
 	 * the listener starts receiving (matching) messages as soon as possible.
@@ -456,7 +609,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		try {
 			CqAttributesFactory continuousQueryAttributesFactory = new CqAttributesFactory();
 
-			continuousQueryAttributesFactory.addCqListener(new EventDispatcherAdapter(definition.getListener()));
+			continuousQueryAttributesFactory.addCqListener(newEventDispatcherAdapter(definition.getListener()));
 
 			CqAttributes continuousQueryAttributes = continuousQueryAttributesFactory.create();
 
@@ -477,11 +630,34 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	}
 
 	private void dispatchEvent(final ContinuousQueryListener listener, final CqEvent event) {
-		taskExecutor.execute(new Runnable() {
+		Runnable task = new Runnable() {
 			public void run() {
 				executeListener(listener, event);
 			}
-		});
+		};
+
+		if (taskExecutor instanceof KeyOrderedTaskExecutor) {
+			((KeyOrderedTaskExecutor) taskExecutor).execute(event.getKey(), task);
+		}
+		else {
+			taskExecutor.execute(task);
+		}
+	}
+
+	private void dispatchEvents(final BatchingContinuousQueryListener listener, final List<CqEvent> events) {
+		Runnable task = new Runnable() {
+			public void run() {
+				executeListener(listener, events);
+			}
+		};
+
+		if (taskExecutor instanceof KeyOrderedTaskExecutor) {
+			// NOTE batches span keys; keep the batches of a single listener in order instead
+			((KeyOrderedTaskExecutor) taskExecutor).execute(listener, task);
+		}
+		else {
+			taskExecutor.execute(task);
+		}
 	}
 
 	/**
@@ -500,6 +676,22 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Execute the specified batching listener with a batch of CQ events.
+	 *
+	 * @param listener the BatchingContinuousQueryListener to notify of the CQ events.
+	 * @param events the batch of CQ events.
+	 * @see #handleListenerException(Throwable)
+	 */
+	protected void executeListener(BatchingContinuousQueryListener listener, List<CqEvent> events) {
+		try {
+			listener.onEvents(events);
+		}
+		catch (Throwable ex) {
+			handleListenerException(ex);
+		}
+	}
+
 	/**
 	 * Handle the given exception that arose during listener execution.
 	 * <p>The default implementation logs the exception at error level.
@@ -535,6 +727,16 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	private CqListener newEventDispatcherAdapter(ContinuousQueryListener listener) {
+		if (isBatching() && listener instanceof BatchingContinuousQueryListener) {
+			EventBatch eventBatch = new EventBatch((BatchingContinuousQueryListener) listener);
+			eventBatches.add(eventBatch);
+			return new BatchingEventDispatcherAdapter(eventBatch);
+		}
+
+		return new EventDispatcherAdapter(listener);
+	}
+
 	private class EventDispatcherAdapter implements CqListener {
 
 		private final ContinuousQueryListener delegate;
@@ -555,4 +757,117 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	private class BatchingEventDispatcherAdapter implements CqListener {
+
+		private final EventBatch eventBatch;
+
+		private BatchingEventDispatcherAdapter(final EventBatch eventBatch) {
+			this.eventBatch = eventBatch;
+		}
+
+		public void onError(CqEvent event) {
+			eventBatch.add(event);
+		}
+
+		public void onEvent(CqEvent event) {
+			eventBatch.add(event);
+		}
+
+		public void close() {
+			eventBatch.flush();
+		}
+	}
+
+	/**
+	 * Accumulates CQ events for a {@link BatchingContinuousQueryListener}, dispatching the batch when it is full
+	 * or when the maximum batch delay has elapsed since the first event was added.
+	 *
+	 * Full batches are queued in the order they were swapped out and a single thread at a time drains the queue,
+	 * so batches are submitted to the {@link TaskExecutor} in order even when a size flush races a timer flush.
+	 */
+	class EventBatch {
+
+		private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+		private final BatchingContinuousQueryListener listener;
+
+		private List<CqEvent> events;
+
+		private long generation = 0L;
+
+		private final Queue<List<CqEvent>> pendingBatches = new ConcurrentLinkedQueue<List<CqEvent>>();
+
+		EventBatch(final BatchingContinuousQueryListener listener) {
+			this.listener = listener;
+			this.events = new ArrayList<CqEvent>(batchSize);
+		}
+
+		void add(final CqEvent event) {
+			synchronized (this) {
+				events.add(event);
+
+				if (events.size() >= batchSize) {
+					swapEvents();
+				}
+				else if (events.size() == 1 && batchFlushScheduler != null) {
+					final long scheduledGeneration = generation;
+
+					batchFlushScheduler.schedule(new Runnable() {
+						public void run() {
+							flush(scheduledGeneration);
+						}
+					}, batchMaxDelay, TimeUnit.MILLISECONDS);
+				}
+			}
+
+			dispatch();
+		}
+
+		void flush() {
+			synchronized (this) {
+				swapEvents();
+			}
+
+			dispatch();
+		}
+
+		/* flushes the batch only if it has not already been flushed since the timer was scheduled */
+		void flush(final long expectedGeneration) {
+			synchronized (this) {
+				if (generation == expectedGeneration) {
+					swapEvents();
+				}
+			}
+
+			dispatch();
+		}
+
+		/* queues the accumulated events and starts a new batch; must be called while holding this batch's monitor */
+		private void swapEvents() {
+			if (!events.isEmpty()) {
+				pendingBatches.offer(events);
+				events = new ArrayList<CqEvent>(batchSize);
+				generation++;
+			}
+		}
+
+		/*
+		 * dispatches queued batches in order outside of this batch's monitor so a saturated TaskExecutor
+		 * does not block adding events; a thread finding another thread dispatching leaves its batch
+		 * to that thread, which re-checks the queue before giving up the dispatcher role
+		 */
+		private void dispatch() {
+			while (!pendingBatches.isEmpty() && dispatching.compareAndSet(false, true)) {
+				try {
+					for (List<CqEvent> batch = pendingBatches.poll(); batch != null; batch = pendingBatches.poll()) {
+						dispatchEvents(listener, batch);
+					}
+				}
+				finally {
+					dispatching.set(false);
+				}
+			}
+		}
+	}
+
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * The KeyOrderedTaskExecutor class is a Spring {@link TaskExecutor} that hashes a key onto one of N single-threaded
+ * lanes, thereby guaranteeing that tasks for the same key run in the order they were submitted while tasks
+ * for different keys run in parallel.
+ *
+ * Each lane is a single-threaded {@link BoundedTaskExecutor} with its own bounded queue.  The
+ * {@link BoundedTaskExecutor.RejectionPolicy#CALLER_RUNS} policy is not supported since it would allow a task
+ * to overtake tasks queued earlier for the same key.
+ *
+ * @author John Blum
+ * @see org.springframework.core.task.TaskExecutor
+ * @see org.springframework.data.gemfire.listener.BoundedTaskExecutor
+ * @since 1.9.0
+ */
+public class KeyOrderedTaskExecutor implements TaskExecutor, DisposableBean {
+
+	private final AtomicInteger unkeyedLaneIndex = new AtomicInteger(0);
+
+	private final BoundedTaskExecutor[] lanes;
+
+	/**
+	 * Constructs an instance of the KeyOrderedTaskExecutor.
+	 *
+	 * @param threadNamePrefix {@link String} prefix for the names of the lane threads.
+	 * @param laneCount number of single-threaded lanes; must be greater than 0.
+	 * @param queueCapacity maximum number of tasks waiting to be run per lane; must be greater than 0.
+	 * @param rejectionPolicy {@link BoundedTaskExecutor.RejectionPolicy} applied when a lane's queue is full;
+	 * defaults to {@link BoundedTaskExecutor.RejectionPolicy#BLOCK} if {@literal null}.
+	 * @throws IllegalArgumentException if lane count or queue capacity is less than 1, or the rejection policy
+	 * is {@link BoundedTaskExecutor.RejectionPolicy#CALLER_RUNS}.
+	 */
+	public KeyOrderedTaskExecutor(String threadNamePrefix, int laneCount, int queueCapacity,
+			BoundedTaskExecutor.RejectionPolicy rejectionPolicy) {
+
+		Assert.isTrue(laneCount > 0, String.format("laneCount [%d] must be greater than 0", laneCount));
+		Assert.isTrue(!BoundedTaskExecutor.RejectionPolicy.CALLER_RUNS.equals(rejectionPolicy),
+			"The CALLER_RUNS rejection policy does not preserve per-key ordering");
+
+		this.lanes = new BoundedTaskExecutor[laneCount];
+
+		for (int index = 0; index < laneCount; index++) {
+			this.lanes[index] = new BoundedTaskExecutor(String.format("%1$slane-%2$d-", threadNamePrefix, index),
+				1, queueCapacity, rejectionPolicy);
+		}
+	}
+
+	/**
+	 * Runs the given task on the lane determined by the given key.  Tasks submitted with equal keys
+	 * run sequentially, in submission order.
+	 *
+	 * @param key the key determining the lane on which the task runs; may be {@literal null}.
+	 * @param task {@link Runnable} task to run.
+	 */
+	public void execute(Object key, Runnable task) {
+		lanes[laneFor(key)].execute(task);
+	}
+
+	/**
+	 * Runs the given task, which is not associated with any key, on the next lane in round-robin order.
+	 *
+	 * @param task {@link Runnable} task to run.
+	 * @see org.springframework.core.task.TaskExecutor#execute(Runnable)
+	 */
+	@Override
+	public void execute(Runnable task) {
+		lanes[(unkeyedLaneIndex.getAndIncrement() & Integer.MAX_VALUE) % lanes.length].execute(task);
+	}
+
+	/**
+	 * Shuts down all lanes after their queued tasks have been processed.
+	 *
+	 * @throws Exception if shutdown fails.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		for (BoundedTaskExecutor lane : lanes) {
+			lane.destroy();
+		}
+	}
+
+	/**
+	 * Returns the lane at the given index, for instance to inspect its metrics.
+	 *
+	 * @param index index of the lane.
+	 * @return the {@link BoundedTaskExecutor} backing the lane at the given index.
+	 */
+	public BoundedTaskExecutor getLane(int index) {
+		return lanes[index];
+	}
+
+	/**
+	 * Returns the number of single-threaded lanes.
+	 *
+	 * @return an integer value indicating the number of lanes.
+	 */
+	public int getLaneCount() {
+		return lanes.length;
+	}
+
+	/**
+	 * Returns the total number of tasks currently waiting across all lanes.
+	 *
+	 * @return an integer value indicating the total queue depth.
+	 */
+	public int getQueueDepth() {
+		int queueDepth = 0;
+
+		for (BoundedTaskExecutor lane : lanes) {
+			queueDepth += lane.getQueueDepth();
+		}
+
+		return queueDepth;
+	}
+
+	/**
+	 * Determines the index of the lane for the given key.
+	 *
+	 * @param key the key to hash; may be {@literal null}.
+	 * @return the index of the lane for the given key.
+	 */
+	int laneFor(Object key) {
+		if (key == null) {
+			return 0;
+		}
+
+		int hash = key.hashCode();
+
+		// spread the higher bits since keys often differ only in their upper hash bits
+		hash ^= (hash >>> 16);
+
+		return ((hash & Integer.MAX_VALUE) % lanes.length);
+	}
+
+}
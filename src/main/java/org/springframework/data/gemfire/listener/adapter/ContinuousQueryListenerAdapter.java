@@ -20,12 +20,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.listener.BatchingContinuousQueryListener;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
 import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
 import org.springframework.util.Assert;
@@ -66,19 +69,30 @@ import com.gemstone.gemfire.cache.query.CqQuery;
  *    void handleEvent(CqEvent event, Operation baseOp, Operation queryOp, Object key, Object newValue);
  * }</pre>
  *
+ * <p>When CQ event batching is enabled on the container, the listener method may instead accept
+ * a single {@link List}, {@link Collection} or {@link Iterable} parameter, in which case it is passed
+ * the whole batch of {@link CqEvent CqEvents}.  Otherwise, each event in the batch is delivered
+ * to the listener method individually.</p>
+ *
+ * <pre class="code">public interface BatchingPojoListener {
+ *    void handleEvent(List&lt;CqEvent&gt; events);
+ * }</pre>
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @author Oliver Gierke
  * @author John Blum
  */
-public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
+public class ContinuousQueryListenerAdapter implements BatchingContinuousQueryListener, InitializingBean {
 
 	// Out-of-the-box value for the default listener handler method "handleEvent".
 	public static final String DEFAULT_LISTENER_METHOD_NAME = "handleEvent";
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
-	private MethodInvoker invoker;
+	private volatile MethodInvoker invoker;
+
+	private volatile BatchMethodHolder batchMethodHolder;
 
 	private Object delegate;
 
@@ -113,6 +127,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		Assert.notNull(delegate, "'delegate' must not be null");
 		this.delegate = delegate;
 		this.invoker = null;
+		this.batchMethodHolder = null;
 	}
 
 	/**
@@ -134,6 +149,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	public void setDefaultListenerMethod(String defaultListenerMethod) {
 		this.defaultListenerMethod = defaultListenerMethod;
 		this.invoker = null;
+		this.batchMethodHolder = null;
 	}
 
 	/**
@@ -145,6 +161,33 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		return this.defaultListenerMethod;
 	}
 
+	/**
+	 * Binds the default listener method of the delegate, and the argument extraction for each of its parameters,
+	 * once on startup rather than on the first CQ event.  Binding failures are deferred until the first CQ event
+	 * so that a listener method name resolved dynamically by {@link #getListenerMethodName(CqEvent)}
+	 * is still supported.
+	 *
+	 * @see #getDefaultListenerMethod()
+	 */
+	public void afterPropertiesSet() {
+		Object localDelegate = this.delegate;
+		String methodName = getDefaultListenerMethod();
+
+		if (localDelegate != this && !(localDelegate instanceof ContinuousQueryListener) && methodName != null
+				&& resolveBatchListenerMethod(methodName) == null) {
+
+			try {
+				this.invoker = new MethodInvoker(localDelegate, methodName);
+			}
+			catch (IllegalArgumentException e) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Unable to bind listener method [%1$s] on startup: %2$s",
+						methodName, e.getMessage()));
+				}
+			}
+		}
+	}
+
 	/**
 	 * Standard {@link ContinuousQueryListener} entry point.
 	 * <p>Delegates the event to the target listener method, with appropriate
@@ -171,14 +214,117 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 						+ " or override the 'getListenerMethodName' method.");
 				}
 
-				invoker = (invoker != null ? invoker : new MethodInvoker(delegate, methodName));
+				invokeListenerMethod(event, methodName, resolveInvoker(methodName));
+			}
 
-				invokeListenerMethod(event, methodName);
+		}
+		catch (Throwable cause) {
+			handleListenerException(cause);
+		}
+	}
+
+	/**
+	 * {@link BatchingContinuousQueryListener} entry point.
+	 * <p>Delegates the batch of events to the delegate if it is a {@link BatchingContinuousQueryListener}
+	 * itself, or to a target listener method accepting a {@link Collection} of events, if present.
+	 * Otherwise, each event is delegated individually by way of {@link #onEvent(CqEvent)}.</p>
+	 *
+	 * @param events the incoming batch of GemFire events
+	 * @see #onEvent(CqEvent)
+	 */
+	public void onEvents(List<CqEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+
+		try {
+			if (delegate != this && delegate instanceof BatchingContinuousQueryListener) {
+				((BatchingContinuousQueryListener) delegate).onEvents(events);
+				return;
 			}
+			else if (delegate == this || !(delegate instanceof ContinuousQueryListener)) {
+				String methodName = getListenerMethodName(events.get(0));
+				Method batchMethod = resolveBatchListenerMethod(methodName);
 
+				if (batchMethod != null) {
+					invokeBatchListenerMethod(batchMethod, events);
+					return;
+				}
+			}
 		}
 		catch (Throwable cause) {
 			handleListenerException(cause);
+			return;
+		}
+
+		for (CqEvent event : events) {
+			onEvent(event);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Method resolveBatchListenerMethod(final String methodName) {
+		BatchMethodHolder localBatchMethodHolder = this.batchMethodHolder;
+
+		if (localBatchMethodHolder == null || !localBatchMethodHolder.isFor(methodName)) {
+			final List<Method> batchMethods = new ArrayList<Method>(1);
+
+			if (methodName != null) {
+				ReflectionUtils.doWithMethods(delegate.getClass(), new MethodCallback() {
+					public void doWith(Method method) throws IllegalArgumentException, IllegalAccessException {
+						ReflectionUtils.makeAccessible(method);
+						batchMethods.add(method);
+					}
+				}, new MethodFilter() {
+					public boolean matches(Method method) {
+						return isValidBatchMethodSignature(method, methodName);
+					}
+				});
+			}
+
+			localBatchMethodHolder = new BatchMethodHolder(methodName,
+				(batchMethods.isEmpty() ? null : batchMethods.get(0)));
+
+			this.batchMethodHolder = localBatchMethodHolder;
+		}
+
+		return localBatchMethodHolder.method;
+	}
+
+	/* (non-Javadoc) */
+	boolean isValidBatchMethodSignature(Method method, String methodName) {
+		if (Modifier.isPublic(method.getModifiers()) && methodName.equals(method.getName())) {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			return (parameterTypes.length == 1 && !Object.class.equals(parameterTypes[0])
+				&& parameterTypes[0].isAssignableFrom(List.class));
+		}
+
+		return false;
+	}
+
+	/**
+	 * Invoke the specified batch listener method.
+	 *
+	 * @param method the batch listener method to invoke
+	 * @param events the batch of events to be passed in
+	 */
+	protected void invokeBatchListenerMethod(Method method, List<CqEvent> events) {
+		try {
+			method.invoke(delegate, events);
+		}
+		catch (InvocationTargetException e) {
+			if (e.getTargetException() instanceof DataAccessException) {
+				throw (DataAccessException) e.getTargetException();
+			}
+			else {
+				throw new GemfireListenerExecutionFailedException(String.format(
+					"Listener method [%1$s] threw Exception...", method.getName()), e.getTargetException());
+			}
+		}
+		catch (Throwable e) {
+			throw new GemfireListenerExecutionFailedException(String.format(
+				"Failed to invoke the target listener method [%1$s]", method.getName()), e);
 		}
 	}
 
@@ -212,6 +358,24 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 * @see #getListenerMethodName
 	 */
 	protected void invokeListenerMethod(CqEvent event, String methodName) {
+		invokeListenerMethod(event, methodName, resolveInvoker(methodName));
+	}
+
+	/* (non-Javadoc) */
+	private MethodInvoker resolveInvoker(String methodName) {
+		Object localDelegate = this.delegate;
+		MethodInvoker localInvoker = this.invoker;
+
+		if (localInvoker == null || !localInvoker.isFor(localDelegate, methodName)) {
+			localInvoker = new MethodInvoker(localDelegate, methodName);
+			this.invoker = localInvoker;
+		}
+
+		return localInvoker;
+	}
+
+	/* invokes the listener method with the given invoker, unaffected by concurrent changes to the cached invoker */
+	private void invokeListenerMethod(CqEvent event, String methodName, MethodInvoker invoker) {
 		try {
 			invoker.invoke(event);
 		}
@@ -230,17 +394,130 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
-	private class MethodInvoker {
+	private static final class BatchMethodHolder {
+
+		private final Method method;
+
+		private final String methodName;
+
+		private BatchMethodHolder(String methodName, Method method) {
+			this.methodName = methodName;
+			this.method = method;
+		}
+
+		private boolean isFor(String methodName) {
+			return (this.methodName == null ? methodName == null : this.methodName.equals(methodName));
+		}
+	}
+
+	/**
+	 * Strategy extracting a single listener method argument from a {@link CqEvent}, resolved once per method
+	 * parameter when the listener method is bound.
+	 */
+	enum ArgumentExtractor {
+
+		BASE_OPERATION {
+			@Override Object extract(CqEvent event) {
+				return event.getBaseOperation();
+			}
+		},
+
+		CQ {
+			@Override Object extract(CqEvent event) {
+				return event.getCq();
+			}
+		},
+
+		DELTA_VALUE {
+			@Override Object extract(CqEvent event) {
+				return event.getDeltaValue();
+			}
+		},
+
+		EVENT {
+			@Override Object extract(CqEvent event) {
+				return event;
+			}
+		},
+
+		KEY {
+			@Override Object extract(CqEvent event) {
+				return event.getKey();
+			}
+		},
+
+		NEW_VALUE {
+			@Override Object extract(CqEvent event) {
+				return event.getNewValue();
+			}
+		},
+
+		QUERY_OPERATION {
+			@Override Object extract(CqEvent event) {
+				return event.getQueryOperation();
+			}
+		},
+
+		THROWABLE {
+			@Override Object extract(CqEvent event) {
+				return event.getThrowable();
+			}
+		};
+
+		abstract Object extract(CqEvent event);
+
+		/* resolves the extractors for the given parameter types; the first Object parameter is the key and
+		 * the second the new value; the first Operation parameter is the base operation and the second
+		 * the query operation */
+		static ArgumentExtractor[] resolve(Class<?>[] parameterTypes) {
+			ArgumentExtractor[] extractors = new ArgumentExtractor[parameterTypes.length];
+
+			boolean query = false;
+			boolean value = false;
+
+			for (int index = 0; index < parameterTypes.length; index++) {
+				Class<?> parameterType = parameterTypes[index];
+
+				if (Object.class.equals(parameterType)) {
+					extractors[index] = (value ? NEW_VALUE : KEY);
+					value = true;
+				}
+				else if (Operation.class.equals(parameterType)) {
+					extractors[index] = (query ? QUERY_OPERATION : BASE_OPERATION);
+					query = true;
+				}
+				else if (byte[].class.equals(parameterType)) {
+					extractors[index] = DELTA_VALUE;
+				}
+				else if (CqEvent.class.equals(parameterType)) {
+					extractors[index] = EVENT;
+				}
+				else if (CqQuery.class.equals(parameterType)) {
+					extractors[index] = CQ;
+				}
+				else if (Throwable.class.equals(parameterType)) {
+					extractors[index] = THROWABLE;
+				}
+			}
+
+			return extractors;
+		}
+	}
+
+	private static final class MethodInvoker {
+
+		private final ArgumentExtractor[][] argumentExtractors;
+
+		private final Method[] methods;
 
 		private final Object delegate;
 
-		List<Method> methods;
+		private final String methodName;
 
 		MethodInvoker(Object delegate, final String methodName) {
 			Class<?> c = delegate.getClass();
 
-			this.delegate = delegate;
-			methods = new ArrayList<Method>();
+			final List<Method> methods = new ArrayList<Method>();
 
 			ReflectionUtils.doWithMethods(c, new MethodCallback() {
 					public void doWith(Method method) throws IllegalArgumentException, IllegalAccessException {
@@ -256,10 +533,19 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			Assert.isTrue(!methods.isEmpty(), String.format(
 				"Cannot find a suitable method named [%1$s#%2$s] - is the method public and does it have the proper arguments?",
 					c.getName(), methodName));
+
+			this.delegate = delegate;
+			this.methodName = methodName;
+			this.methods = methods.toArray(new Method[methods.size()]);
+			this.argumentExtractors = new ArgumentExtractor[this.methods.length][];
+
+			for (int index = 0; index < this.methods.length; index++) {
+				this.argumentExtractors[index] = ArgumentExtractor.resolve(this.methods[index].getParameterTypes());
+			}
 		}
 
 		@SuppressWarnings("all")
-		boolean isValidEventMethodSignature(Method method, String methodName) {
+		static boolean isValidEventMethodSignature(Method method, String methodName) {
 			if (Modifier.isPublic(method.getModifiers()) && methodName.equals(method.getName())) {
 				Class<?>[] parameterTypes = method.getParameterTypes();
 
@@ -298,42 +584,21 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			return false;
 		}
 
+		boolean isFor(Object delegate, String methodName) {
+			return (this.delegate == delegate && this.methodName.equals(methodName));
+		}
+
 		void invoke(CqEvent event) throws InvocationTargetException, IllegalAccessException {
-			for (Method method : methods) {
-				method.invoke(delegate, getMethodArguments(method, event));
+			for (int index = 0; index < methods.length; index++) {
+				methods[index].invoke(delegate, getMethodArguments(argumentExtractors[index], event));
 			}
 		}
 
-		Object[] getMethodArguments(Method method, CqEvent event) {
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			Object[] args = new Object[parameterTypes.length];
-
-			boolean query = false;
-			boolean value = false;
-
-			for (int index = 0; index < parameterTypes.length; index++) {
-				Class<?> parameterType = parameterTypes[index];
+		Object[] getMethodArguments(ArgumentExtractor[] extractors, CqEvent event) {
+			Object[] args = new Object[extractors.length];
 
-				if (Object.class.equals(parameterType)) {
-					args[index] = (value ? event.getNewValue() : event.getKey());
-					value = true;
-				}
-				else if (Operation.class.equals(parameterType)) {
-					args[index] = (query ? event.getQueryOperation() : event.getBaseOperation());
-					query = true;
-				}
-				else if (byte[].class.equals(parameterType)) {
-					args[index] = event.getDeltaValue();
-				}
-				else if (CqEvent.class.equals(parameterType)) {
-					args[index] = event;
-				}
-				else if (CqQuery.class.equals(parameterType)) {
-					args[index] = event.getCq();
-				}
-				else if (Throwable.class.equals(parameterType)) {
-					args[index] = event.getThrowable();
-				}
+			for (int index = 0; index < extractors.length; index++) {
+				args[index] = extractors[index].extract(event);
 			}
 
 			return args;
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.gemstone.gemfire.pdx.PdxReader;
+import com.gemstone.gemfire.pdx.PdxSerializer;
+import com.gemstone.gemfire.pdx.PdxWriter;
+
+/**
+ * The EntityPdxSerializer class is a {@link PdxSerializer} specialized for a single {@link GemfirePersistentEntity}.
+ *
+ * All meta-data required to (de)serialize the entity is taken from the entity's {@link PdxSerializationPlan},
+ * which is resolved once per entity type.  Primitive properties are written and read with the typed {@link PdxWriter}
+ * and {@link PdxReader} methods and the {@link ConversionService} is only consulted when the value read from PDX
+ * is not assignable to the property type.  Property values are accessed through the entity's
+ * {@link PersistentPropertyAccessor}, which Spring Data generates as bytecode when the entity type allows it.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+ * @see com.gemstone.gemfire.pdx.PdxSerializer
+ * @since 1.9.0
+ */
+class EntityPdxSerializer implements PdxSerializer {
+
+	private final ConversionService conversionService;
+
+	private final PdxSerializationPlan plan;
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	/**
+	 * Constructs an instance of the EntityPdxSerializer with the given {@link PdxSerializationPlan}.
+	 *
+	 * @param plan the {@link PdxSerializationPlan} of the entity to (de)serialize.
+	 * @param conversionService {@link ConversionService} used to convert values read from PDX that are not
+	 * assignable to the property type.
+	 */
+	EntityPdxSerializer(final PdxSerializationPlan plan, final ConversionService conversionService) {
+		Assert.notNull(plan, "PdxSerializationPlan must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.plan = plan;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} (de)serialized by this serializer.
+	 *
+	 * @return the {@link GemfirePersistentEntity} (de)serialized by this serializer.
+	 */
+	GemfirePersistentEntity<?> getEntity() {
+		return plan.getEntity();
+	}
+
+	/**
+	 * Returns the {@link PdxSerializationPlan} used by this serializer.
+	 *
+	 * @return the {@link PdxSerializationPlan} used by this serializer.
+	 */
+	PdxSerializationPlan getPlan() {
+		return plan;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.pdx.PdxSerializer#fromData(java.lang.Class, com.gemstone.gemfire.pdx.PdxReader)
+	 */
+	@Override
+	public Object fromData(final Class<?> type, final PdxReader reader) {
+		GemfirePersistentEntity<?> entity = plan.getEntity();
+
+		Object instance = plan.getInstantiator().createInstance(entity,
+			new PersistentEntityParameterValueProvider<GemfirePersistentProperty>(entity,
+				new GemfirePropertyValueProvider(reader), null));
+
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
+		PersistentPropertyAccessor convertingAccessor = null;
+
+		boolean debug = log.isDebugEnabled();
+
+		for (int index = 0, count = plan.getPropertyCount(); index < count; index++) {
+			if (!plan.isConstructorArgument(index)) {
+				GemfirePersistentProperty property = plan.getProperty(index);
+				PdxSerializer customSerializer = plan.getCustomSerializer(index);
+
+				Object value = null;
+
+				try {
+					value = (customSerializer != null ? customSerializer.fromData(property.getType(), reader)
+						: property.getPdxFieldType().read(reader, property.getName()));
+
+					if (debug) {
+						log.debug(String.format(
+							"set property [%1$s] to value [%2$s] for entity [%3$s] of type [%4$s] from PDX%5$s",
+								property.getName(), value, instance, type, describe(customSerializer)));
+					}
+
+					if (value == null || ClassUtils.isAssignableValue(property.getType(), value)) {
+						accessor.setProperty(property, value);
+					}
+					else {
+						convertingAccessor = (convertingAccessor != null ? convertingAccessor
+							: new ConvertingPropertyAccessor(accessor, conversionService));
+
+						convertingAccessor.setProperty(property, value);
+					}
+				}
+				catch (Exception e) {
+					throw new MappingException(String.format(
+						"while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
+							value, property.getName(), type, describe(customSerializer)), e);
+				}
+			}
+		}
+
+		return accessor.getBean();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.pdx.PdxSerializer#toData(java.lang.Object, com.gemstone.gemfire.pdx.PdxWriter)
+	 */
+	@Override
+	public boolean toData(final Object value, final PdxWriter writer) {
+		PersistentPropertyAccessor accessor = plan.getEntity().getPropertyAccessor(value);
+
+		boolean debug = log.isDebugEnabled();
+
+		for (int index = 0, count = plan.getPropertyCount(); index < count; index++) {
+			GemfirePersistentProperty property = plan.getProperty(index);
+			PdxSerializer customSerializer = plan.getCustomSerializer(index);
+
+			Object propertyValue = null;
+
+			try {
+				propertyValue = accessor.getProperty(property);
+
+				if (debug) {
+					log.debug(String.format(
+						"serializing value [%1$s] of property [%2$s] for entity of type [%3$s] to PDX%4$s",
+							propertyValue, property.getName(), value.getClass(), describe(customSerializer)));
+				}
+
+				if (customSerializer != null) {
+					customSerializer.toData(propertyValue, writer);
+				}
+				else {
+					property.getPdxFieldType().write(writer, property.getName(), propertyValue, property.getType());
+				}
+			}
+			catch (Exception e) {
+				throw new MappingException(String.format(
+					"while serializing value [%1$s] of property [%2$s] for entity of type [%3$s] to PDX%4$s",
+						propertyValue, property.getName(), value.getClass(),
+							(customSerializer != null ? String.format(" using custom PdxSerializer [%1$s].",
+								customSerializer.getClass().getName()) : ".")), e);
+			}
+		}
+
+		String identityFieldName = plan.getIdentityFieldName();
+
+		if (identityFieldName != null) {
+			writer.markIdentityField(identityFieldName);
+		}
+
+		return true;
+	}
+
+	/* (non-Javadoc) */
+	private String describe(PdxSerializer customSerializer) {
+		return (customSerializer != null ? String.format(" using custom PdxSerializer [%1$s]", customSerializer) : "");
+	}
+
+}
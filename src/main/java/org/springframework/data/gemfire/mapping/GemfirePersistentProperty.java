@@ -29,9 +29,12 @@ import org.springframework.data.mapping.model.SimpleTypeHolder;
  * {@link PersistentProperty} implementation to for Gemfire related metadata.
  * 
  * @author Oliver Gierke
+ * @author John Blum
  */
 public class GemfirePersistentProperty extends AnnotationBasedPersistentProperty<GemfirePersistentProperty> {
 
+	private volatile PdxFieldType pdxFieldType;
+
 	/* (non-Javadoc) */
 	private static SimpleTypeHolder resolveSimpleTypeHolder(SimpleTypeHolder source) {
 		return (source instanceof GemfireSimpleTypeHolder ? source
@@ -61,4 +64,22 @@ public class GemfirePersistentProperty extends AnnotationBasedPersistentProperty
 	protected Association<GemfirePersistentProperty> createAssociation() {
 		return new Association<GemfirePersistentProperty>(this, null);
 	}
+
+	/**
+	 * Returns the strategy used to read and write this property's value from and to PDX.  The strategy is resolved
+	 * from the property's type on first use and cached.
+	 *
+	 * @return the {@link PdxFieldType} for this persistent property.
+	 * @see org.springframework.data.gemfire.mapping.PdxFieldType
+	 */
+	PdxFieldType getPdxFieldType() {
+		PdxFieldType pdxFieldType = this.pdxFieldType;
+
+		if (pdxFieldType == null) {
+			pdxFieldType = PdxFieldType.from(getType());
+			this.pdxFieldType = pdxFieldType;
+		}
+
+		return pdxFieldType;
+	}
 }
@@ -17,6 +17,8 @@ package org.springframework.data.gemfire.mapping;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,11 +30,6 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.mapping.PersistentEntity;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PropertyHandler;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
-import org.springframework.data.mapping.model.MappingException;
-import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
 import org.springframework.data.mapping.model.SpELContext;
 import org.springframework.util.Assert;
 
@@ -52,8 +49,7 @@ import com.gemstone.gemfire.pdx.PdxWriter;
  * @see org.springframework.core.convert.ConversionService
  * @see org.springframework.data.convert.EntityInstantiator
  * @see org.springframework.data.mapping.PersistentEntity
- * @see org.springframework.data.mapping.PersistentPropertyAccessor
- * @see org.springframework.data.mapping.model.PersistentEntityParameterValueProvider
+ * @see org.springframework.data.gemfire.mapping.EntityPdxSerializer
  * @see org.springframework.data.mapping.model.SpELContext
  * @see com.gemstone.gemfire.pdx.PdxReader
  * @see com.gemstone.gemfire.pdx.PdxSerializer
@@ -61,6 +57,9 @@ import com.gemstone.gemfire.pdx.PdxWriter;
  */
 public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAware {
 
+	private final ConcurrentMap<Class<?>, EntityPdxSerializer> entitySerializers =
+		new ConcurrentHashMap<Class<?>, EntityPdxSerializer>();
+
 	private final ConversionService conversionService;
 
 	private EntityInstantiators instantiators;
@@ -124,6 +123,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	public void setCustomSerializers(Map<Class<?>, PdxSerializer> customSerializers) {
 		Assert.notNull(customSerializers);
 		this.customSerializers = customSerializers;
+		this.entitySerializers.clear();
 	}
 
 	/* (non-Javadoc) */
@@ -139,6 +139,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	public void setGemfireInstantiators(Map<Class<?>, EntityInstantiator> gemfireInstantiators) {
 		Assert.notNull(gemfireInstantiators);
 		this.instantiators = new EntityInstantiators(gemfireInstantiators);
+		this.entitySerializers.clear();
 	}
 
 	/* (non-Javadoc) */
@@ -159,50 +160,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 */
 	@Override
 	public Object fromData(final Class<?> type, final PdxReader reader) {
-		final GemfirePersistentEntity<?> entity = getPersistentEntity(type);
-
-		final Object instance = getInstantiatorFor(entity).createInstance(entity,
-			new PersistentEntityParameterValueProvider<GemfirePersistentProperty>(entity,
-				new GemfirePropertyValueProvider(reader), null));
-
-		final PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance),
-			getConversionService());
-
-		entity.doWithProperties(new PropertyHandler<GemfirePersistentProperty>() {
-			public void doWithPersistentProperty(GemfirePersistentProperty persistentProperty) {
-				if (!entity.isConstructorArgument(persistentProperty)) {
-					PdxSerializer customSerializer = getCustomSerializer(persistentProperty.getType());
-
-					Object value = null;
-
-					try {
-						if (log.isDebugEnabled()) {
-							log.debug(String.format("setting property [%1$s] for entity [%2$s] of type [%3$s] from PDX%4$s",
-								persistentProperty.getName(), instance, type, (customSerializer != null ?
-									String.format(" using custom PdxSerializer [%1$s]", customSerializer) : "")));
-						}
-
-						value = (customSerializer != null
-							? customSerializer.fromData(persistentProperty.getType(), reader)
-							: reader.readField(persistentProperty.getName()));
-
-						if (log.isDebugEnabled()) {
-							log.debug(String.format("with value [%1$s]", value));
-						}
-
-						accessor.setProperty(persistentProperty, value);
-					}
-					catch (Exception e) {
-						throw new MappingException(String.format(
-							"while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
-								value, persistentProperty.getName(), type, (customSerializer != null ?
-									String.format(" using custom PdxSerializer [%14s]", customSerializer) : "")), e);
-					}
-				}
-			}
-		});
-
-		return accessor.getBean();
+		return getEntitySerializer(type).fromData(type, reader);
 	}
 
 	/*
@@ -213,52 +171,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 */
 	@Override
 	public boolean toData(final Object value, final PdxWriter writer) {
-		GemfirePersistentEntity<?> entity = getPersistentEntity(value.getClass());
-
-		final PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(value),
-				getConversionService());
-
-		entity.doWithProperties(new PropertyHandler<GemfirePersistentProperty>() {
-			@Override
-			@SuppressWarnings("unchecked")
-			public void doWithPersistentProperty(GemfirePersistentProperty persistentProperty) {
-				PdxSerializer customSerializer = getCustomSerializer(persistentProperty.getType());
-
-				Object propertyValue = null;
-
-				try {
-					propertyValue = accessor.getProperty(persistentProperty);
-
-					if (log.isDebugEnabled()) {
-						log.debug(String.format("serializing value [%1$s] of property [%2$s] for entity of type [%3$s] to PDX%4$s",
-							propertyValue, persistentProperty.getName(), value.getClass(), (customSerializer != null ?
-								String.format(" using custom PdxSerializer [%1$s]", customSerializer) : "")));
-					}
-
-					if (customSerializer != null) {
-						customSerializer.toData(propertyValue, writer);
-					}
-					else {
-						writer.writeField(persistentProperty.getName(), propertyValue, (Class) persistentProperty.getType());
-					} 
-				}
-				catch (Exception e) {
-					throw new MappingException(String.format(
-						"while serializing value [%1$s] of property [%2$s] for entity of type [%3$s] to PDX%4$s",
-							propertyValue, persistentProperty.getName(), value.getClass(),
-								(customSerializer != null ? String.format(" using custom PdxSerializer [%1$s].",
-									customSerializer.getClass().getName()) : ".")), e);
-				}
-			}
-		});
-
-		GemfirePersistentProperty idProperty = entity.getIdProperty();
-
-		if (idProperty != null) {
-			writer.markIdentityField(idProperty.getName());
-		}
-
-		return true;
+		return getEntitySerializer(value.getClass()).toData(value, writer);
 	}
 
 	/**
@@ -274,6 +187,39 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return getCustomSerializers().get(type);
 	}
 
+	/**
+	 * Looks up or creates the {@link PdxSerializer} specialized for the given entity class type.  The specialized
+	 * serializer, along with its {@link PdxSerializationPlan}, is created once per entity type and cached.
+	 *
+	 * @param entityType the Class type of the persistent entity to (de)serialize.
+	 * @return the {@link EntityPdxSerializer} for the given entity class type.
+	 * @see org.springframework.data.gemfire.mapping.EntityPdxSerializer
+	 */
+	EntityPdxSerializer getEntitySerializer(Class<?> entityType) {
+		EntityPdxSerializer entitySerializer = entitySerializers.get(entityType);
+
+		if (entitySerializer == null) {
+			EntityPdxSerializer newEntitySerializer = new EntityPdxSerializer(
+				new PdxSerializationPlan(getPersistentEntity(entityType), this), getConversionService());
+
+			entitySerializer = entitySerializers.putIfAbsent(entityType, newEntitySerializer);
+			entitySerializer = (entitySerializer != null ? entitySerializer : newEntitySerializer);
+		}
+
+		return entitySerializer;
+	}
+
+	/**
+	 * Returns the cached {@link PdxSerializationPlan} for the given entity class type, resolving it on first use.
+	 *
+	 * @param entityType the Class type of the persistent entity to (de)serialize.
+	 * @return the {@link PdxSerializationPlan} for the given entity class type.
+	 * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+	 */
+	PdxSerializationPlan getSerializationPlan(Class<?> entityType) {
+		return getEntitySerializer(entityType).getPlan();
+	}
+
 	/**
 	 * Looks up and returns an EntityInstantiator to construct and initialize an instance of the object defined
 	 * by the given PersistentEntity (meta-data).
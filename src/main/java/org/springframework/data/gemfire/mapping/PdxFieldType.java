@@ -0,0 +1,188 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import com.gemstone.gemfire.pdx.PdxReader;
+import com.gemstone.gemfire.pdx.PdxWriter;
+
+/**
+ * The PdxFieldType enum maps a persistent property type onto the typed {@link PdxWriter} and {@link PdxReader}
+ * methods.  Only primitive types are mapped onto typed methods; all other types, including the primitive
+ * wrapper types, continue to be written with {@link PdxWriter#writeField(String, Object, Class)} so that
+ * the PDX type of existing entities does not change and {@literal null} values remain representable.
+ *
+ * Note, values still cross this enum as {@link Object Objects}, since the
+ * {@link org.springframework.data.mapping.PersistentPropertyAccessor} gets and sets boxed property values,
+ * so primitive values are boxed on write and on read.  The typed methods avoid the runtime type dispatch of
+ * {@link PdxWriter#writeField(String, Object, Class)} and {@link PdxReader#readField(String)}; they do not
+ * avoid the boxing allocation.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentProperty#getPdxFieldType()
+ * @see com.gemstone.gemfire.pdx.PdxReader
+ * @see com.gemstone.gemfire.pdx.PdxWriter
+ * @since 1.9.0
+ */
+enum PdxFieldType {
+
+	BOOLEAN {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readBoolean(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeBoolean(name, (Boolean) value);
+		}
+	},
+
+	BYTE {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readByte(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeByte(name, ((Number) value).byteValue());
+		}
+	},
+
+	CHAR {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readChar(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeChar(name, (Character) value);
+		}
+	},
+
+	DOUBLE {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readDouble(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeDouble(name, ((Number) value).doubleValue());
+		}
+	},
+
+	FLOAT {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readFloat(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeFloat(name, ((Number) value).floatValue());
+		}
+	},
+
+	INT {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readInt(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeInt(name, ((Number) value).intValue());
+		}
+	},
+
+	LONG {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readLong(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeLong(name, ((Number) value).longValue());
+		}
+	},
+
+	SHORT {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readShort(name);
+		}
+
+		@Override void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeShort(name, ((Number) value).shortValue());
+		}
+	},
+
+	OBJECT {
+		@Override Object read(PdxReader reader, String name) {
+			return reader.readField(name);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		void write(PdxWriter writer, String name, Object value, Class<?> type) {
+			writer.writeField(name, value, (Class) type);
+		}
+	};
+
+	/**
+	 * Reads the value of the named field from PDX.
+	 *
+	 * @param reader the {@link PdxReader} to read from.
+	 * @param name the name of the PDX field.
+	 * @return the value of the named field.
+	 */
+	abstract Object read(PdxReader reader, String name);
+
+	/**
+	 * Writes the given value of the named field to PDX.
+	 *
+	 * @param writer the {@link PdxWriter} to write to.
+	 * @param name the name of the PDX field.
+	 * @param value the value to write.
+	 * @param type the declared type of the persistent property.
+	 */
+	abstract void write(PdxWriter writer, String name, Object value, Class<?> type);
+
+	/**
+	 * Resolves the PdxFieldType for the given persistent property type.
+	 *
+	 * @param type the declared type of the persistent property.
+	 * @return the PdxFieldType for the given type; {@link #OBJECT} for all non-primitive types.
+	 */
+	static PdxFieldType from(Class<?> type) {
+		if (boolean.class.equals(type)) {
+			return BOOLEAN;
+		}
+		else if (byte.class.equals(type)) {
+			return BYTE;
+		}
+		else if (char.class.equals(type)) {
+			return CHAR;
+		}
+		else if (double.class.equals(type)) {
+			return DOUBLE;
+		}
+		else if (float.class.equals(type)) {
+			return FLOAT;
+		}
+		else if (int.class.equals(type)) {
+			return INT;
+		}
+		else if (long.class.equals(type)) {
+			return LONG;
+		}
+		else if (short.class.equals(type)) {
+			return SHORT;
+		}
+
+		return OBJECT;
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.pdx.PdxSerializer;
+
+/**
+ * The PdxSerializationPlan class holds the immutable meta-data required to (de)serialize a persistent entity
+ * to and from PDX: the ordered persistent properties, the custom {@link PdxSerializer} (if any) of each property,
+ * which properties are constructor arguments, the {@link EntityInstantiator} and the identity field.
+ *
+ * A plan is resolved once per entity type by the {@link MappingPdxSerializer} and reused for every
+ * (de)serialization of objects of that type.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 1.9.0
+ */
+final class PdxSerializationPlan {
+
+	private final boolean[] constructorArguments;
+
+	private final EntityInstantiator instantiator;
+
+	private final GemfirePersistentEntity<?> entity;
+
+	private final GemfirePersistentProperty[] properties;
+
+	private final PdxSerializer[] customSerializers;
+
+	private final String identityFieldName;
+
+	/**
+	 * Constructs an instance of the PdxSerializationPlan for the given {@link GemfirePersistentEntity}, resolving
+	 * custom {@link PdxSerializer PdxSerializers} and the {@link EntityInstantiator} with the given
+	 * {@link MappingPdxSerializer}.
+	 *
+	 * @param entity the {@link GemfirePersistentEntity} to (de)serialize.
+	 * @param mappingPdxSerializer the {@link MappingPdxSerializer} providing the serialization configuration.
+	 */
+	PdxSerializationPlan(final GemfirePersistentEntity<?> entity, final MappingPdxSerializer mappingPdxSerializer) {
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+		Assert.notNull(mappingPdxSerializer, "MappingPdxSerializer must not be null");
+
+		final List<GemfirePersistentProperty> propertyList = new ArrayList<GemfirePersistentProperty>();
+
+		entity.doWithProperties(new PropertyHandler<GemfirePersistentProperty>() {
+			public void doWithPersistentProperty(GemfirePersistentProperty persistentProperty) {
+				propertyList.add(persistentProperty);
+			}
+		});
+
+		int size = propertyList.size();
+
+		this.entity = entity;
+		this.instantiator = mappingPdxSerializer.getInstantiatorFor(entity);
+		this.properties = propertyList.toArray(new GemfirePersistentProperty[size]);
+		this.constructorArguments = new boolean[size];
+		this.customSerializers = new PdxSerializer[size];
+
+		for (int index = 0; index < size; index++) {
+			GemfirePersistentProperty property = this.properties[index];
+
+			this.constructorArguments[index] = entity.isConstructorArgument(property);
+			this.customSerializers[index] = mappingPdxSerializer.getCustomSerializer(property.getType());
+		}
+
+		GemfirePersistentProperty idProperty = entity.getIdProperty();
+
+		this.identityFieldName = (idProperty != null ? idProperty.getName() : null);
+	}
+
+	/**
+	 * Determines whether the persistent property at the given index is set by the entity's constructor.
+	 *
+	 * @param index the index of the persistent property.
+	 * @return a boolean value indicating whether the property at the given index is a constructor argument.
+	 */
+	boolean isConstructorArgument(int index) {
+		return constructorArguments[index];
+	}
+
+	/**
+	 * Returns the custom {@link PdxSerializer} for the persistent property at the given index.
+	 *
+	 * @param index the index of the persistent property.
+	 * @return the custom {@link PdxSerializer} for the property at the given index
+	 * or {@literal null} if the property has no custom {@link PdxSerializer}.
+	 */
+	PdxSerializer getCustomSerializer(int index) {
+		return customSerializers[index];
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} described by this plan.
+	 *
+	 * @return the {@link GemfirePersistentEntity} described by this plan.
+	 */
+	GemfirePersistentEntity<?> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * Returns the name of the PDX identity field, if any.
+	 *
+	 * @return the name of the identity field or {@literal null} if the entity has no identifier.
+	 */
+	String getIdentityFieldName() {
+		return identityFieldName;
+	}
+
+	/**
+	 * Returns the {@link EntityInstantiator} used to create instances of the entity.
+	 *
+	 * @return the {@link EntityInstantiator} for the entity.
+	 */
+	EntityInstantiator getInstantiator() {
+		return instantiator;
+	}
+
+	/**
+	 * Returns the persistent property at the given index.
+	 *
+	 * @param index the index of the persistent property.
+	 * @return the {@link GemfirePersistentProperty} at the given index.
+	 */
+	GemfirePersistentProperty getProperty(int index) {
+		return properties[index];
+	}
+
+	/**
+	 * Returns the number of persistent properties of the entity.
+	 *
+	 * @return the number of persistent properties.
+	 */
+	int getPropertyCount() {
+		return properties.length;
+	}
+
+}
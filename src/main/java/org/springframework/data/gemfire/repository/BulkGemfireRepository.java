@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import java.io.Serializable;
+
+/**
+ * Extension of the {@link GemfireRepository} interface adding bulk operations on entities identified by ID.
+ * Repository interfaces opt in to these operations by extending this interface instead of {@link GemfireRepository}.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @since 1.9.0
+ */
+public interface BulkGemfireRepository<T, ID extends Serializable> extends GemfireRepository<T, ID> {
+
+	/**
+	 * Determines whether entities with all of the given IDs exist, without reading the entities.
+	 *
+	 * @param ids the IDs of the entities.
+	 * @return a boolean value indicating whether entities with all of the given IDs exist.
+	 * @see org.springframework.data.repository.CrudRepository#exists(java.io.Serializable)
+	 */
+	boolean existsAll(Iterable<ID> ids);
+
+	/**
+	 * Deletes the entities with the given IDs in batches of bulk removals.
+	 *
+	 * @param ids the IDs of the entities to delete.
+	 * @see com.gemstone.gemfire.cache.Region#removeAll(java.util.Collection)
+	 */
+	void deleteAll(Iterable<ID> ids);
+
+}
@@ -18,18 +18,18 @@ package org.springframework.data.gemfire.repository;
 import java.io.Serializable;
 
 import org.springframework.data.domain.Sort;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 
 /**
- * Gemfire-specific extension of the {@link CrudRepository} interface.
+ * Gemfire-specific extension of the {@link PagingAndSortingRepository} interface.
  *
  * @author Oliver Gierke
  * @author John Blum
  * @see java.io.Serializable
- * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.data.repository.PagingAndSortingRepository
  */
 @SuppressWarnings("unused")
-public interface GemfireRepository<T, ID extends Serializable> extends CrudRepository<T, ID> {
+public interface GemfireRepository<T, ID extends Serializable> extends PagingAndSortingRepository<T, ID> {
 
 	/**
 	 * Returns all entities sorted by the given options.
@@ -47,6 +47,15 @@ public class DefaultGemfireEntityInformation<T, ID extends Serializable> extends
 		this.persistentEntity = persistentEntity;
 	}
 
+	/**
+	 * Returns the {@link GemfirePersistentEntity} backing this entity information.
+	 *
+	 * @return the {@link GemfirePersistentEntity} backing this entity information.
+	 */
+	public GemfirePersistentEntity<T> getPersistentEntity() {
+		return persistentEntity;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.gemfire.repository.query.GemfireEntityInformation#getRegionName()
@@ -16,6 +16,7 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -46,9 +47,21 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	 * @param entity must not be {@literal null}.
 	 */
 	public GemfireQueryCreator(PartTree tree, GemfirePersistentEntity<?> entity) {
+		this(tree, entity, null);
+	}
+
+	/**
+	 * Creates a new {@link GemfireQueryCreator} using the given {@link PartTree} and domain class
+	 * selecting only the given projected properties.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param projection the properties to select; selects the entity if {@literal null} or empty.
+	 */
+	public GemfireQueryCreator(PartTree tree, GemfirePersistentEntity<?> entity, List<String> projection) {
 		super(tree);
 
-		this.queryBuilder = new QueryBuilder(entity, tree);
+		this.queryBuilder = new QueryBuilder(entity, tree, projection);
 		this.indexes = new IndexProvider();
 	}
 
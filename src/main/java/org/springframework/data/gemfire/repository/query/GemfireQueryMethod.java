@@ -17,9 +17,10 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.Query;
@@ -62,30 +63,11 @@ public class GemfireQueryMethod extends QueryMethod {
 		super(method, metadata, factory);
 
 		Assert.notNull(context);
-		assertNonPagingQueryMethod(method);
 
 		this.method = method;
 		this.entity = context.getPersistentEntity(getDomainClass());
 	}
 
-	/**
-	 * Asserts that the query method is a non-Paging query method since GemFire does not support pagination
-	 * as it has no concept of a Cursor.
-	 *
-	 * @param method the query method to be evaluated
-	 * @throws java.lang.IllegalStateException if the query method contains a parameter of type Pageable.
-	 * @see org.springframework.data.domain.Pageable
-	 * @see java.lang.reflect.Method#getParameterTypes()
-	 */
-	private void assertNonPagingQueryMethod(Method method) {
-		for (Class<?> type : method.getParameterTypes()) {
-			if (Pageable.class.isAssignableFrom(type)) {
-				throw new IllegalStateException(String.format("Pagination is not supported by GemFire Repositories;"
-					+ " Offending method: %1$s", method.getName()));
-			}
-		}
-	}
-
 	/**
 	 * Returns the {@link GemfirePersistentEntity} the method deals with.
 	 *
@@ -191,6 +173,28 @@ public class GemfireQueryMethod extends QueryMethod {
 		return (limit != null ? limit.value() : Integer.MAX_VALUE);
 	}
 
+	/**
+	 * Determines whether this query method returns an {@link Iterator} over the query results.
+	 *
+	 * @return a boolean value indicating whether this query method returns an {@link Iterator}.
+	 * @see java.lang.reflect.Method#getReturnType()
+	 */
+	public boolean isIteratorQuery() {
+		return Iterator.class.isAssignableFrom(method.getReturnType());
+	}
+
+	/**
+	 * Returns the type of the elements of the {@link Iterator} returned by this query method, or the domain type
+	 * if the element type cannot be resolved.
+	 *
+	 * @return the element type of the {@link Iterator} returned by this query method.
+	 * @see #isIteratorQuery()
+	 */
+	public Class<?> getIteratorElementType() {
+		Class<?> elementType = ResolvableType.forMethodReturnType(method).as(Iterator.class).resolveGeneric(0);
+		return (elementType != null ? elementType : getDomainClass());
+	}
+
 	/**
 	 * Determines whether this query method has TRACE (i.e. logging) enabled.
 	 *
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Arrays;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The KeysetPageRequest class is a {@link PageRequest} carrying the keyset of a page, that is the values
+ * of the sort properties (followed by the identifier) of the last entity on the previous page.
+ *
+ * Paged query methods seek directly past the keyset with an OQL predicate rather than reading and skipping
+ * all entities on the previous pages.  The {@link Pageable} of a {@link org.springframework.data.domain.Slice}
+ * or {@link org.springframework.data.domain.Page} returned by a GemFire Repository is a KeysetPageRequest,
+ * so {@link org.springframework.data.domain.Slice#nextPageable()} carries the keyset of the next page.
+ * A plain {@link PageRequest} falls back to offset paging.
+ *
+ * @author John Blum
+ * @see org.springframework.data.domain.PageRequest
+ * @see org.springframework.data.gemfire.repository.query.PagedQueryExecution
+ * @since 1.9.0
+ */
+@SuppressWarnings("serial")
+public class KeysetPageRequest extends PageRequest {
+
+	private final Object[] keyset;
+	private final Object[] nextKeyset;
+
+	/**
+	 * Constructs an instance of KeysetPageRequest for the first page of the given size, sorted by identifier.
+	 *
+	 * @param size the size of the page; must be greater than 0.
+	 */
+	public KeysetPageRequest(int size) {
+		this(0, size, null);
+	}
+
+	/**
+	 * Constructs an instance of KeysetPageRequest for the first page of the given size and {@link Sort} order.
+	 *
+	 * @param size the size of the page; must be greater than 0.
+	 * @param sort the {@link Sort} order of the pages; may be {@literal null}.
+	 */
+	public KeysetPageRequest(int size, Sort sort) {
+		this(0, size, sort);
+	}
+
+	/**
+	 * Constructs an instance of KeysetPageRequest for the page following the given keyset.
+	 *
+	 * @param page the zero-based number of the page.
+	 * @param size the size of the page; must be greater than 0.
+	 * @param sort the {@link Sort} order of the pages; may be {@literal null}.
+	 * @param keyset the values of the sort properties, followed by the identifier if it is not sorted on,
+	 * of the last entity on the previous page; may be empty for the first page.
+	 */
+	public KeysetPageRequest(int page, int size, Sort sort, Object... keyset) {
+		this(page, size, sort, keyset, null);
+	}
+
+	/* (non-Javadoc) */
+	KeysetPageRequest(int page, int size, Sort sort, Object[] keyset, Object[] nextKeyset) {
+		super(page, size, sort);
+		this.keyset = (ObjectUtils.isEmpty(keyset) ? null : keyset.clone());
+		this.nextKeyset = (ObjectUtils.isEmpty(nextKeyset) ? null : nextKeyset.clone());
+	}
+
+	/**
+	 * Returns the keyset of this page.
+	 *
+	 * @return the values of the sort properties of the last entity on the previous page,
+	 * or {@literal null} if this page does not follow a keyset.
+	 */
+	public Object[] getKeyset() {
+		return (keyset != null ? keyset.clone() : null);
+	}
+
+	/**
+	 * Determines whether this page follows a keyset.
+	 *
+	 * @return a boolean value indicating whether this page follows a keyset.
+	 */
+	public boolean hasKeyset() {
+		return (keyset != null);
+	}
+
+	/* (non-Javadoc) */
+	Object[] getNextKeyset() {
+		return (nextKeyset != null ? nextKeyset.clone() : null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public Pageable next() {
+		return (nextKeyset != null ? new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(), nextKeyset)
+			: super.next());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetPageRequest)) {
+			return false;
+		}
+
+		KeysetPageRequest that = (KeysetPageRequest) obj;
+
+		return (super.equals(that) && Arrays.equals(this.keyset, that.keyset));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return (31 * super.hashCode() + Arrays.hashCode(keyset));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s, keyset: %2$s", super.toString(), Arrays.toString(keyset));
+	}
+
+}
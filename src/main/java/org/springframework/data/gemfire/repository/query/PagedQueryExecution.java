@@ -0,0 +1,344 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.gemstone.gemfire.cache.query.SelectResults;
+import com.gemstone.gemfire.pdx.PdxInstance;
+
+/**
+ * The PagedQueryExecution class executes an OQL query one {@link Slice} or {@link Page} at a time.
+ *
+ * The results are ordered by the {@link Sort} of the {@link Pageable} followed by the identifier of the entity,
+ * which makes the order total.  When the {@link Pageable} is a {@link KeysetPageRequest} carrying a keyset,
+ * the query seeks past the keyset with a predicate on the sort properties, so the cost of reading a page does not
+ * depend on its position.  Otherwise, the query reads and skips the entities on the previous pages.
+ * Either way, at most one entity beyond the requested page is read to determine whether there is a next page.
+ *
+ * The keyset is not applied to queries declaring their own ORDER BY or LIMIT clause, which are paged by offset
+ * in the declared order, and requires the sort properties of the entities to be non-null.  The total number of
+ * entities is only counted for a {@link Page}, and only when it cannot be derived from the page itself.
+ *
+ * @author John Blum
+ * @see org.springframework.data.domain.Page
+ * @see org.springframework.data.domain.Slice
+ * @see org.springframework.data.gemfire.repository.query.KeysetPageRequest
+ * @see org.springframework.data.gemfire.repository.query.QueryString
+ * @since 1.9.0
+ */
+public class PagedQueryExecution {
+
+	private final boolean keysetApplicable;
+	private final boolean limitDeclared;
+
+	private final GemfireTemplate template;
+
+	private final QueryString query;
+
+	private final String idPropertyName;
+
+	/**
+	 * Constructs an instance of PagedQueryExecution for the given OQL query.
+	 *
+	 * @param template the {@link GemfireTemplate} used to execute the query; must not be {@literal null}.
+	 * @param query the OQL query, with all {@literal IN} parameters bound; must not be {@literal null}.
+	 * @param entity the {@link GemfirePersistentEntity} queried, used to resolve the identifier property;
+	 * may be {@literal null}.
+	 */
+	public PagedQueryExecution(GemfireTemplate template, QueryString query, GemfirePersistentEntity<?> entity) {
+		Assert.notNull(template, "GemfireTemplate must not be null");
+		Assert.notNull(query, "QueryString must not be null");
+
+		String upperCaseQuery = query.toString().toUpperCase();
+
+		GemfirePersistentProperty idProperty = (entity != null ? entity.getIdProperty() : null);
+
+		this.template = template;
+		this.query = query;
+		this.idPropertyName = (idProperty != null ? idProperty.getName() : null);
+		this.limitDeclared = QueryString.LIMIT_PATTERN.matcher(upperCaseQuery).find();
+		this.keysetApplicable = !(limitDeclared || QueryString.ORDER_BY_PATTERN.matcher(upperCaseQuery).find());
+	}
+
+	/**
+	 * Determines whether unsorted pages of the query results are read by keyset, which requires the query
+	 * not to declare an ORDER BY or LIMIT clause and the entity to have an identifier.
+	 *
+	 * @return a boolean value indicating whether unsorted pages of the query results are read by keyset.
+	 */
+	public boolean isKeysetPagingSupported() {
+		return (keysetApplicable && idPropertyName != null);
+	}
+
+	/**
+	 * Executes the query for the {@link Page} described by the given {@link Pageable}.
+	 *
+	 * @param <T> the type of the query results.
+	 * @param pageable the {@link Pageable} describing the {@link Page}; may be {@literal null} to read all results.
+	 * @param parameters the arguments bound to the query parameters, numbered from {@literal $1};
+	 * keyset placeholders are numbered after them.
+	 * @return the {@link Page} of results.
+	 */
+	public <T> Page<T> page(Pageable pageable, Object... parameters) {
+		PagedResults<T> results = execute(pageable, parameters);
+
+		List<T> content = results.getContent();
+
+		long total = (pageable == null ? content.size()
+			: (!results.hasNext() && (!content.isEmpty() || pageable.getOffset() == 0)
+				? pageable.getOffset() + content.size() : count(parameters)));
+
+		return new PageImpl<T>(content, results.getPageable(), total);
+	}
+
+	/**
+	 * Executes the query for the {@link Slice} described by the given {@link Pageable}.
+	 *
+	 * @param <T> the type of the query results.
+	 * @param pageable the {@link Pageable} describing the {@link Slice}; may be {@literal null} to read all results.
+	 * @param parameters the arguments bound to the query parameters, numbered from {@literal $1};
+	 * keyset placeholders are numbered after them.
+	 * @return the {@link Slice} of results.
+	 */
+	public <T> Slice<T> slice(Pageable pageable, Object... parameters) {
+		PagedResults<T> results = execute(pageable, parameters);
+		return new SliceImpl<T>(results.getContent(), results.getPageable(), results.hasNext());
+	}
+
+	/* (non-Javadoc) */
+	<T> PagedResults<T> execute(Pageable pageable, Object[] parameters) {
+		if (pageable == null) {
+			return new PagedResults<T>(this.<T>find(query, parameters), false, null);
+		}
+
+		Sort sort = (keysetApplicable ? keysetSort(pageable.getSort()) : null);
+
+		Object[] keyset = (pageable instanceof KeysetPageRequest ? ((KeysetPageRequest) pageable).getKeyset() : null);
+
+		boolean seek = (sort != null && keyset != null && keyset.length == sizeOf(sort));
+
+		QueryString pagedQuery = query;
+		Object[] pagedParameters = parameters;
+
+		int offset = (seek ? 0 : pageable.getOffset());
+		int pageSize = pageable.getPageSize();
+
+		if (seek) {
+			pagedQuery = pagedQuery.withPredicate(seekPredicate(sort, parameters.length + 1));
+			pagedParameters = concat(parameters, keyset);
+		}
+
+		pagedQuery = pagedQuery.orderBy(sort);
+
+		if (!limitDeclared) {
+			pagedQuery = pagedQuery.withLimit((int) Math.min(Integer.MAX_VALUE, (long) offset + pageSize + 1));
+		}
+
+		List<T> results = find(pagedQuery, pagedParameters);
+
+		int fromIndex = Math.min(offset, results.size());
+		int toIndex = (int) Math.min(results.size(), (long) offset + pageSize);
+
+		List<T> content = new ArrayList<T>(results.subList(fromIndex, toIndex));
+
+		Object[] nextKeyset = (sort != null && !content.isEmpty() ? keysetOf(content.get(content.size() - 1), sort)
+			: null);
+
+		return new PagedResults<T>(content, results.size() > toIndex, new KeysetPageRequest(pageable.getPageNumber(),
+			pageSize, pageable.getSort(), (seek ? keyset : null), nextKeyset));
+	}
+
+	/* (non-Javadoc) */
+	long count(Object[] parameters) {
+		List<Object> results = find(query.asCountQuery(), parameters);
+		Object count = (results.isEmpty() ? null : results.get(0));
+		return (count instanceof Number ? ((Number) count).longValue() : 0L);
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	<T> List<T> find(QueryString query, Object[] parameters) {
+		Object results = template.find(query.toString(), parameters);
+
+		if (results instanceof SelectResults) {
+			return ((SelectResults<T>) results).asList();
+		}
+
+		return (results instanceof Collection ? new ArrayList<T>((Collection<T>) results) : Collections.<T>emptyList());
+	}
+
+	/**
+	 * Appends the identifier to the given {@link Sort}, unless already sorted on, making the order total.
+	 *
+	 * @param sort the {@link Sort} requested; may be {@literal null}.
+	 * @return the {@link Sort} used to order the results, or {@literal null} if the results cannot be ordered.
+	 */
+	Sort keysetSort(Sort sort) {
+		if (idPropertyName == null || (sort != null && sort.getOrderFor(idPropertyName) != null)) {
+			return sort;
+		}
+
+		Sort idSort = new Sort(idPropertyName);
+
+		return (sort != null ? sort.and(idSort) : idSort);
+	}
+
+	/**
+	 * Builds the predicate selecting the entities following the keyset in the given {@link Sort} order,
+	 * for example {@literal lastName > $2 OR (lastName = $2 AND (id > $3))}.
+	 *
+	 * @param sort the {@link Sort} order of the results.
+	 * @param firstParameterIndex the index of the query parameter bound to the first keyset value.
+	 * @return the OQL predicate seeking past the keyset.
+	 */
+	String seekPredicate(Sort sort, int firstParameterIndex) {
+		List<Sort.Order> orders = toList(sort);
+		String predicate = null;
+
+		for (int index = orders.size() - 1; index >= 0; index--) {
+			Sort.Order order = orders.get(index);
+			int parameterIndex = firstParameterIndex + index;
+
+			String comparison = String.format("%1$s %2$s $%3$d", order.getProperty(),
+				(order.isAscending() ? ">" : "<"), parameterIndex);
+
+			predicate = (predicate == null ? comparison : String.format("%1$s OR (%2$s = $%3$d AND (%4$s))",
+				comparison, order.getProperty(), parameterIndex, predicate));
+		}
+
+		return predicate;
+	}
+
+	/**
+	 * Reads the values of the sort properties from the given entity.
+	 *
+	 * @param entity the last entity of a page.
+	 * @param sort the {@link Sort} order of the results.
+	 * @return the keyset of the page following the entity, or {@literal null} if a sort property is {@literal null}.
+	 */
+	Object[] keysetOf(Object entity, Sort sort) {
+		List<Object> keyset = new ArrayList<Object>();
+
+		for (Sort.Order order : sort) {
+			Object value = getPropertyValue(entity, order.getProperty());
+
+			if (value == null) {
+				return null;
+			}
+
+			keyset.add(value);
+		}
+
+		return keyset.toArray();
+	}
+
+	/* (non-Javadoc) */
+	static Object getPropertyValue(Object source, String propertyPath) {
+		Object value = source;
+
+		for (String propertyName : StringUtils.delimitedListToStringArray(propertyPath, ".")) {
+			if (value == null) {
+				break;
+			}
+			else if (value instanceof PdxInstance) {
+				value = ((PdxInstance) value).getField(propertyName);
+			}
+			else {
+				BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(value);
+
+				value = (beanWrapper.isReadableProperty(propertyName) ? beanWrapper.getPropertyValue(propertyName)
+					: PropertyAccessorFactory.forDirectFieldAccess(value).getPropertyValue(propertyName));
+			}
+		}
+
+		return value;
+	}
+
+	/* (non-Javadoc) */
+	static Object[] concat(Object[] parameters, Object[] keyset) {
+		Object[] allParameters = new Object[parameters.length + keyset.length];
+		System.arraycopy(parameters, 0, allParameters, 0, parameters.length);
+		System.arraycopy(keyset, 0, allParameters, parameters.length, keyset.length);
+		return allParameters;
+	}
+
+	/* (non-Javadoc) */
+	static int sizeOf(Sort sort) {
+		return toList(sort).size();
+	}
+
+	/* (non-Javadoc) */
+	static List<Sort.Order> toList(Sort sort) {
+		List<Sort.Order> orders = new ArrayList<Sort.Order>();
+
+		for (Sort.Order order : sort) {
+			orders.add(order);
+		}
+
+		return orders;
+	}
+
+	/**
+	 * The PagedResults class holds the content of a page, whether there is a next page and
+	 * the {@link KeysetPageRequest} describing the page.
+	 */
+	static final class PagedResults<T> {
+
+		private final boolean hasNext;
+
+		private final List<T> content;
+
+		private final Pageable pageable;
+
+		PagedResults(List<T> content, boolean hasNext, Pageable pageable) {
+			this.content = content;
+			this.hasNext = hasNext;
+			this.pageable = pageable;
+		}
+
+		List<T> getContent() {
+			return content;
+		}
+
+		Pageable getPageable() {
+			return pageable;
+		}
+
+		boolean hasNext() {
+			return hasNext;
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+/**
+ * The PagedQueryIterator class is a {@link CloseableIterator} reading the results of an OQL query
+ * one page at a time, so that at most one page of results is held in memory.
+ *
+ * Pages are read by keyset in identifier order as the iteration advances.  Queries that cannot be paged by keyset,
+ * because they declare their own ORDER BY or LIMIT clause, are read in a single page.  Closing the iterator
+ * releases the current page and ends the iteration.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.repository.query.PagedQueryExecution
+ * @see org.springframework.data.util.CloseableIterator
+ * @since 1.9.0
+ */
+public class PagedQueryIterator<T> implements CloseableIterator<T> {
+
+	/**
+	 * Default number of query results read per page.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 1000;
+
+	private volatile boolean closed;
+
+	private Iterator<T> page;
+
+	private Pageable nextPageable;
+
+	private final Object[] parameters;
+
+	private final PagedQueryExecution execution;
+
+	/**
+	 * Constructs an instance of PagedQueryIterator reading the results of the given {@link PagedQueryExecution}.
+	 *
+	 * @param execution the {@link PagedQueryExecution} of the OQL query; must not be {@literal null}.
+	 * @param pageSize the number of query results read per page; must be greater than 0.
+	 * @param parameters the arguments bound to the query parameters.
+	 */
+	public PagedQueryIterator(PagedQueryExecution execution, int pageSize, Object... parameters) {
+		Assert.notNull(execution, "PagedQueryExecution must not be null");
+		Assert.isTrue(pageSize > 0, String.format("pageSize [%d] must be greater than 0", pageSize));
+
+		this.execution = execution;
+		this.parameters = (parameters != null ? parameters : new Object[0]);
+		this.nextPageable = (execution.isKeysetPagingSupported() ? new KeysetPageRequest(pageSize) : null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public synchronized boolean hasNext() {
+		while (!closed && (page == null || !page.hasNext()) && (page == null || nextPageable != null)) {
+			Slice<T> slice = execution.slice(nextPageable, parameters);
+
+			page = slice.getContent().iterator();
+			nextPageable = (nextPageable != null && slice.hasNext() ? slice.nextPageable() : null);
+		}
+
+		return (!closed && page.hasNext());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public synchronized T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more query results");
+		}
+
+		return page.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Query results cannot be removed");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.util.CloseableIterator#close()
+	 */
+	@Override
+	public synchronized void close() {
+		closed = true;
+		page = null;
+		nextPageable = null;
+	}
+
+}
@@ -16,13 +16,15 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
@@ -38,6 +40,10 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	private final PartTree tree;
 	private final GemfireTemplate template;
 
+	private final Part.Type[] partTypes;
+
+	private volatile RepositoryQuery unsortedQuery;
+
 	/**
 	 * Creates a new {@link PartTreeGemfireRepositoryQuery} using the given {@link GemfireQueryMethod} and
 	 * {@link GemfireTemplate}.
@@ -54,6 +60,18 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.tree = new PartTree(method.getName(), domainClass);
 		this.method = method;
 		this.template = template;
+		this.partTypes = resolvePartTypes(this.tree);
+	}
+
+	/* (non-Javadoc) */
+	private static Part.Type[] resolvePartTypes(PartTree tree) {
+		List<Part.Type> partTypes = new ArrayList<Part.Type>();
+
+		for (Part part : tree.getParts()) {
+			partTypes.add(part.getType());
+		}
+
+		return partTypes.toArray(new Part.Type[partTypes.size()]);
 	}
 
 	/* 
@@ -64,40 +82,103 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	public Object execute(Object[] parameters) {
 		ParametersParameterAccessor parameterAccessor = new ParametersParameterAccessor(method.getParameters(), parameters);
 
-		QueryString query = new GemfireQueryCreator(tree, method.getPersistentEntity())
-			.createQuery(parameterAccessor.getSort());
+		// NOTE the Sort of a Pageable is applied when paging the query results
+		Sort sort = (method.getParameters().hasPageableParameter() ? null : parameterAccessor.getSort());
+
+		return resolveRepositoryQuery(sort).execute(prepareStringParameters(parameters));
+	}
+
+	/**
+	 * Resolves the {@link RepositoryQuery} to execute for the given dynamic {@link Sort}.  The OQL query derived from
+	 * the query method name without a dynamic {@link Sort} is created once and reused for all subsequent executions;
+	 * only a dynamic {@link Sort} causes the OQL query to be rendered again.
+	 *
+	 * @param sort the dynamic {@link Sort} passed to the query method, may be {@literal null}.
+	 * @return the {@link RepositoryQuery} to execute.
+	 */
+	RepositoryQuery resolveRepositoryQuery(Sort sort) {
+		if (sort != null) {
+			return newRepositoryQuery(sort);
+		}
+
+		RepositoryQuery localUnsortedQuery = this.unsortedQuery;
 
-		RepositoryQuery repositoryQuery = new StringBasedGemfireRepositoryQuery(query.toString(), method, template);
+		if (localUnsortedQuery == null) {
+			localUnsortedQuery = newRepositoryQuery(null);
+			this.unsortedQuery = localUnsortedQuery;
+		}
 
-		return repositoryQuery.execute(prepareStringParameters(parameters));
+		return localUnsortedQuery;
+	}
+
+	/* (non-Javadoc) */
+	private RepositoryQuery newRepositoryQuery(Sort sort) {
+		QueryString query = new GemfireQueryCreator(tree, method.getPersistentEntity(), resolveProjection(sort))
+			.createQuery(sort);
+
+		return new StringBasedGemfireRepositoryQuery(query.toString(), method, template);
+	}
+
+	/**
+	 * Resolves the properties selected by the OQL query of a query method returning a closed interface
+	 * or DTO projection, so that only the projected fields are read rather than the whole entity.
+	 * Sorted, paged and streaming queries as well as open projections select the entity, which is projected
+	 * once read.
+	 *
+	 * @param sort the dynamic {@link Sort} passed to the query method, may be {@literal null}.
+	 * @return the properties to select, or {@literal null} to select the entity.
+	 * @see org.springframework.data.repository.query.ReturnedType#getInputProperties()
+	 */
+	List<String> resolveProjection(Sort sort) {
+		ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+
+		if (!returnedType.isProjecting() || sort != null || tree.getSort() != null
+				|| Boolean.TRUE.equals(tree.isCountProjection()) || method.getParameters().hasPageableParameter()
+				|| method.isStreamQuery() || method.isIteratorQuery()) {
+
+			return null;
+		}
+
+		List<String> properties = returnedType.getInputProperties();
+		GemfirePersistentEntity<?> entity = method.getPersistentEntity();
+
+		for (String property : properties) {
+			if (entity.getPersistentProperty(property) == null) {
+				return null;
+			}
+		}
+
+		return (properties.isEmpty() ? null : properties);
 	}
 
 	private Object[] prepareStringParameters(Object[] parameters) {
-		Iterator<Part> partsIterator = tree.getParts().iterator();
-		List<Object> stringParameters = new ArrayList<Object>(parameters.length);
+		Object[] stringParameters = new Object[parameters.length];
+
+		for (int index = 0, partIndex = 0; index < parameters.length; index++) {
+			Object parameter = parameters[index];
 
-		for (Object parameter : parameters) {
-			if (parameter == null || parameter instanceof Sort) {
-				stringParameters.add(parameter);
+			if (parameter == null || parameter instanceof Sort || parameter instanceof Pageable
+					|| partIndex >= partTypes.length) {
+				stringParameters[index] = parameter;
 			}
 			else {
-				switch (partsIterator.next().getType()) {
+				switch (partTypes[partIndex++]) {
 					case CONTAINING:
-						stringParameters.add(String.format("%%%s%%", parameter.toString()));
+						stringParameters[index] = "%" + parameter.toString() + "%";
 						break;
 					case STARTING_WITH:
-						stringParameters.add(String.format("%s%%", parameter.toString()));
+						stringParameters[index] = parameter.toString() + "%";
 						break;
 					case ENDING_WITH:
-						stringParameters.add(String.format("%%%s", parameter.toString()));
+						stringParameters[index] = "%" + parameter.toString();
 						break;
 					default:
-						stringParameters.add(parameter);
+						stringParameters[index] = parameter;
 				}
 			}
 		}
 
-		return stringParameters.toArray();
+		return stringParameters;
 	}
 
 }
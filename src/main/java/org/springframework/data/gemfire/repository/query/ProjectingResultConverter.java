@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.beans.PropertyDescriptor;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.cache.query.Struct;
+import com.gemstone.gemfire.pdx.PdxInstance;
+
+/**
+ * The ProjectingResultConverter class is a {@link Converter} preparing OQL query results for an interface
+ * or DTO projection returned by a query method.
+ *
+ * Query results may be a {@link Struct} of the projected fields selected by the OQL query, the single projected
+ * field value, a {@link PdxInstance} or the entity.  Fields of a {@link PdxInstance} are read individually without
+ * deserializing the whole object.  Interface projections are backed by a {@link Map} of the projected properties,
+ * while DTO projections are instantiated with their preferred constructor, binding the projected properties
+ * to the constructor parameters by name, or with the matching writable properties set when the preferred
+ * constructor is the default constructor.
+ *
+ * @author John Blum
+ * @see org.springframework.core.convert.converter.Converter
+ * @see org.springframework.data.mapping.model.PreferredConstructorDiscoverer
+ * @see org.springframework.data.repository.query.ReturnedType
+ * @see com.gemstone.gemfire.cache.query.Struct
+ * @see com.gemstone.gemfire.pdx.PdxInstance
+ * @since 1.9.0
+ */
+class ProjectingResultConverter implements Converter<Object, Object> {
+
+	private final PreferredConstructor<?, ?> preferredConstructor;
+
+	private final ReturnedType returnedType;
+
+	/**
+	 * Constructs an instance of ProjectingResultConverter for the given {@link ReturnedType}.
+	 *
+	 * @param returnedType the projecting {@link ReturnedType} of the query method; must not be {@literal null}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	ProjectingResultConverter(ReturnedType returnedType) {
+		Assert.notNull(returnedType, "ReturnedType must not be null");
+
+		Class<?> type = returnedType.getReturnedType();
+
+		this.returnedType = returnedType;
+		this.preferredConstructor = (type.isInterface() ? null
+			: new PreferredConstructorDiscoverer(type).getConstructor());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+	 */
+	@Override
+	public Object convert(Object source) {
+		Class<?> type = returnedType.getReturnedType();
+
+		if (source == null || type.isInstance(source)) {
+			return source;
+		}
+
+		if (type.isInterface()) {
+			return (isEntity(source) ? source : toMap(source));
+		}
+
+		return instantiate(type, source);
+	}
+
+	/* (non-Javadoc) */
+	boolean isEntity(Object source) {
+		return returnedType.getDomainType().isInstance(source);
+	}
+
+	/* (non-Javadoc) */
+	Map<String, Object> toMap(Object source) {
+		Map<String, Object> map = new HashMap<String, Object>();
+
+		for (String property : returnedType.getInputProperties()) {
+			map.put(property, getValue(source, property));
+		}
+
+		return map;
+	}
+
+	/* (non-Javadoc) */
+	Object instantiate(Class<?> type, Object source) {
+		if (preferredConstructor != null && preferredConstructor.hasParameters()) {
+			SimpleTypeConverter typeConverter = new SimpleTypeConverter();
+			List<? extends Parameter<?, ?>> parameters = preferredConstructor.getParameters();
+			Object[] arguments = new Object[parameters.size()];
+
+			for (int index = 0; index < arguments.length; index++) {
+				Parameter<?, ?> parameter = parameters.get(index);
+
+				if (parameter.getName() == null) {
+					throw new MappingException(String.format(
+						"Name of constructor parameter [%1$d] of DTO projection [%2$s] could not be determined;"
+							+ " compile the DTO with debug information", index, type.getName()));
+				}
+
+				arguments[index] = typeConverter.convertIfNecessary(getValue(source, parameter.getName()),
+					parameter.getType().getType());
+			}
+
+			return BeanUtils.instantiateClass(preferredConstructor.getConstructor(), arguments);
+		}
+
+		Object instance = BeanUtils.instantiateClass(type);
+		BeanWrapper instanceWrapper = new BeanWrapperImpl(instance);
+
+		for (PropertyDescriptor descriptor : instanceWrapper.getPropertyDescriptors()) {
+			String property = descriptor.getName();
+
+			if (instanceWrapper.isWritableProperty(property)) {
+				Object value = getValue(source, property);
+
+				if (value != null) {
+					instanceWrapper.setPropertyValue(property, value);
+				}
+			}
+		}
+
+		return instance;
+	}
+
+	/* (non-Javadoc) */
+	Object getValue(Object source, String property) {
+		Object value;
+
+		if (source instanceof Struct) {
+			value = (hasField((Struct) source, property) ? ((Struct) source).get(property) : null);
+		}
+		else if (source instanceof PdxInstance) {
+			value = (((PdxInstance) source).hasField(property) ? ((PdxInstance) source).getField(property) : null);
+		}
+		else if (isEntity(source)) {
+			BeanWrapper beanWrapper = new BeanWrapperImpl(source);
+			DirectFieldAccessor fieldAccessor = new DirectFieldAccessor(source);
+
+			value = (beanWrapper.isReadableProperty(property) ? beanWrapper.getPropertyValue(property)
+				: (fieldAccessor.isReadableProperty(property) ? fieldAccessor.getPropertyValue(property) : null));
+		}
+		else {
+			// NOTE an OQL query selecting a single projected field returns the field value
+			value = (returnedType.getInputProperties().size() == 1 ? source : null);
+		}
+
+		return (value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value);
+	}
+
+	/* (non-Javadoc) */
+	boolean hasField(Struct struct, String property) {
+		for (String fieldName : struct.getStructType().getFieldNames()) {
+			if (fieldName.equals(property)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
@@ -16,10 +16,13 @@
 
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.List;
+
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.repository.query.support.OqlKeyword;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * The QueryBuilder class is used to build a {@link QueryString}.
@@ -32,6 +35,8 @@ import org.springframework.util.Assert;
 class QueryBuilder {
 
 	static final String DEFAULT_ALIAS = "x";
+	static final String COUNT_OQL_TEMPLATE = "SELECT count(*) FROM /%1$s %2$s";
+	static final String PROJECTION_OQL_TEMPLATE = "SELECT %1$s %2$s FROM /%3$s %4$s";
 	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s * FROM /%2$s %3$s";
 	static final String WHERE_CLAUSE_TEMPLATE = "%1$s WHERE %2$s";
 
@@ -39,10 +44,36 @@ class QueryBuilder {
 
 	/* (non-Javadoc) */
 	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree) {
+		return asQuery(entity, tree, null);
+	}
+
+	/* (non-Javadoc) */
+	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree, List<String> projection) {
+		if (Boolean.TRUE.equals(tree.isCountProjection())) {
+			return String.format(COUNT_OQL_TEMPLATE, entity.getRegionName(), DEFAULT_ALIAS);
+		}
+
+		if (!CollectionUtils.isEmpty(projection)) {
+			return String.format(PROJECTION_OQL_TEMPLATE, (tree.isDistinct() ? OqlKeyword.DISTINCT : ""),
+				asFieldList(projection), entity.getRegionName(), DEFAULT_ALIAS).replaceAll("\\s{2,}", " ");
+		}
+
 		return String.format(SELECT_OQL_TEMPLATE, (tree.isDistinct() ? OqlKeyword.DISTINCT : ""),
 			entity.getRegionName(), DEFAULT_ALIAS).replaceAll("\\s{2,}", " ");
 	}
 
+	/* (non-Javadoc) */
+	static String asFieldList(List<String> projection) {
+		StringBuilder fieldList = new StringBuilder();
+
+		for (String property : projection) {
+			fieldList.append(fieldList.length() > 0 ? ", " : "");
+			fieldList.append(DEFAULT_ALIAS).append(".").append(property);
+		}
+
+		return fieldList.toString();
+	}
+
 	/* (non-Javadoc) */
 	static String validateQuery(String query) {
 		Assert.hasText(query, "An OQL Query must be specified");
@@ -75,6 +106,21 @@ class QueryBuilder {
 		this(asQuery(entity, tree));
 	}
 
+	/**
+	 * Constructs an instance of {@link QueryBuilder} with the given {@link GemfirePersistentEntity}
+	 * and {@link PartTree} selecting only the given projected properties of the entity.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} used to determine the GemFire
+	 * {@link com.gemstone.gemfire.cache.Region} to query.
+	 * @param tree {@link PartTree} containing parts of the OQL Query for determining things
+	 * like uniqueness.
+	 * @param projection {@link List} of properties to select; selects the entity if {@literal null} or empty.
+	 * @see #QueryBuilder(GemfirePersistentEntity, PartTree)
+	 */
+	public QueryBuilder(GemfirePersistentEntity<?> entity, PartTree tree, List<String> projection) {
+		this(asQuery(entity, tree, projection));
+	}
+
 	/**
 	 * Constructs a {@link QueryString} with the given {@link Predicate}.
 	 *
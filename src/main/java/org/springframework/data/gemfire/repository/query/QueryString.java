@@ -41,20 +41,31 @@ public class QueryString {
 	protected static final Pattern HINT_PATTERN = Pattern.compile("<HINT '\\w+'(, '\\w+')*>");
 	protected static final Pattern IMPORT_PATTERN = Pattern.compile("IMPORT .+;");
 	protected static final Pattern LIMIT_PATTERN = Pattern.compile("LIMIT \\d+");
+	protected static final Pattern ORDER_BY_PATTERN = Pattern.compile("ORDER BY .+");
 	protected static final Pattern TRACE_PATTERN = Pattern.compile("<TRACE>");
 
 	// OQL Query Templates
 	private static final String HINTS_OQL_TEMPLATE = "<HINT %1$s> %2$s";
 	private static final String IMPORT_OQL_TEMPLATE = "IMPORT %1$s; %2$s";
+	private static final String COUNT_DISTINCT_OQL_TEMPLATE = "%1$sSELECT count(*) FROM (%2$s)";
 	private static final String LIMIT_OQL_TEMPLATE = "%1$s LIMIT %2$d";
 	private static final String SELECT_OQL_TEMPLATE = "SELECT %1$s FROM /%2$s";
 	private static final String TRACE_OQL_TEMPLATE = "<TRACE> %1$s";
+	private static final String WHERE_OQL_TEMPLATE = "%1$s WHERE %2$s%3$s";
 
 	// OQL Query Regular Expression Patterns
 	private static final String IN_PATTERN = "(?<=IN (SET|LIST) )\\$\\d";
 	private static final String IN_PARAMETER_PATTERN = "(?<=IN (SET|LIST) \\$)\\d";
 	private static final String REGION_PATTERN = "\\/(\\/?\\w)+";
 
+	private static final Pattern DISTINCT_PATTERN = Pattern.compile("SELECT\\s+DISTINCT\\s",
+		Pattern.CASE_INSENSITIVE);
+	private static final Pattern PROJECTION_PATTERN = Pattern.compile("SELECT\\s+.+?\\s+FROM\\s",
+		Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+	private static final Pattern TAIL_PATTERN = Pattern.compile("\\s+(ORDER\\s+BY\\s|LIMIT\\s+\\d+).*$",
+		Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+	private static final Pattern WHERE_PATTERN = Pattern.compile("\\sWHERE\\s", Pattern.CASE_INSENSITIVE);
+
 	private final String query;
 
 	/* (non-Javadoc) */
@@ -182,6 +193,53 @@ public class QueryString {
 		return this;
 	}
 
+	/**
+	 * Converts this OQL Query into a query counting the results by replacing the projection with
+	 * {@literal count(*)} and removing any ORDER BY and LIMIT clauses.  A DISTINCT query is kept intact
+	 * as a sub-query of the count so that duplicate results are not counted.
+	 *
+	 * @return a new {@link QueryString} counting the results of this OQL Query.
+	 */
+	public QueryString asCountQuery() {
+		String countQuery = TAIL_PATTERN.matcher(this.query).replaceFirst("");
+		Matcher projectionMatcher = PROJECTION_PATTERN.matcher(countQuery);
+
+		if (projectionMatcher.find() && DISTINCT_PATTERN.matcher(projectionMatcher.group()).lookingAt()) {
+			return new QueryString(String.format(COUNT_DISTINCT_OQL_TEMPLATE,
+				countQuery.substring(0, projectionMatcher.start()), countQuery.substring(projectionMatcher.start())));
+		}
+
+		return new QueryString(PROJECTION_PATTERN.matcher(countQuery).replaceFirst("SELECT count(*) FROM "));
+	}
+
+	/**
+	 * Adds the given predicate to the WHERE clause of this OQL Query.  The predicate is combined with
+	 * an existing WHERE clause using AND, and inserted before any ORDER BY and LIMIT clauses.
+	 *
+	 * @param predicate {@link String} containing the OQL predicate to add.
+	 * @return a new {@link QueryString} with the predicate added if specified, or return this {@link QueryString}.
+	 */
+	public QueryString withPredicate(String predicate) {
+		if (StringUtils.hasText(predicate)) {
+			Matcher tailMatcher = TAIL_PATTERN.matcher(this.query);
+			int tailIndex = (tailMatcher.find() ? tailMatcher.start() : this.query.length());
+
+			String head = this.query.substring(0, tailIndex);
+			String tail = this.query.substring(tailIndex);
+
+			Matcher whereMatcher = WHERE_PATTERN.matcher(head);
+
+			if (whereMatcher.find()) {
+				return new QueryString(String.format(WHERE_OQL_TEMPLATE, head.substring(0, whereMatcher.start()),
+					String.format("(%1$s) AND (%2$s)", predicate, head.substring(whereMatcher.end())), tail));
+			}
+
+			return new QueryString(String.format(WHERE_OQL_TEMPLATE, head, predicate, tail));
+		}
+
+		return this;
+	}
+
 	/**
 	 * Replaces the SELECT query with a SELECT DISTINCT query if the query does not contain the DISTINCT OQL keyword.
 	 *
@@ -15,15 +15,28 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.NumberUtils;
 import org.springframework.util.StringUtils;
 
 import com.gemstone.gemfire.cache.query.SelectResults;
@@ -37,13 +50,17 @@ import com.gemstone.gemfire.cache.query.SelectResults;
  */
 public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
-	private static final String INVALID_QUERY = "Paging and modifying queries are not supported!";
+	private static final String INVALID_QUERY = "Modifying queries are not supported!";
 
 	private boolean userDefinedQuery = false;
 
 	private final GemfireTemplate template;
 	private final QueryString query;
 
+	private volatile PreparedQuery preparedQuery;
+
+	private volatile ResultProcessor iteratorResultProcessor;
+
 	/*
 	 * (non-Javadoc)
 	 * Constructor used for testing purposes only!
@@ -81,7 +98,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.query = new QueryString(StringUtils.hasText(query) ? query : queryMethod.getAnnotatedQuery());
 		this.template = template;
 
-		if (queryMethod.isModifyingQuery() || queryMethod.isPageQuery()) {
+		if (queryMethod.isModifyingQuery()) {
 			throw new IllegalStateException(INVALID_QUERY);
 		}
 	}
@@ -91,6 +108,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	public StringBasedGemfireRepositoryQuery asUserDefinedQuery() {
 		this.userDefinedQuery = true;
+		this.preparedQuery = null;
 		return this;
 	}
 
@@ -109,42 +127,225 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	public Object execute(Object[] parameters) {
 		QueryMethod localQueryMethod = getQueryMethod();
 
-		QueryString query = (isUserDefinedQuery() ? this.query : this.query.forRegion(
-			localQueryMethod.getEntityInformation().getJavaType(), template.getRegion()));
+		PreparedQuery localPreparedQuery = prepareQuery(localQueryMethod);
+
+		QueryString query = localPreparedQuery.getQuery();
 
 		ParametersParameterAccessor parameterAccessor = new ParametersParameterAccessor(
 			localQueryMethod.getParameters(), parameters);
 
-		for (Integer index : query.getInParameterIndexes()) {
+		for (Integer index : localPreparedQuery.getInParameterIndexes()) {
 			query = query.bindIn(toCollection(parameterAccessor.getBindableValue(index - 1)));
 		}
 
-		query = applyQueryAnnotationExtensions(localQueryMethod, query);
+		Object[] bindableParameters = getBindableParameters(localQueryMethod, parameterAccessor);
 
-		Collection<?> result = toCollection(template.find(query.toString(), parameters));
+		if (localQueryMethod.getParameters().hasPageableParameter() && (localQueryMethod.isPageQuery()
+				|| localQueryMethod.isSliceQuery() || localQueryMethod.isCollectionQuery())) {
+
+			return project(localQueryMethod,
+				executePaged(localQueryMethod, query, parameterAccessor.getPageable(), bindableParameters));
+		}
+
+		if (isStreamingQuery(localQueryMethod)) {
+			return project(localQueryMethod, executeStreaming(localQueryMethod, query, bindableParameters));
+		}
+
+		Collection<?> result = toCollection(template.find(query.toString(), bindableParameters));
 
 		if (localQueryMethod.isCollectionQuery()) {
-			return result;
+			return project(localQueryMethod, result);
 		}
-		else if (localQueryMethod.isQueryForEntity()) {
+		else if (localQueryMethod.isQueryForEntity() || isProjectingQuery(localQueryMethod)) {
 			if (result.isEmpty()) {
 				return null;
 			}
 			else if (result.size() == 1) {
-				return result.iterator().next();
+				return project(localQueryMethod, result.iterator().next());
 			}
 			else {
 				throw new IncorrectResultSizeDataAccessException(1, result.size());
 			}
 		}
 		else if (isSingleResultNonEntityQuery(localQueryMethod, result)) {
-			return result.iterator().next();
+			return toReturnedType(localQueryMethod, result.iterator().next());
 		}
 		else {
 			throw new IllegalStateException("Unsupported query: " + query.toString());
 		}
 	}
 
+	/**
+	 * Returns the arguments passed to the query method that are bound to the query parameters, excluding
+	 * special arguments such as {@link Pageable} and {@link org.springframework.data.domain.Sort}, so that
+	 * the position of each argument matches the number of its query parameter placeholder.
+	 *
+	 * @param queryMethod the {@link QueryMethod} backing this repository query.
+	 * @param parameterAccessor the {@link ParametersParameterAccessor} over the arguments passed to the query method.
+	 * @return the arguments bound to the query parameters.
+	 */
+	Object[] getBindableParameters(QueryMethod queryMethod, ParametersParameterAccessor parameterAccessor) {
+		Object[] bindableParameters =
+			new Object[queryMethod.getParameters().getBindableParameters().getNumberOfParameters()];
+
+		for (int index = 0; index < bindableParameters.length; index++) {
+			bindableParameters[index] = parameterAccessor.getBindableValue(index);
+		}
+
+		return bindableParameters;
+	}
+
+	/**
+	 * Executes the query for the {@link org.springframework.data.domain.Pageable} passed to the query method,
+	 * returning a {@link org.springframework.data.domain.Page}, a {@link org.springframework.data.domain.Slice}
+	 * or the content of the page depending on the return type of the query method.
+	 *
+	 * @param queryMethod the {@link QueryMethod} backing this repository query.
+	 * @param query the OQL query with all {@literal IN} parameters bound.
+	 * @param pageable the {@link org.springframework.data.domain.Pageable} passed to the query method.
+	 * @param parameters the arguments bound to the query parameters, excluding the {@link Pageable}.
+	 * @return the page of results.
+	 * @see org.springframework.data.gemfire.repository.query.PagedQueryExecution
+	 */
+	Object executePaged(QueryMethod queryMethod, QueryString query, Pageable pageable, Object[] parameters) {
+		PagedQueryExecution execution = new PagedQueryExecution(template, query, resolvePersistentEntity(queryMethod));
+
+		if (queryMethod.isPageQuery()) {
+			return execution.page(pageable, parameters);
+		}
+
+		Slice<?> slice = execution.slice(pageable, parameters);
+
+		return (queryMethod.isSliceQuery() ? slice : slice.getContent());
+	}
+
+	/**
+	 * Executes the query for a query method returning a {@link java.util.stream.Stream} or an {@link java.util.Iterator},
+	 * delivering the query results one page at a time as they are consumed.
+	 *
+	 * @param queryMethod the {@link QueryMethod} backing this repository query.
+	 * @param query the OQL query with all {@literal IN} parameters bound.
+	 * @param parameters the arguments bound to the query parameters.
+	 * @return a {@link java.util.stream.Stream} or a {@link CloseableIterator} over the query results.
+	 * @see org.springframework.data.gemfire.repository.query.PagedQueryIterator
+	 */
+	Object executeStreaming(QueryMethod queryMethod, QueryString query, Object[] parameters) {
+		CloseableIterator<Object> iterator = new PagedQueryIterator<Object>(new PagedQueryExecution(template, query,
+			resolvePersistentEntity(queryMethod)), PagedQueryIterator.DEFAULT_PAGE_SIZE, parameters);
+
+		if (queryMethod.isStreamQuery()) {
+			return StreamUtils.createStreamFromIterator(iterator);
+		}
+
+		return iterator;
+	}
+
+	/* (non-Javadoc) */
+	boolean isStreamingQuery(QueryMethod queryMethod) {
+		return (queryMethod.isStreamQuery() || (queryMethod instanceof GemfireQueryMethod
+			&& ((GemfireQueryMethod) queryMethod).isIteratorQuery()));
+	}
+
+	/* (non-Javadoc) */
+	boolean isProjectingQuery(QueryMethod queryMethod) {
+		return resolveResultProcessor(queryMethod).getReturnedType().isProjecting();
+	}
+
+	/**
+	 * Resolves the {@link ResultProcessor} of the given {@link QueryMethod}.  The {@link ResultProcessor} of a query
+	 * method returning an {@link java.util.Iterator} processes the elements of the {@link java.util.Iterator},
+	 * since Spring Data does not unwrap the {@link java.util.Iterator} return type.
+	 *
+	 * @param queryMethod the {@link QueryMethod} backing this repository query.
+	 * @return the {@link ResultProcessor} of the query results, or the elements of the query results
+	 * returned by an {@link java.util.Iterator}.
+	 * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod#getIteratorElementType()
+	 */
+	ResultProcessor resolveResultProcessor(QueryMethod queryMethod) {
+		ResultProcessor resultProcessor = queryMethod.getResultProcessor();
+
+		if (queryMethod instanceof GemfireQueryMethod && ((GemfireQueryMethod) queryMethod).isIteratorQuery()) {
+			ResultProcessor localIteratorResultProcessor = this.iteratorResultProcessor;
+
+			if (localIteratorResultProcessor == null) {
+				localIteratorResultProcessor = resultProcessor.withDynamicProjection(new ProjectionParameterAccessor(
+					((GemfireQueryMethod) queryMethod).getIteratorElementType()));
+
+				this.iteratorResultProcessor = localIteratorResultProcessor;
+			}
+
+			return localIteratorResultProcessor;
+		}
+
+		return resultProcessor;
+	}
+
+	/**
+	 * Converts the query results into the interface or DTO projection returned by the query method.
+	 *
+	 * @param queryMethod the {@link QueryMethod} backing this repository query.
+	 * @param result the query results, a single query result, a page of query results or a stream of query results.
+	 * @return the projected query results, or the query results as is if the query method does not return
+	 * a projection.
+	 * @see org.springframework.data.gemfire.repository.query.ProjectingResultConverter
+	 * @see org.springframework.data.repository.query.ResultProcessor#processResult(Object, org.springframework.core.convert.converter.Converter)
+	 */
+	@SuppressWarnings("unchecked")
+	Object project(QueryMethod queryMethod, Object result) {
+		ResultProcessor resultProcessor = resolveResultProcessor(queryMethod);
+
+		if (resultProcessor.getReturnedType().isProjecting()) {
+			ProjectingResultConverter converter = new ProjectingResultConverter(resultProcessor.getReturnedType());
+
+			if (result instanceof CloseableIterator) {
+				return new ProjectingCloseableIterator(resultProcessor, converter, (CloseableIterator<Object>) result);
+			}
+
+			return resultProcessor.processResult(result, converter);
+		}
+
+		return result;
+	}
+
+	/* (non-Javadoc) */
+	GemfirePersistentEntity<?> resolvePersistentEntity(QueryMethod queryMethod) {
+		return (queryMethod instanceof GemfireQueryMethod
+			? ((GemfireQueryMethod) queryMethod).getPersistentEntity() : null);
+	}
+
+	/**
+	 * Resolves the OQL query for the target Region, applies the query annotation extensions ({@literal @Hint},
+	 * {@literal @Import}, {@literal @Limit} and {@literal @Trace}) and determines the {@literal IN} parameter indexes
+	 * once for this query method, caching the result for all subsequent executions.
+	 *
+	 * @param queryMethod the {@link QueryMethod} backing this repository query.
+	 * @return the {@link PreparedQuery} for this query method.
+	 * @see #applyQueryAnnotationExtensions(QueryMethod, QueryString)
+	 */
+	PreparedQuery prepareQuery(final QueryMethod queryMethod) {
+		PreparedQuery localPreparedQuery = this.preparedQuery;
+
+		if (localPreparedQuery == null) {
+			QueryString resolvedQuery = (isUserDefinedQuery() ? this.query : this.query.forRegion(
+				queryMethod.getEntityInformation().getJavaType(), template.getRegion()));
+
+			List<Integer> inParameterIndexes = new ArrayList<Integer>();
+
+			for (Integer index : resolvedQuery.getInParameterIndexes()) {
+				inParameterIndexes.add(index);
+			}
+
+			// NOTE query annotation extensions only prepend or append to the OQL statement and therefore do not
+			// interfere with the IN parameters subsequently bound on each execution
+			resolvedQuery = applyQueryAnnotationExtensions(queryMethod, resolvedQuery);
+
+			localPreparedQuery = new PreparedQuery(resolvedQuery, inParameterIndexes);
+			this.preparedQuery = localPreparedQuery;
+		}
+
+		return localPreparedQuery;
+	}
+
 	QueryString applyQueryAnnotationExtensions(final QueryMethod queryMethod, final QueryString queryString) {
 		QueryString resolvedQueryString = queryString;
 
@@ -174,6 +375,24 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			&& !Void.TYPE.equals(method.getReturnedObjectType()) && result != null && result.size() == 1);
 	}
 
+	/**
+	 * Converts a numeric query result, such as the {@literal count(*)} of a count query, into the numeric type
+	 * returned by the query method.
+	 *
+	 * @param method the {@link QueryMethod} backing this repository query.
+	 * @param result the single result of the query.
+	 * @return the result converted into the numeric type returned by the query method, or the result as is.
+	 * @see org.springframework.util.NumberUtils#convertNumberToTargetClass(Number, Class)
+	 */
+	@SuppressWarnings("unchecked")
+	Object toReturnedType(QueryMethod method, Object result) {
+		Class<?> returnedType = ClassUtils.resolvePrimitiveIfNecessary(method.getReturnedObjectType());
+
+		return (result instanceof Number && Number.class.isAssignableFrom(returnedType)
+			&& !returnedType.isInstance(result) ? NumberUtils.convertNumberToTargetClass((Number) result,
+				(Class<Number>) returnedType) : result);
+	}
+
 	/**
 	 * Returns the given object as a Collection. Collections will be returned as is, Arrays will be converted into a
 	 * Collection and all other objects will be wrapped into a single-element Collection.
@@ -201,4 +420,116 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return (source.getClass().isArray() ? CollectionUtils.arrayToList(source) : Collections.singletonList(source));
 	}
 
+	/**
+	 * The PreparedQuery class captures the Region-resolved and annotation-decorated OQL query along with
+	 * the {@literal IN} parameter indexes of a query method.
+	 */
+	static final class PreparedQuery {
+
+		private final List<Integer> inParameterIndexes;
+
+		private final QueryString query;
+
+		PreparedQuery(final QueryString query, final List<Integer> inParameterIndexes) {
+			this.query = query;
+			this.inParameterIndexes = Collections.unmodifiableList(inParameterIndexes);
+		}
+
+		List<Integer> getInParameterIndexes() {
+			return inParameterIndexes;
+		}
+
+		QueryString getQuery() {
+			return query;
+		}
+
+		boolean hasInParameters() {
+			return !inParameterIndexes.isEmpty();
+		}
+	}
+
+	/**
+	 * {@link CloseableIterator} projecting the query results of the underlying {@link CloseableIterator}
+	 * one at a time as they are consumed.
+	 */
+	static class ProjectingCloseableIterator implements CloseableIterator<Object> {
+
+		private final CloseableIterator<Object> delegate;
+
+		private final ProjectingResultConverter converter;
+
+		private final ResultProcessor resultProcessor;
+
+		ProjectingCloseableIterator(ResultProcessor resultProcessor, ProjectingResultConverter converter,
+				CloseableIterator<Object> delegate) {
+
+			this.resultProcessor = resultProcessor;
+			this.converter = converter;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			return resultProcessor.processResult(delegate.next(), converter);
+		}
+
+		@Override
+		public void remove() {
+			delegate.remove();
+		}
+
+		@Override
+		public void close() {
+			delegate.close();
+		}
+	}
+
+	/**
+	 * {@link ParameterAccessor} providing only the projection type, used to resolve the {@link ResultProcessor}
+	 * of the elements returned by an {@link Iterator}.
+	 */
+	static class ProjectionParameterAccessor implements ParameterAccessor {
+
+		private final Class<?> projection;
+
+		ProjectionParameterAccessor(Class<?> projection) {
+			this.projection = projection;
+		}
+
+		@Override
+		public Pageable getPageable() {
+			return null;
+		}
+
+		@Override
+		public Sort getSort() {
+			return null;
+		}
+
+		@Override
+		public Class<?> getDynamicProjection() {
+			return projection;
+		}
+
+		@Override
+		public Object getBindableValue(int index) {
+			throw new UnsupportedOperationException("Not Implemented");
+		}
+
+		@Override
+		public boolean hasBindableNullValue() {
+			return false;
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return Collections.emptyList().iterator();
+		}
+	}
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * The BulkWriteException class is a {@link DataAccessException} thrown when one or more batches of a bulk write
+ * or remove failed.  The batches that did not fail were applied; the exception reports the keys of the failed batches,
+ * the number of entries written or removed and the causes of the failures.
+ *
+ * @author John Blum
+ * @see org.springframework.dao.DataAccessException
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @since 1.9.0
+ */
+@SuppressWarnings("serial")
+public class BulkWriteException extends DataAccessException {
+
+	private final List<?> failedKeys;
+
+	private final List<Throwable> causes;
+
+	private final long writeCount;
+
+	/**
+	 * Constructs an instance of BulkWriteException.
+	 *
+	 * @param message the detail message.
+	 * @param failedKeys the keys of the entries in the failed batches.
+	 * @param writeCount the number of entries written or removed by the successful batches.
+	 * @param causes the causes of the failed batches; must contain at least one cause.
+	 */
+	public BulkWriteException(String message, List<?> failedKeys, long writeCount, List<Throwable> causes) {
+		super(message, causes.get(0));
+		this.failedKeys = Collections.unmodifiableList(failedKeys);
+		this.writeCount = writeCount;
+		this.causes = Collections.unmodifiableList(causes);
+	}
+
+	/**
+	 * Returns the causes of all failed batches, in the order the batches were written.
+	 *
+	 * @return a List of the causes of all failed batches.
+	 */
+	public List<Throwable> getCauses() {
+		return causes;
+	}
+
+	/**
+	 * Returns the keys of the entries in the failed batches.
+	 *
+	 * @return a List of the keys of the entries that may not have been written.
+	 */
+	public List<?> getFailedKeys() {
+		return failedKeys;
+	}
+
+	/**
+	 * Returns the number of entries written or removed by the successful batches.
+	 *
+	 * @return the number of entries written or removed.
+	 */
+	public long getWriteCount() {
+		return writeCount;
+	}
+
+}
@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 
 import com.gemstone.gemfire.cache.Region;
 
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
@@ -57,6 +58,10 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 	private final Regions regions;
 
+	private AsyncTaskExecutor taskExecutor;
+
+	private int batchSize = SimpleGemfireRepository.DEFAULT_BATCH_SIZE;
+
 	/**
 	 * Creates a new {@link GemfireRepositoryFactory}.
 	 *
@@ -74,6 +79,26 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		this.regions = new Regions(regions, this.mappingContext);
 	}
 
+	/**
+	 * Sets the maximum number of entities written with a single bulk operation by the created Repositories.
+	 *
+	 * @param batchSize the maximum number of entities per bulk operation; 0 disables batching.
+	 * @see SimpleGemfireRepository#setBatchSize(int)
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets the {@link AsyncTaskExecutor} used by the created Repositories to write batches concurrently.
+	 *
+	 * @param taskExecutor the {@link AsyncTaskExecutor} used to write batches concurrently.
+	 * @see SimpleGemfireRepository#setTaskExecutor(AsyncTaskExecutor)
+	 */
+	public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getEntityInformation(java.lang.Class)
@@ -96,7 +121,15 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfireTemplate gemfireTemplate = getTemplate(repositoryInformation);
 
-		return getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate,
+			entityInformation);
+
+		if (repository instanceof SimpleGemfireRepository) {
+			((SimpleGemfireRepository<?, ?>) repository).setBatchSize(batchSize);
+			((SimpleGemfireRepository<?, ?>) repository).setTaskExecutor(taskExecutor);
+		}
+
+		return repository;
 	}
 
 	GemfireTemplate getTemplate(RepositoryMetadata metadata) {
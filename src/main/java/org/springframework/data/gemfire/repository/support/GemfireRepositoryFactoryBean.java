@@ -24,6 +24,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
@@ -54,6 +55,10 @@ import com.gemstone.gemfire.cache.Region;
 public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
 		extends RepositoryFactoryBeanSupport<T, S, ID> implements ApplicationContextAware {
 
+	private AsyncTaskExecutor taskExecutor;
+
+	private int batchSize = SimpleGemfireRepository.DEFAULT_BATCH_SIZE;
+
 	private Iterable<Region<?, ?>> regions;
 
 	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
@@ -97,6 +102,26 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ext
 		return this.mappingContext;
 	}
 
+	/**
+	 * Sets the maximum number of entities written with a single bulk operation by the Repository.
+	 *
+	 * @param batchSize the maximum number of entities per bulk operation; 0 disables batching.
+	 * @see SimpleGemfireRepository#setBatchSize(int)
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets the {@link AsyncTaskExecutor} used by the Repository to write batches concurrently.
+	 *
+	 * @param taskExecutor the {@link AsyncTaskExecutor} used to write batches concurrently.
+	 * @see SimpleGemfireRepository#setTaskExecutor(AsyncTaskExecutor)
+	 */
+	public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
 	/**
 	 * Returns an {@link Iterable} reference to the GemFire {@link Region}s defined
 	 * in the Spring {@link ApplicationContext}.
@@ -115,7 +140,13 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ext
 	 */
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
-		return new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
+		GemfireRepositoryFactory repositoryFactory = new GemfireRepositoryFactory(getRegions(),
+			getGemfireMappingContext());
+
+		repositoryFactory.setBatchSize(batchSize);
+		repositoryFactory.setTaskExecutor(taskExecutor);
+
+		return repositoryFactory;
 	}
 	
 	/* 
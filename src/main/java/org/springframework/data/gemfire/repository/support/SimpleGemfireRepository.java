@@ -19,22 +19,38 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireCallback;
 import org.springframework.data.gemfire.GemfireTemplate;
-import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.BulkGemfireRepository;
 import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
+import org.springframework.data.gemfire.repository.query.PagedQueryExecution;
 import org.springframework.data.gemfire.repository.query.QueryString;
+import org.springframework.data.gemfire.support.ClearRegionFunction;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import com.gemstone.gemfire.cache.Cache;
 import com.gemstone.gemfire.cache.CacheTransactionManager;
 import com.gemstone.gemfire.cache.DataPolicy;
 import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.execute.Execution;
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.FunctionService;
 import com.gemstone.gemfire.cache.query.SelectResults;
 
 /**
@@ -45,15 +61,33 @@ import com.gemstone.gemfire.cache.query.SelectResults;
  * @author John Blum
  * @see java.io.Serializable
  * @see org.springframework.data.gemfire.GemfireTemplate
- * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @see org.springframework.data.gemfire.repository.BulkGemfireRepository
  * @see com.gemstone.gemfire.cache.Cache
  * @see com.gemstone.gemfire.cache.Region
  */
-public class SimpleGemfireRepository<T, ID extends Serializable> implements GemfireRepository<T, ID> {
+public class SimpleGemfireRepository<T, ID extends Serializable> implements BulkGemfireRepository<T, ID> {
+
+	/**
+	 * Default maximum number of entities written with a single {@link Region#putAll(Map)}
+	 * or removed with a single {@link Region#removeAll(Collection)}.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * Maximum number of batches written concurrently when a {@link #setTaskExecutor(AsyncTaskExecutor) TaskExecutor}
+	 * is configured.
+	 */
+	protected static final int MAX_BATCHES_IN_FLIGHT = 8;
+
+	static final String EXISTS_ALL_OQL_TEMPLATE = "SELECT DISTINCT k FROM %1$s.keySet k WHERE k IN $1";
+
+	private AsyncTaskExecutor taskExecutor;
 
 	private final GemfireTemplate template;
 	private final EntityInformation<T, ID> entityInformation;
 
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
 	/**
 	 * Creates a new {@link SimpleGemfireRepository}.
 	 *
@@ -69,6 +103,35 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 		this.entityInformation = entityInformation;
 	}
 
+	/**
+	 * Sets the maximum number of entities written with a single bulk operation; 0 writes all entities
+	 * with a single bulk operation.
+	 *
+	 * @param batchSize the maximum number of entities per bulk operation; must not be negative.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize >= 0, String.format("batchSize [%d] must not be negative", batchSize));
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Sets the {@link AsyncTaskExecutor} used to write the batches of a bulk operation concurrently;
+	 * {@literal null} writes the batches sequentially on the calling thread.
+	 *
+	 * @param taskExecutor the {@link AsyncTaskExecutor} used to write batches concurrently.
+	 */
+	public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	public AsyncTaskExecutor getTaskExecutor() {
+		return taskExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -80,22 +143,41 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 		return entity;
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Saves the given entities in batches of at most {@link #getBatchSize() batch size} entities, iterating
+	 * the entities once and holding only the batches being written in memory.
 	 *
+	 * Within a batch, the last entity for an ID wins.  When an ID occurs in more than one batch, a later batch
+	 * overwrites an earlier one only if the batches are written sequentially, i.e. without a
+	 * {@link #setTaskExecutor(AsyncTaskExecutor) TaskExecutor} or within a cache transaction; batches written
+	 * concurrently may complete in any order.
+	 *
+	 * @param entities the entities to save.
+	 * @return the given entities.
 	 * @see org.springframework.data.repository.CrudRepository#save(java.lang.Iterable)
 	 */
 	@Override
 	public <U extends T> Iterable<U> save(Iterable<U> entities) {
-		Map<ID, U> result = new HashMap<ID, U>();
+		BulkWriter writer = new BulkWriter("written");
+
+		Map<ID, U> batch = new HashMap<ID, U>();
 
 		for (U entity : entities) {
-			result.put(entityInformation.getId(entity), entity);
+			batch.put(entityInformation.getId(entity), entity);
+
+			if (batchSize > 0 && batch.size() >= batchSize) {
+				writer.putAll(batch);
+				batch = new HashMap<ID, U>();
+			}
 		}
 
-		template.putAll(result);
+		if (!batch.isEmpty()) {
+			writer.putAll(batch);
+		}
+
+		writer.complete();
 
-		return result.values();
+		return entities;
 	}
 
 	/*
@@ -110,25 +192,84 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 		return template.put(wrapper.getKey(), wrapper.getEntity());
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Counts the entities from the size of the Region rather than with an OQL {@literal count(*)} query.
+	 * The size of a client Region is requested from the server, which holds all entities.
 	 *
+	 * @return the number of entities in the Region.
+	 * @see com.gemstone.gemfire.cache.Region#size()
+	 * @see com.gemstone.gemfire.cache.Region#sizeOnServer()
 	 * @see org.springframework.data.repository.CrudRepository#count()
 	 */
 	@Override
 	public long count() {
-		SelectResults<Integer> results = template.find("SELECT count(*) FROM " + template.getRegion().getFullPath());
-		return (long) results.iterator().next();
+		return template.execute(new GemfireCallback<Long>() {
+			@Override
+			@SuppressWarnings("rawtypes")
+			public Long doInGemfire(final Region region) {
+				return (long) (isClient(region) ? region.sizeOnServer() : region.size());
+			}
+		});
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Determines whether an entity with the given ID exists from the keys of the Region, without reading
+	 * and deserializing the entity.  The keys of a client Region are checked on the server.
 	 *
+	 * @param id the ID of the entity.
+	 * @return a boolean value indicating whether an entity with the given ID exists.
+	 * @see com.gemstone.gemfire.cache.Region#containsKey(Object)
+	 * @see com.gemstone.gemfire.cache.Region#containsKeyOnServer(Object)
 	 * @see org.springframework.data.repository.CrudRepository#exists(java.io.Serializable)
 	 */
 	@Override
 	public boolean exists(ID id) {
-		return (findOne(id) != null);
+		return (isClient(template.getRegion()) ? template.containsKeyOnServer(id) : template.containsKey(id));
+	}
+
+	/**
+	 * Determines whether entities with all of the given IDs exist.  The keys of a client Region are checked
+	 * on the server with one OQL query over the Region's key set per batch of {@link #getBatchSize()} IDs.
+	 *
+	 * @param ids the IDs of the entities.
+	 * @return a boolean value indicating whether entities with all of the given IDs exist.
+	 * @see org.springframework.data.gemfire.repository.BulkGemfireRepository#existsAll(java.lang.Iterable)
+	 */
+	@Override
+	public boolean existsAll(Iterable<ID> ids) {
+		Region<?, ?> region = template.getRegion();
+
+		if (!isClient(region)) {
+			for (ID id : ids) {
+				if (!template.containsKey(id)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		Set<ID> batch = new LinkedHashSet<ID>();
+
+		for (ID id : ids) {
+			batch.add(id);
+
+			if (batchSize > 0 && batch.size() >= batchSize) {
+				if (!existsAllOnServer(region, batch)) {
+					return false;
+				}
+
+				batch = new LinkedHashSet<ID>();
+			}
+		}
+
+		return (batch.isEmpty() || existsAllOnServer(region, batch));
+	}
+
+	/* (non-Javadoc) */
+	boolean existsAllOnServer(final Region<?, ?> region, final Set<ID> ids) {
+		SelectResults<ID> results = template.find(String.format(EXISTS_ALL_OQL_TEMPLATE, region.getFullPath()), ids);
+		return (results != null && results.size() == ids.size());
 	}
 
 	/*
@@ -168,6 +309,28 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 		return selectResults.asList();
 	}
 
+	/**
+	 * Returns a {@link Page} of entities.  Passing the {@link Page#nextPageable()} of the previous {@link Page}
+	 * seeks directly to the next {@link Page} by the keyset of the previous {@link Page} rather than reading
+	 * and skipping the entities on all previous pages.
+	 *
+	 * @param pageable the {@link Pageable} describing the {@link Page} to return.
+	 * @return a {@link Page} of entities.
+	 * @see org.springframework.data.gemfire.repository.query.KeysetPageRequest
+	 * @see org.springframework.data.gemfire.repository.query.PagedQueryExecution
+	 * @see org.springframework.data.repository.PagingAndSortingRepository#findAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Page<T> findAll(Pageable pageable) {
+		QueryString query = new QueryString("SELECT * FROM /RegionPlaceholder")
+			.forRegion(entityInformation.getJavaType(), template.getRegion());
+
+		GemfirePersistentEntity<T> entity = (entityInformation instanceof DefaultGemfireEntityInformation
+			? ((DefaultGemfireEntityInformation<T, ID>) entityInformation).getPersistentEntity() : null);
+
+		return new PagedQueryExecution(template, query, entity).page(pageable);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -214,9 +377,46 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 	 */
 	@Override
 	public void delete(Iterable<? extends T> entities) {
+		List<ID> ids = new ArrayList<ID>();
+
 		for (T entity : entities) {
-			delete(entity);
+			ids.add(entityInformation.getId(entity));
+		}
+
+		deleteAll(ids);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.data.gemfire.repository.BulkGemfireRepository#deleteAll(java.lang.Iterable)
+	 */
+	@Override
+	public void deleteAll(Iterable<ID> ids) {
+		Set<ID> uniqueIds = new LinkedHashSet<ID>();
+
+		for (ID id : ids) {
+			uniqueIds.add(id);
 		}
+
+		BulkWriter writer = new BulkWriter("removed");
+
+		List<ID> batch = new ArrayList<ID>();
+
+		for (ID id : uniqueIds) {
+			batch.add(id);
+
+			if (batchSize > 0 && batch.size() >= batchSize) {
+				writer.removeAll(batch);
+				batch = new ArrayList<ID>();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			writer.removeAll(batch);
+		}
+
+		writer.complete();
 	}
 
 	/*
@@ -239,6 +439,25 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 		return (dataPolicy != null && dataPolicy.withPartitioning());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.gemstone.gemfire.cache.RegionAttributes#getPoolName()
+	 */
+	boolean isClient(final Region region) {
+		return (region != null && region.getAttributes() != null
+			&& StringUtils.hasText(region.getAttributes().getPoolName()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.gemstone.gemfire.cache.DataPolicy#EMPTY
+	 */
+	boolean isClientProxy(final Region region) {
+		return (isClient(region) && DataPolicy.EMPTY.equals(region.getAttributes().getDataPolicy()));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -262,12 +481,66 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 	/* (non-Javadoc) */
 	@SuppressWarnings("unchecked")
 	void doRegionClear(final Region region) {
-		region.removeAll(region.keySet());
+		Set<Object> keys = region.keySet();
+
+		if (batchSize <= 0 || keys.size() <= batchSize) {
+			region.removeAll(keys);
+		}
+		else {
+			List<Object> batch = new ArrayList<Object>(batchSize);
+
+			for (Object key : keys) {
+				batch.add(key);
+
+				if (batch.size() >= batchSize) {
+					region.removeAll(batch);
+					batch = new ArrayList<Object>(batchSize);
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				region.removeAll(batch);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.gemstone.gemfire.cache.execute.FunctionService#isRegistered(String)
+	 */
+	boolean isClearFunctionRegistered() {
+		return FunctionService.isRegistered(ClearRegionFunction.ID);
+	}
+
+	/* (non-Javadoc) */
+	Execution newClearFunctionExecution(final Region region) {
+		return FunctionService.onRegion(region);
 	}
 
 	/*
 	 * (non-Javadoc)
 	 *
+	 * @see org.springframework.data.gemfire.support.ClearRegionFunction
+	 */
+	boolean doFunctionClear(final Region region) {
+		try {
+			newClearFunctionExecution(region).withArgs(batchSize).execute(ClearRegionFunction.ID).getResult();
+			return true;
+		}
+		catch (FunctionException ignore) {
+			return false;
+		}
+	}
+
+	/**
+	 * Deletes all entities.  When the {@link ClearRegionFunction} is registered, a partitioned Region or a client
+	 * PROXY Region outside of a transaction is cleared on the servers, in parallel on each data node for the local
+	 * primary buckets, without reading the keys into the caller.  Client Regions that cache entries locally are not
+	 * cleared with the Function, which would leave the local entries in place.  Otherwise, the Region is cleared or its keys are removed
+	 * in batches of {@link #getBatchSize()}.
+	 *
+	 * @see org.springframework.data.gemfire.support.ClearRegionFunction
 	 * @see org.springframework.data.repository.CrudRepository#deleteAll()
 	 */
 	@Override
@@ -276,6 +549,11 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 			@Override
 			@SuppressWarnings("rawtypes")
 			public Void doInGemfire(final Region region) {
+				if (isClearFunctionRegistered() && (isPartitioned(region) || isClientProxy(region))
+						&& !isTransactionPresent(region) && doFunctionClear(template.getRegion())) {
+					return null;
+				}
+
 				if (isPartitioned(region) || isTransactionPresent(region)) {
 					doRegionClear(region);
 				}
@@ -293,4 +571,163 @@ public class SimpleGemfireRepository<T, ID extends Serializable> implements Gemf
 		});
 	}
 
+	/**
+	 * Writes the batches of a bulk operation either sequentially or, when a TaskExecutor is configured and
+	 * no cache transaction is in progress, concurrently with at most {@link #MAX_BATCHES_IN_FLIGHT} batches in flight.
+	 * A failed batch does not stop the remaining batches; all failures are reported in a {@link BulkWriteException}
+	 * once all batches completed.  When the calling Thread is interrupted while waiting for a batch, the batches
+	 * still in flight are cancelled and no further batches are written.
+	 */
+	class BulkWriter {
+
+		private final AsyncTaskExecutor taskExecutor;
+
+		private final String outcome;
+
+		private final LinkedList<PendingBatch> pendingBatches = new LinkedList<PendingBatch>();
+
+		private final List<Object> failedKeys = new ArrayList<Object>();
+
+		private final List<Throwable> causes = new ArrayList<Throwable>();
+
+		private InterruptedException interruption;
+
+		private int batchCount;
+
+		private long writeCount;
+
+		BulkWriter(String outcome) {
+			this.outcome = outcome;
+
+			// NOTE batches written on other Threads would escape the cache transaction of the calling Thread
+			this.taskExecutor = (getTaskExecutor() != null && !isTransactionPresent(template.getRegion())
+				? getTaskExecutor() : null);
+		}
+
+		/* (non-Javadoc) */
+		void putAll(final Map<?, ?> batch) {
+			submit(batch.keySet(), new Runnable() {
+				@Override
+				public void run() {
+					template.putAll(batch);
+				}
+			});
+		}
+
+		/* (non-Javadoc) */
+		void removeAll(final Collection<?> batch) {
+			submit(batch, new Runnable() {
+				@Override
+				public void run() {
+					template.removeAll(batch);
+				}
+			});
+		}
+
+		/* (non-Javadoc) */
+		void submit(Collection<?> keys, Runnable operation) {
+			batchCount++;
+
+			if (interruption != null) {
+				failed(keys, interruption);
+			}
+			else if (taskExecutor == null) {
+				try {
+					operation.run();
+					writeCount += keys.size();
+				}
+				catch (RuntimeException e) {
+					failed(keys, e);
+				}
+			}
+			else {
+				if (pendingBatches.size() >= MAX_BATCHES_IN_FLIGHT) {
+					await(pendingBatches.removeFirst());
+				}
+
+				if (interruption != null) {
+					failed(keys, interruption);
+				}
+				else {
+					pendingBatches.add(new PendingBatch(keys, taskExecutor.submit(operation)));
+				}
+			}
+		}
+
+		/* (non-Javadoc) */
+		void complete() {
+			while (!pendingBatches.isEmpty()) {
+				await(pendingBatches.removeFirst());
+			}
+
+			if (!causes.isEmpty()) {
+				throw new BulkWriteException(String.format("%1$d of %2$d batches failed; %3$d entries were %4$s",
+					causes.size(), batchCount, writeCount, outcome), failedKeys, writeCount, causes);
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void await(PendingBatch pendingBatch) {
+			try {
+				awaitCompleted(pendingBatch);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				interruption = e;
+				failed(pendingBatch.keys, e);
+				cancelPendingBatches();
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void awaitCompleted(PendingBatch pendingBatch) throws InterruptedException {
+			try {
+				pendingBatch.future.get();
+				writeCount += pendingBatch.keys.size();
+			}
+			catch (ExecutionException e) {
+				failed(pendingBatch.keys, e.getCause());
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void cancelPendingBatches() {
+			for (PendingBatch pendingBatch : pendingBatches) {
+				if (pendingBatch.future.cancel(true)) {
+					failed(pendingBatch.keys, interruption);
+				}
+				else {
+					// NOTE the batch already completed; get() returns without waiting
+					try {
+						awaitCompleted(pendingBatch);
+					}
+					catch (InterruptedException e) {
+						failed(pendingBatch.keys, e);
+					}
+				}
+			}
+
+			pendingBatches.clear();
+		}
+
+		/* (non-Javadoc) */
+		private void failed(Collection<?> keys, Throwable cause) {
+			failedKeys.addAll(keys);
+			causes.add(cause);
+		}
+	}
+
+	/* (non-Javadoc) */
+	static final class PendingBatch {
+
+		private final Collection<?> keys;
+
+		private final Future<?> future;
+
+		PendingBatch(Collection<?> keys, Future<?> future) {
+			this.keys = keys;
+			this.future = future;
+		}
+	}
+
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.execute.Function;
+import com.gemstone.gemfire.cache.execute.FunctionContext;
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.RegionFunctionContext;
+import com.gemstone.gemfire.cache.partition.PartitionRegionHelper;
+
+/**
+ * ClearRegionFunction is a GemFire Function class that removes all entries of the Region on which it is executed.
+ *
+ * When executed on a partitioned Region, the Function runs in parallel on each member hosting primary buckets
+ * and removes the entries of the local primary buckets in batches, so the keys never leave the data nodes.
+ * On other Regions, the Region is cleared.  The Function returns the number of entries removed by each member.
+ * The batch size may be passed as the Function argument.
+ *
+ * The Function must be registered on the data nodes, and on the caller to enable its use
+ * by {@link org.springframework.data.gemfire.repository.support.SimpleGemfireRepository#deleteAll()}.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.execute.Function
+ * @see com.gemstone.gemfire.cache.partition.PartitionRegionHelper#getLocalPrimaryData(Region)
+ * @since 1.9.0
+ */
+public class ClearRegionFunction implements Function {
+
+	private static final long serialVersionUID = 4261907113545312466L;
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	public static final String ID = ClearRegionFunction.class.getName();
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.Function#execute(com.gemstone.gemfire.cache.execute.FunctionContext)
+	 */
+	@Override
+	public void execute(FunctionContext functionContext) {
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		Region<Object, Object> region = ((RegionFunctionContext) functionContext).getDataSet();
+
+		functionContext.getResultSender().lastResult(clear(region, resolveBatchSize(functionContext.getArguments())));
+	}
+
+	/* (non-Javadoc) */
+	int resolveBatchSize(Object arguments) {
+		Object batchSize = (arguments instanceof Object[] && ((Object[]) arguments).length > 0
+			? ((Object[]) arguments)[0] : arguments);
+
+		return (batchSize instanceof Number && ((Number) batchSize).intValue() > 0 ? ((Number) batchSize).intValue()
+			: DEFAULT_BATCH_SIZE);
+	}
+
+	/* (non-Javadoc) */
+	int clear(Region<Object, Object> region, int batchSize) {
+		if (isPartitioned(region)) {
+			return removeAll(region, getLocalPrimaryKeys(region), batchSize);
+		}
+
+		int size = region.size();
+
+		try {
+			region.clear();
+			return size;
+		}
+		catch (UnsupportedOperationException ignore) {
+			return removeAll(region, region.keySet(), batchSize);
+		}
+	}
+
+	/* (non-Javadoc) */
+	boolean isPartitioned(Region<Object, Object> region) {
+		return PartitionRegionHelper.isPartitionedRegion(region);
+	}
+
+	/* (non-Javadoc) */
+	Collection<Object> getLocalPrimaryKeys(Region<Object, Object> region) {
+		return PartitionRegionHelper.getLocalPrimaryData(region).keySet();
+	}
+
+	/* (non-Javadoc) */
+	int removeAll(Region<Object, Object> region, Collection<Object> keys, int batchSize) {
+		List<Object> batch = new ArrayList<Object>(batchSize);
+		int count = 0;
+
+		for (Object key : keys) {
+			batch.add(key);
+
+			if (batch.size() >= batchSize) {
+				region.removeAll(batch);
+				count += batch.size();
+				batch = new ArrayList<Object>(batchSize);
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			region.removeAll(batch);
+			count += batch.size();
+		}
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.Function#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.Function#hasResult()
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.Function#isHA()
+	 */
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.gemstone.gemfire.cache.execute.Function#optimizeForWrite()
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+}
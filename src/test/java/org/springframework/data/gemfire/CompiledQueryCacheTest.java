@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.query.Query;
+import com.gemstone.gemfire.cache.query.QueryService;
+
+/**
+ * Unit tests for {@link CompiledQueryCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.CompiledQueryCache
+ * @since 1.9.0
+ */
+public class CompiledQueryCacheTest {
+
+	private static final String POOL = "serverPool";
+
+	private static final String QUERY_ONE = "SELECT * FROM /Example";
+	private static final String QUERY_TWO = "SELECT * FROM /Example WHERE id = $1";
+	private static final String QUERY_THREE = "SELECT count(*) FROM /Example";
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidMaximumSize() {
+		new CompiledQueryCache(0);
+	}
+
+	@Test
+	public void getQueryCompilesOnceAndCountsHitsAndMisses() {
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQuery = mock(Query.class);
+
+		when(mockQueryService.newQuery(QUERY_ONE)).thenReturn(mockQuery);
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		assertThat(queryCache.getQuery(POOL, mockQueryService, QUERY_ONE), is(sameInstance(mockQuery)));
+		assertThat(queryCache.getQuery(POOL, mockQueryService, QUERY_ONE), is(sameInstance(mockQuery)));
+		assertThat(queryCache.getHitCount(), is(1L));
+		assertThat(queryCache.getMissCount(), is(1L));
+		assertThat(queryCache.size(), is(1));
+
+		verify(mockQueryService, times(1)).newQuery(QUERY_ONE);
+	}
+
+	@Test
+	public void getQueryResolvesQueryServiceOnMissOnly() {
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQuery = mock(Query.class);
+
+		when(mockQueryService.newQuery(QUERY_ONE)).thenReturn(mockQuery);
+
+		CompiledQueryCache.QueryServiceProvider mockQueryServiceProvider =
+			mock(CompiledQueryCache.QueryServiceProvider.class);
+
+		when(mockQueryServiceProvider.getQueryService()).thenReturn(mockQueryService);
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		assertThat(queryCache.getQuery(POOL, mockQueryServiceProvider, QUERY_ONE), is(sameInstance(mockQuery)));
+		assertThat(queryCache.getQuery(POOL, mockQueryServiceProvider, QUERY_ONE), is(sameInstance(mockQuery)));
+		assertThat(queryCache.getQuery(POOL, mockQueryServiceProvider, QUERY_ONE), is(sameInstance(mockQuery)));
+
+		verify(mockQueryServiceProvider, times(1)).getQueryService();
+	}
+
+	@Test
+	public void getQueryHitsForNewQueryServiceInstancesOfTheSameTarget() {
+		QueryService mockQueryServiceOne = mock(QueryService.class, "QueryServiceOne");
+		QueryService mockQueryServiceTwo = mock(QueryService.class, "QueryServiceTwo");
+		Query mockQuery = mock(Query.class);
+
+		when(mockQueryServiceOne.newQuery(QUERY_ONE)).thenReturn(mockQuery);
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		assertThat(queryCache.getQuery(POOL, mockQueryServiceOne, QUERY_ONE), is(sameInstance(mockQuery)));
+		assertThat(queryCache.getQuery(POOL, mockQueryServiceTwo, QUERY_ONE), is(sameInstance(mockQuery)));
+		assertThat(queryCache.getHitCount(), is(1L));
+		assertThat(queryCache.getMissCount(), is(1L));
+		assertThat(queryCache.size(), is(1));
+
+		verify(mockQueryServiceTwo, never()).newQuery(QUERY_ONE);
+	}
+
+	@Test
+	public void getQueryIsKeyedByQueryTarget() {
+		QueryService mockQueryServiceOne = mock(QueryService.class, "QueryServiceOne");
+		QueryService mockQueryServiceTwo = mock(QueryService.class, "QueryServiceTwo");
+		Query mockQueryOne = mock(Query.class, "QueryOne");
+		Query mockQueryTwo = mock(Query.class, "QueryTwo");
+
+		when(mockQueryServiceOne.newQuery(QUERY_ONE)).thenReturn(mockQueryOne);
+		when(mockQueryServiceTwo.newQuery(QUERY_ONE)).thenReturn(mockQueryTwo);
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		assertThat(queryCache.getQuery(POOL, mockQueryServiceOne, QUERY_ONE), is(sameInstance(mockQueryOne)));
+		assertThat(queryCache.getQuery("[local]", mockQueryServiceTwo, QUERY_ONE), is(sameInstance(mockQueryTwo)));
+		assertThat(queryCache.getMissCount(), is(2L));
+		assertThat(queryCache.size(), is(2));
+	}
+
+	@Test
+	public void leastRecentlyUsedQueryIsEvicted() {
+		QueryService mockQueryService = mock(QueryService.class);
+
+		when(mockQueryService.newQuery(QUERY_ONE)).thenReturn(mock(Query.class, "QueryOne"));
+		when(mockQueryService.newQuery(QUERY_TWO)).thenReturn(mock(Query.class, "QueryTwo"));
+		when(mockQueryService.newQuery(QUERY_THREE)).thenReturn(mock(Query.class, "QueryThree"));
+
+		CompiledQueryCache queryCache = new CompiledQueryCache(2);
+
+		queryCache.getQuery(POOL, mockQueryService, QUERY_ONE);
+		queryCache.getQuery(POOL, mockQueryService, QUERY_TWO);
+		queryCache.getQuery(POOL, mockQueryService, QUERY_ONE);
+		queryCache.getQuery(POOL, mockQueryService, QUERY_THREE);
+
+		assertThat(queryCache.size(), is(2));
+
+		queryCache.getQuery(POOL, mockQueryService, QUERY_ONE);
+		queryCache.getQuery(POOL, mockQueryService, QUERY_TWO);
+
+		verify(mockQueryService, times(1)).newQuery(QUERY_ONE);
+		verify(mockQueryService, times(2)).newQuery(QUERY_TWO);
+		verify(mockQueryService, times(1)).newQuery(QUERY_THREE);
+	}
+
+	@Test
+	public void clearInvalidatesCompiledQueries() {
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQueryOne = mock(Query.class, "QueryOne");
+		Query mockQueryTwo = mock(Query.class, "QueryTwo");
+
+		when(mockQueryService.newQuery(QUERY_ONE)).thenReturn(mockQueryOne, mockQueryTwo);
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		assertThat(queryCache.getQuery(POOL, mockQueryService, QUERY_ONE), is(sameInstance(mockQueryOne)));
+
+		queryCache.clear();
+
+		assertThat(queryCache.size(), is(0));
+		assertThat(queryCache.getQuery(POOL, mockQueryService, QUERY_ONE), is(not(sameInstance(mockQueryOne))));
+	}
+
+}
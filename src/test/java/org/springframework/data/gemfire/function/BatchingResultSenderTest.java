@@ -13,11 +13,14 @@
 package org.springframework.data.gemfire.function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.Test;
@@ -50,6 +53,170 @@ public class BatchingResultSenderTest {
 		testBatchingResultSender(new TestListResultSender(),1000);
 	}
 	
+	@Test
+	public void lastResultIsSentWhenLengthIsMultipleOfBatchSize() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(25, resultSender).sendArrayResults(new int[100]);
+
+		assertEquals(4, resultSender.chunks.size());
+		assertEquals(1, resultSender.lastResultCount);
+		assertSame(resultSender.chunks.get(3), resultSender.lastResult);
+	}
+
+	@Test
+	public void primitiveArrayChunksPreserveComponentTypeAndValues() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+		long[] values = new long[10];
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = index;
+		}
+
+		new BatchingResultSender(3, resultSender).sendArrayResults(values);
+
+		assertEquals(4, resultSender.chunks.size());
+		assertEquals(1, resultSender.lastResultCount);
+
+		long expected = 0;
+
+		for (Object chunk : resultSender.chunks) {
+			assertTrue(chunk instanceof long[]);
+
+			for (long value : (long[]) chunk) {
+				assertEquals(expected++, value);
+			}
+		}
+
+		assertEquals(10, expected);
+	}
+
+	@Test
+	public void arrayFittingInOneChunkIsSentWithoutCopying() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+		double[] values = new double[10];
+
+		new BatchingResultSender(100, resultSender).sendArrayResults(values);
+
+		assertEquals(1, resultSender.lastResultCount);
+		assertSame(values, resultSender.lastResult);
+	}
+
+	@Test
+	public void emptyResultsSendLastResult() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(10, resultSender).sendResults(Collections.emptyList());
+		new BatchingResultSender(10, resultSender).sendArrayResults(new Object[0]);
+
+		assertEquals(2, resultSender.lastResultCount);
+	}
+
+	@Test
+	public void arrayChunksAreSizedByBytes() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(0, 400, resultSender).sendArrayResults(new int[1000]);
+
+		assertEquals(10, resultSender.chunks.size());
+		assertEquals(1, resultSender.lastResultCount);
+
+		for (Object chunk : resultSender.chunks) {
+			assertEquals(100, ((int[]) chunk).length);
+		}
+	}
+
+	@Test
+	public void batchSizeCapsByteSizedChunks() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		new BatchingResultSender(50, 400, resultSender).sendArrayResults(new byte[1000]);
+
+		assertEquals(20, resultSender.chunks.size());
+	}
+
+	@Test
+	public void listChunksAreNotReused() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+		List<Integer> result = new ArrayList<Integer>();
+
+		for (int i = 0; i < 10; i++) {
+			result.add(i);
+		}
+
+		new BatchingResultSender(5, resultSender).sendResults(result);
+
+		assertEquals(2, resultSender.chunks.size());
+		assertEquals(5, ((List<?>) resultSender.chunks.get(0)).size());
+		assertEquals(0, ((List<?>) resultSender.chunks.get(0)).get(0));
+		assertEquals(5, ((List<?>) resultSender.chunks.get(1)).get(0));
+	}
+
+	@Test
+	public void iterableChunksAreSizedByBytes() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+		List<Long> result = new ArrayList<Long>();
+
+		for (long i = 0; i < 100; i++) {
+			result.add(i);
+		}
+
+		new BatchingResultSender(0, 90, resultSender).sendResults(result);
+
+		assertTrue(resultSender.chunks.size() > 1);
+		assertEquals(1, resultSender.lastResultCount);
+
+		int total = 0;
+
+		for (Object chunk : resultSender.chunks) {
+			total += ((List<?>) chunk).size();
+		}
+
+		assertEquals(100, total);
+		assertEquals(0L, ((List<?>) resultSender.chunks.get(0)).get(0));
+	}
+
+	@Test
+	public void slowIterableResultsAreFlushedAfterTheFlushInterval() {
+		RecordingResultSender resultSender = new RecordingResultSender();
+
+		Iterable<Integer> result = new Iterable<Integer>() {
+			@Override
+			public Iterator<Integer> iterator() {
+				return new Iterator<Integer>() {
+					int count = 0;
+
+					@Override
+					public boolean hasNext() {
+						return count < 5;
+					}
+
+					@Override
+					public Integer next() {
+						try {
+							Thread.sleep(20);
+						}
+						catch (InterruptedException ignore) {
+							Thread.currentThread().interrupt();
+						}
+
+						return count++;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+
+		new BatchingResultSender(100, 0, 10L, resultSender).sendResults(result);
+
+		assertEquals(5, resultSender.chunks.size());
+		assertEquals(1, resultSender.lastResultCount);
+	}
+
 	private void testBatchingResultSender(AbstractTestResultSender resultSender, int batchSize){
 		BatchingResultSender brs = new BatchingResultSender(batchSize, resultSender);
 		
@@ -115,6 +282,32 @@ public class BatchingResultSenderTest {
 		
 	}
 	
+	public static class RecordingResultSender implements ResultSender<Object> {
+
+		private final List<Object> chunks = new ArrayList<Object>();
+
+		private int lastResultCount;
+
+		private Object lastResult;
+
+		@Override
+		public void lastResult(Object result) {
+			chunks.add(result);
+			lastResult = result;
+			lastResultCount++;
+		}
+
+		@Override
+		public void sendException(Throwable cause) {
+			fail();
+		}
+
+		@Override
+		public void sendResult(Object result) {
+			chunks.add(result);
+		}
+	}
+
 	public static class TestArrayResultSender extends AbstractTestResultSender {
 	
 		protected void addResults(Object arg0, List<Object> results) {	
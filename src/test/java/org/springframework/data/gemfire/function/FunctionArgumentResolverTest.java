@@ -286,6 +286,43 @@ public class FunctionArgumentResolverTest {
         assertSame(resultSender, args[1]);
     }
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMethodWithInjectedParametersBeforeAndAfterArguments() throws NoSuchMethodException {
+		RegionFunctionContext functionContext = mock(RegionFunctionContext.class);
+		Region<Object, Object> region = mock(Region.class);
+		ResultSender<Object> resultSender = mock(ResultSender.class);
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithInjectedParametersBeforeAndAfterArguments",
+			FunctionContext.class, String.class, Map.class, Integer.class, ResultSender.class);
+		FunctionArgumentResolver far = new FunctionContextInjectingArgumentResolver(method);
+
+		when(functionContext.getArguments()).thenReturn(new Object[] { "hello", 1 });
+		when(functionContext.getDataSet()).thenReturn(region);
+		when(functionContext.getResultSender()).thenReturn(resultSender);
+
+		Object[] args = far.resolveFunctionArguments(functionContext);
+
+		assertEquals(5, args.length);
+		assertSame(functionContext, args[0]);
+		assertEquals("hello", args[1]);
+		assertSame(region, args[2]);
+		assertEquals(1, args[3]);
+		assertSame(resultSender, args[4]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMethodWithWrongNumberOfArguments() throws NoSuchMethodException {
+		FunctionContext functionContext = mock(FunctionContext.class);
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithNoSpecialArgs", String.class, int.class,
+			boolean.class);
+
+		when(functionContext.getArguments()).thenReturn(new Object[] { "hello" });
+
+		new FunctionContextInjectingArgumentResolver(method).resolveFunctionArguments(functionContext);
+	}
+
 	@SuppressWarnings("unused")
     static class TestFunction {
 
@@ -326,6 +363,10 @@ public class FunctionArgumentResolverTest {
         public void methodWithFunctionContextAndResultSender(FunctionContext fc1, ResultSender<?> rs) {
 
         }
+
+        public void methodWithInjectedParametersBeforeAndAfterArguments(FunctionContext fc, String s1,
+                @RegionData Map<?, ?> data, Integer i1, ResultSender<?> rs) {
+        }
     }
 
 }
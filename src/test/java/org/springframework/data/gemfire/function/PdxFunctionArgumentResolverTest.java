@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -261,6 +262,39 @@ public class PdxFunctionArgumentResolverTest {
 		assertArguments(expectedArguments, actualArguments);
 	}
 
+	@Test
+	public void testResolveSerializedFunctionArgumentsProbesClasspathOncePerClassName() {
+		final AtomicInteger classpathProbes = new AtomicInteger(0);
+
+		functionArgumentResolver = new PdxFunctionArgumentResolver() {
+			@Override public Method getFunctionAnnotatedMethod() {
+				return getMethod(FunctionExecutions.class, "serializedMethod", Boolean.class, Person.class,
+					String.class, Gender.class);
+			}
+
+			@Override boolean isOnClasspath(final String className) {
+				classpathProbes.incrementAndGet();
+				return super.isOnClasspath(className);
+			}
+		};
+
+		Person jackHandy = createPerson("Jack", "Handy", Gender.MALE);
+
+		Object[] serializedArguments = { Boolean.TRUE, toPdxInstance(jackHandy), "test", toPdxInstance(Gender.MALE) };
+		Object[] expectedArguments = { Boolean.TRUE, jackHandy, "test", Gender.MALE };
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class,
+			"testResolveSerializedFunctionArgumentsProbesClasspathOncePerClassName");
+
+		when(mockFunctionContext.getArguments()).thenReturn(serializedArguments);
+
+		for (int count = 0; count < 3; count++) {
+			assertArguments(expectedArguments, functionArgumentResolver.resolveFunctionArguments(mockFunctionContext));
+		}
+
+		assertEquals(2, classpathProbes.get());
+	}
+
 	public static interface FunctionExecutions {
 
 		void simpleMethod(Boolean value1, Character value2, Integer value3, Double value4, String value5);
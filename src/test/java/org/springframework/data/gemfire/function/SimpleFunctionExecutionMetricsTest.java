@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics.ExecutionSide;
+import org.springframework.data.gemfire.function.SimpleFunctionExecutionMetrics.Statistics;
+
+import com.gemstone.gemfire.cache.execute.FunctionContext;
+import com.gemstone.gemfire.cache.execute.ResultSender;
+
+/**
+ * Unit tests for {@link SimpleFunctionExecutionMetrics} and the metrics recorded by {@link PojoFunctionWrapper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.SimpleFunctionExecutionMetrics
+ * @since 1.9.0
+ */
+public class SimpleFunctionExecutionMetricsTest {
+
+	@Test
+	public void recordsExecutionsFailuresAndLatencies() {
+		SimpleFunctionExecutionMetrics metrics = new SimpleFunctionExecutionMetrics();
+
+		metrics.recordExecution("fn", ExecutionSide.CALLER, TimeUnit.MICROSECONDS.toNanos(3), 10);
+		metrics.recordExecution("fn", ExecutionSide.CALLER, TimeUnit.MICROSECONDS.toNanos(100), 5);
+		metrics.recordFailure("fn", ExecutionSide.CALLER, TimeUnit.MILLISECONDS.toNanos(50),
+			new RuntimeException("test"), true);
+
+		Statistics statistics = metrics.getStatistics("fn", ExecutionSide.CALLER);
+
+		assertThat(statistics.getExecutionCount(), is(equalTo(2L)));
+		assertThat(statistics.getFailureCount(), is(equalTo(1L)));
+		assertThat(statistics.getTimeoutCount(), is(equalTo(1L)));
+		assertThat(statistics.getResultCount(), is(equalTo(15L)));
+		assertThat(statistics.getLatencyHistogram()[2], is(equalTo(1L)));
+		assertThat(statistics.getLatencyPercentileMicros(0.5d), is(equalTo(127L)));
+		assertThat(metrics.getStatistics("fn", ExecutionSide.SERVER), is(nullValue()));
+
+		metrics.reset();
+
+		assertThat(metrics.getStatistics(ExecutionSide.CALLER).isEmpty(), is(true));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void pojoFunctionRecordsServerSideExecutionAndChunks() throws Exception {
+		SimpleFunctionExecutionMetrics metrics = new SimpleFunctionExecutionMetrics();
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(new TestFunctions(),
+			TestFunctions.class.getMethod("numbers"), "numbers");
+
+		function.setBatchSize(2);
+		function.setFunctionExecutionMetrics(metrics);
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+
+		when(mockFunctionContext.getResultSender()).thenReturn(mock(ResultSender.class));
+
+		function.execute(mockFunctionContext);
+
+		Statistics statistics = metrics.getStatistics("numbers", ExecutionSide.SERVER);
+
+		assertThat(statistics.getExecutionCount(), is(equalTo(1L)));
+		assertThat(statistics.getResultCount(), is(equalTo(5L)));
+		assertThat(statistics.getChunkCount(), is(equalTo(3L)));
+		assertThat(statistics.getAverageResultsPerChunk(), is(equalTo(5.0d / 3.0d)));
+	}
+
+	@Test
+	public void pojoFunctionRecordsResultsSentWithInjectedResultSender() throws Exception {
+		SimpleFunctionExecutionMetrics metrics = new SimpleFunctionExecutionMetrics();
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(new TestFunctions(),
+			TestFunctions.class.getMethod("sendNumbers", ResultSender.class), "sendNumbers");
+
+		function.setFunctionExecutionMetrics(metrics);
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+
+		when(mockFunctionContext.getResultSender()).thenReturn(mock(ResultSender.class));
+
+		function.execute(mockFunctionContext);
+
+		Statistics statistics = metrics.getStatistics("sendNumbers", ExecutionSide.SERVER);
+
+		assertThat(statistics.getExecutionCount(), is(equalTo(1L)));
+		assertThat(statistics.getResultCount(), is(equalTo(3L)));
+		assertThat(statistics.getChunkCount(), is(equalTo(3L)));
+	}
+
+	public static class TestFunctions {
+
+		public List<Integer> numbers() {
+			return Arrays.asList(1, 2, 3, 4, 5);
+		}
+
+		public void sendNumbers(ResultSender<Object> resultSender) {
+			resultSender.sendResult(1);
+			resultSender.sendResult(2);
+			resultSender.lastResult(3);
+		}
+	}
+
+}
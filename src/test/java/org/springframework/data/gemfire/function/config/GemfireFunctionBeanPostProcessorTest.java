@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.config;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
+import org.springframework.data.gemfire.function.SimpleFunctionExecutionMetrics;
+
+/**
+ * Unit tests for the {@link FunctionExecutionMetrics} resolution of {@link GemfireFunctionBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.config.GemfireFunctionBeanPostProcessor
+ * @since 1.9.0
+ */
+public class GemfireFunctionBeanPostProcessorTest {
+
+	@Test
+	public void functionExecutionMetricsBeanIsLookedUpOnFirstUse() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("metrics", new RootBeanDefinition(SimpleFunctionExecutionMetrics.class));
+
+		GemfireFunctionBeanPostProcessor beanPostProcessor = new GemfireFunctionBeanPostProcessor();
+
+		beanPostProcessor.setBeanFactory(beanFactory);
+
+		FunctionExecutionMetrics metrics = beanPostProcessor.resolveFunctionExecutionMetrics();
+
+		assertThat(metrics, is(instanceOf(GemfireFunctionBeanPostProcessor.LazyFunctionExecutionMetrics.class)));
+		assertThat(beanFactory.containsSingleton("metrics"), is(false));
+
+		metrics.recordChunk("TestFunction", 1);
+
+		assertThat(beanFactory.containsSingleton("metrics"), is(true));
+		assertThat(((GemfireFunctionBeanPostProcessor.LazyFunctionExecutionMetrics) metrics).getDelegate(),
+			is(sameInstance(beanFactory.getBean("metrics"))));
+	}
+
+	@Test
+	public void functionExecutionMetricsIsNullWithoutBean() {
+		GemfireFunctionBeanPostProcessor beanPostProcessor = new GemfireFunctionBeanPostProcessor();
+
+		beanPostProcessor.setBeanFactory(new DefaultListableBeanFactory());
+
+		assertThat(beanPostProcessor.resolveFunctionExecutionMetrics(), is(nullValue()));
+	}
+
+}
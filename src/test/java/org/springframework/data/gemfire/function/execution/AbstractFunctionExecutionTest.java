@@ -18,11 +18,13 @@ package org.springframework.data.gemfire.function.execution;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -35,14 +37,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import com.gemstone.gemfire.cache.execute.Execution;
 import com.gemstone.gemfire.cache.execute.Function;
@@ -108,6 +116,79 @@ public class AbstractFunctionExecutionTest {
 		verify(mockResultCollector, never()).getResult();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsyncCompletesWhenResultsEnd() throws Exception {
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		ArgumentCaptor<ResultCollector> resultCollector = ArgumentCaptor.forClass(ResultCollector.class);
+
+		when(mockExecution.withArgs(any(Object[].class))).thenReturn(mockExecution);
+		when(mockExecution.withCollector(resultCollector.capture())).thenReturn(mockExecution);
+		when(mockFunction.hasResult()).thenReturn(true);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		ListenableFuture<Iterable<Object>> future = functionExecution.setFunction(mockFunction).executeAsync();
+
+		assertThat(future.isDone(), is(false));
+
+		verify(mockExecution, times(1)).execute(eq(mockFunction));
+
+		resultCollector.getValue().addResult(null, "one");
+		resultCollector.getValue().addResult(null, "two");
+		resultCollector.getValue().endResults();
+
+		assertThat(future.isDone(), is(true));
+		assertThat(future.get(), is(equalTo((Iterable<Object>) Arrays.<Object>asList("one", "two"))));
+	}
+
+	@Test
+	public void executeAsyncCompletesImmediatelyForFunctionWithoutResult() throws Exception {
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		when(mockExecution.withArgs(any(Object[].class))).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenReturn(mockExecution);
+		when(mockFunction.hasResult()).thenReturn(false);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		ListenableFuture<Iterable<Object>> future = functionExecution.setFunction(mockFunction).executeAsync();
+
+		assertThat(future.isDone(), is(true));
+		assertThat(future.get(), is(nullValue()));
+	}
+
+	@Test
+	public void executeAsyncFailsFutureWhenExecutionFails() throws Exception {
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		when(mockExecution.withArgs(any(Object[].class))).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(mockFunction))).thenThrow(new FunctionException("test"));
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		ListenableFuture<Object> future = functionExecution.setFunction(mockFunction).executeAndExtractAsync();
+
+		expectedException.expect(ExecutionException.class);
+		expectedException.expectCause(isA(FunctionException.class));
+
+		future.get();
+	}
+
 	@Test
 	public void executeAndExtractWithSingleResult() {
 		final List<String> results = Collections.singletonList("test");
@@ -196,4 +277,47 @@ public class AbstractFunctionExecutionTest {
 		functionExecution.setFunctionId("TestFunction").executeAndExtract();
 	}
 
+	@Test
+	public void isTimeoutClassifiesFailuresByCause() {
+		assertThat(AbstractFunctionExecution.isTimeout(new RuntimeException(
+			new FunctionException("All results not received in time provided"))), is(false));
+		assertThat(AbstractFunctionExecution.isTimeout(new FunctionException(new TimeoutException("test"))), is(true));
+		assertThat(AbstractFunctionExecution.isTimeout(new RuntimeException(new FunctionException("test"))), is(false));
+		assertThat(AbstractFunctionExecution.isTimeout(new RuntimeException(new InterruptedException())), is(false));
+		assertThat(AbstractFunctionExecution.isTimeout(new IllegalStateException()), is(false));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAddsTimeoutCauseWhenResultsAreNotReceivedInTime() throws Exception {
+		Function mockFunction = mock(Function.class, "MockFunction");
+		ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+		when(mockExecution.withArgs(any(Object[].class))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(mockFunction))).thenReturn(mockResultCollector);
+		when(mockFunction.hasResult()).thenReturn(true);
+		when(mockResultCollector.getResult(5, TimeUnit.MILLISECONDS)).thenAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				Thread.sleep(50);
+				throw new FunctionException("All results not received in time provided");
+			}
+		});
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		try {
+			functionExecution.setFunction(mockFunction).setTimeout(5).execute();
+			fail("expected RuntimeException");
+		}
+		catch (RuntimeException expected) {
+			assertThat(expected.getCause(), is(instanceOf(FunctionException.class)));
+			assertThat(AbstractFunctionExecution.isTimeout(expected), is(true));
+		}
+	}
+
 }
@@ -17,23 +17,41 @@
 package org.springframework.data.gemfire.function.execution;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
 import com.gemstone.gemfire.cache.execute.Function;
+import com.gemstone.gemfire.cache.execute.FunctionException;
 import com.gemstone.gemfire.cache.execute.ResultCollector;
 
 /**
@@ -221,4 +239,190 @@ public class AbstractFunctionTemplateTest {
 		verify(mockFunctionExecution, times(1)).execute(eq(false));
 	}
 
+	@Test
+	public void executeAsyncWithFunctionIdAndArgs() throws Exception {
+		Object[] args = { "test", "testing", "tested" };
+		List<Object> results = Arrays.asList(args);
+
+		when(mockFunctionExecution.setArgs(args)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setFunctionId("TestFunction")).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setResultCollector(mockResultCollector)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setTimeout(500)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.executeAsync()).thenReturn(futureOf((Iterable<Object>) results));
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		functionTemplate.setResultCollector(mockResultCollector);
+		functionTemplate.setTimeout(500);
+
+		ListenableFuture<Iterable<Object>> future = functionTemplate.executeAsync("TestFunction", args);
+
+		assertThat(future, is(notNullValue()));
+		assertThat(future.get(5, TimeUnit.SECONDS), is(equalTo((Iterable<Object>) results)));
+
+		verify(mockFunctionExecution, times(1)).setArgs(args);
+		verify(mockFunctionExecution, times(1)).setFunctionId("TestFunction");
+		verify(mockFunctionExecution, times(1)).setResultCollector(eq(mockResultCollector));
+		verify(mockFunctionExecution, times(1)).setTimeout(500);
+		verify(mockFunctionExecution, times(1)).executeAsync();
+		verify(mockFunctionExecution, never()).execute();
+	}
+
+	@Test
+	public void executeAndExtractAsyncWithFunctionAndArgs() throws Exception {
+		Object[] args = { "test", "testing", "tested" };
+
+		when(mockFunctionExecution.setArgs(args)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setFunction(mockFunction)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setResultCollector(null)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setTimeout(0)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.executeAndExtractAsync()).thenReturn(futureOf(args[0]));
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		ListenableFuture<String> future = functionTemplate.executeAndExtractAsync(mockFunction, args);
+
+		assertThat(future.get(5, TimeUnit.SECONDS), is(equalTo("test")));
+
+		verify(mockFunctionExecution, times(1)).executeAndExtractAsync();
+		verify(mockFunctionExecution, never()).executeAndExtract();
+	}
+
+	@Test
+	public void defaultAsyncTaskExecutorIsBounded() {
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return null;
+			}
+		};
+
+		assertThat(functionTemplate.getAsyncTaskExecutor(), is(instanceOf(ThreadPoolTaskExecutor.class)));
+
+		ThreadPoolTaskExecutor taskExecutor = (ThreadPoolTaskExecutor) functionTemplate.getAsyncTaskExecutor();
+
+		assertThat(taskExecutor.getCorePoolSize(), is(equalTo(AbstractFunctionTemplate.DEFAULT_ASYNC_POOL_SIZE)));
+		assertThat(taskExecutor.getMaxPoolSize(), is(equalTo(AbstractFunctionTemplate.DEFAULT_ASYNC_POOL_SIZE)));
+		assertThat(taskExecutor.getThreadPoolExecutor().getQueue().remainingCapacity(),
+			is(equalTo(AbstractFunctionTemplate.DEFAULT_ASYNC_QUEUE_CAPACITY)));
+		assertThat(taskExecutor.getThreadPoolExecutor().getRejectedExecutionHandler(),
+			is(instanceOf(ThreadPoolExecutor.AbortPolicy.class)));
+		assertThat(functionTemplate.getAsyncTaskExecutor(), is(sameInstance((Object) taskExecutor)));
+	}
+
+	@Test
+	public void executeStreamingFailsResultsWhenRejected() {
+		Object[] args = { "test" };
+
+		when(mockFunctionExecution.setArgs(args)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setFunctionId("TestFunction")).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setResultCollector(any(ResultCollector.class))).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setTimeout(0)).thenReturn(mockFunctionExecution);
+
+		AsyncListenableTaskExecutor mockTaskExecutor = mock(AsyncListenableTaskExecutor.class);
+
+		doThrow(new TaskRejectedException("test")).when(mockTaskExecutor).execute(any(Runnable.class));
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		functionTemplate.setAsyncTaskExecutor(mockTaskExecutor);
+
+		StreamingResultCollector<Object> results = functionTemplate.executeStreaming("TestFunction", args);
+
+		try {
+			results.iterator().hasNext();
+			fail("expected FunctionException");
+		}
+		catch (FunctionException expected) {
+			assertThat(expected.getCause(), is(instanceOf(TaskRejectedException.class)));
+		}
+
+		verify(mockFunctionExecution, never()).execute(anyBoolean());
+	}
+
+	@Test
+	public void executeStreamingEndsResultsOfFunctionWithoutResult() {
+		Object[] args = { "test" };
+
+		when(mockFunctionExecution.setArgs(args)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setFunctionId("TestFunction")).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setResultCollector(any(ResultCollector.class))).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setTimeout(0)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.hasResult()).thenReturn(false);
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		functionTemplate.setAsyncTaskExecutor(new SimpleAsyncTaskExecutor());
+
+		StreamingResultCollector<Object> results = functionTemplate.executeStreaming("TestFunction", args);
+
+		results.setTimeout(5000L);
+
+		assertThat(results.iterator().hasNext(), is(false));
+
+		verify(mockFunctionExecution, times(1)).execute(eq(false));
+	}
+
+	@Test
+	public void destroyShutsDownDefaultAsyncTaskExecutor() {
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return null;
+			}
+		};
+
+		ThreadPoolTaskExecutor taskExecutor = (ThreadPoolTaskExecutor) functionTemplate.getAsyncTaskExecutor();
+
+		functionTemplate.destroy();
+
+		assertThat(taskExecutor.getThreadPoolExecutor().isShutdown(), is(true));
+		assertThat(functionTemplate.getAsyncTaskExecutor(), is(not(sameInstance((Object) taskExecutor))));
+
+		functionTemplate.destroy();
+	}
+
+	@Test
+	public void destroyLeavesConfiguredAsyncTaskExecutorRunning() {
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+			@Override protected AbstractFunctionExecution getFunctionExecution() {
+				return null;
+			}
+		};
+
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+
+		taskExecutor.initialize();
+
+		try {
+			functionTemplate.setAsyncTaskExecutor(taskExecutor);
+			functionTemplate.destroy();
+
+			assertThat(taskExecutor.getThreadPoolExecutor().isShutdown(), is(false));
+		}
+		finally {
+			taskExecutor.shutdown();
+		}
+	}
+
+	private static <T> ListenableFuture<T> futureOf(T value) {
+		SettableListenableFuture<T> future = new SettableListenableFuture<T>();
+		future.set(value);
+		return future;
+	}
+
 }
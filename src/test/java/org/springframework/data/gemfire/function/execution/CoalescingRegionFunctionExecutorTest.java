@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anySet;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.gemstone.gemfire.cache.execute.FunctionException;
+
+/**
+ * Unit tests for {@link CoalescingRegionFunctionExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.CoalescingRegionFunctionExecutor
+ * @since 1.9.0
+ */
+public class CoalescingRegionFunctionExecutorTest {
+
+	private CoalescingRegionFunctionExecutor executor;
+
+	private GemfireOnRegionOperations mockFunctionOperations;
+
+	@Before
+	public void setup() {
+		mockFunctionOperations = mock(GemfireOnRegionOperations.class);
+		executor = new CoalescingRegionFunctionExecutor(mockFunctionOperations);
+		executor.setCoalescingWindow(50L);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executor.destroy();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void concurrentExecutionsAreMergedAndRoutedByKey() throws Exception {
+		when(mockFunctionOperations.execute(eq("compute"), anySet())).thenAnswer(new Answer<Iterable<Object>>() {
+			@Override
+			public Iterable<Object> answer(InvocationOnMock invocation) throws Throwable {
+				Map<Object, Object> results = new HashMap<Object, Object>();
+
+				for (Object key : (Set<Object>) invocation.getArguments()[1]) {
+					results.put(key, "value" + key);
+				}
+
+				return Collections.<Object>singletonList(results);
+			}
+		});
+
+		ListenableFuture<String> one = executor.execute("compute", 1);
+		ListenableFuture<String> two = executor.execute("compute", 2);
+		ListenableFuture<String> oneAgain = executor.execute("compute", 1);
+
+		assertThat(one.get(5, TimeUnit.SECONDS), is(equalTo("value1")));
+		assertThat(two.get(5, TimeUnit.SECONDS), is(equalTo("value2")));
+		assertThat(oneAgain.get(5, TimeUnit.SECONDS), is(equalTo("value1")));
+
+		ArgumentCaptor<Set> keys = ArgumentCaptor.forClass(Set.class);
+
+		verify(mockFunctionOperations, times(1)).execute(eq("compute"), keys.capture());
+
+		assertThat(keys.getValue(), is(equalTo((Set) new HashSet<Object>(Arrays.asList(1, 2)))));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fullBatchIsExecutedWithoutWaitingForTheCoalescingWindow() throws Exception {
+		executor.setCoalescingWindow(60000L);
+		executor.setMaxBatchSize(2);
+		executor.setResultKeyExtractor(new Converter<Object, Object>() {
+			@Override
+			public Object convert(Object source) {
+				return Integer.valueOf(source.toString().substring(1));
+			}
+		});
+
+		when(mockFunctionOperations.execute(eq("compute"), anySet())).thenReturn(
+			Arrays.<Object>asList("v1", "v2"));
+
+		ListenableFuture<String> one = executor.execute("compute", 1);
+		ListenableFuture<String> two = executor.execute("compute", 2);
+		ListenableFuture<String> three = executor.execute("compute", 3);
+
+		assertThat(one.get(5, TimeUnit.SECONDS), is(equalTo("v1")));
+		assertThat(two.get(5, TimeUnit.SECONDS), is(equalTo("v2")));
+
+		executor.destroy();
+
+		assertThat(three.get(5, TimeUnit.SECONDS), is(nullValue()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void failureIsPropagatedToAllCallers() throws Exception {
+		when(mockFunctionOperations.execute(eq("compute"), anySet())).thenThrow(new FunctionException("test"));
+
+		ListenableFuture<Object> one = executor.execute("compute", 1);
+		ListenableFuture<Object> two = executor.execute("compute", 2);
+
+		for (ListenableFuture<Object> future : Arrays.asList(one, two)) {
+			try {
+				future.get(5, TimeUnit.SECONDS);
+				fail("expected ExecutionException");
+			}
+			catch (ExecutionException expected) {
+				assertThat(expected.getCause(), is(instanceOf(FunctionException.class)));
+			}
+		}
+	}
+
+	@Test
+	public void defaultTaskExecutorIsBounded() {
+		assertThat(executor.getTaskExecutor(), is(instanceOf(ThreadPoolTaskExecutor.class)));
+
+		ThreadPoolTaskExecutor taskExecutor = (ThreadPoolTaskExecutor) executor.getTaskExecutor();
+
+		assertThat(taskExecutor.getMaxPoolSize(), is(equalTo(CoalescingRegionFunctionExecutor.DEFAULT_POOL_SIZE)));
+		assertThat(taskExecutor.getThreadPoolExecutor().getQueue().remainingCapacity(),
+			is(equalTo(CoalescingRegionFunctionExecutor.DEFAULT_QUEUE_CAPACITY)));
+	}
+
+}
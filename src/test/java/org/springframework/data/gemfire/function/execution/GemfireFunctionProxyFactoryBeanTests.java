@@ -23,17 +23,21 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.util.concurrent.ListenableFuture;
  
 /**
  * 
@@ -88,6 +92,42 @@ public class GemfireFunctionProxyFactoryBeanTests {
 	
 	
 	
+	@Test
+	public void invokeAsyncUsesAsyncOperations() throws Throwable {
+		GemfireFunctionOperations asyncFunctionOperations = mock(GemfireFunctionOperations.class,
+			withSettings().extraInterfaces(AsyncGemfireFunctionOperations.class));
+
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class,
+			asyncFunctionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("async", String.class)
+			.withArguments("key");
+
+		ListenableFuture<Object> future = new AsyncResult<Object>(1);
+
+		when(((AsyncGemfireFunctionOperations) asyncFunctionOperations).executeAndExtractAsync("async",
+			invocation.getArguments())).thenReturn(future);
+
+		Object result = proxy.invoke(invocation);
+
+		assertTrue(result == future);
+	}
+
+	@Test
+	public void invokeAsyncWithSynchronousOperationsReturnsCompletedFuture() throws Throwable {
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("future", String.class)
+			.withArguments("key");
+
+		when(functionOperations.executeAndExtract("future", invocation.getArguments())).thenReturn(1);
+
+		Object result = proxy.invoke(invocation);
+
+		assertTrue(result instanceof Future);
+		assertEquals(1, ((Future<?>) result).get());
+	}
+
 	static class TestInvocation implements MethodInvocation {
 		
 		private Class<?>[] argTypes;
@@ -179,6 +219,10 @@ public class GemfireFunctionProxyFactoryBeanTests {
 
 		public abstract Map<String, Integer> getMapWithNoArgs();
 
+		public abstract ListenableFuture<Integer> async(String key);
+
+		public abstract Future<Integer> future(String key);
+
 	}
 	
 	
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.gemfire.function.execution.ScatterGatherResults.MemberStatus;
+
+import com.gemstone.gemfire.cache.Cache;
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.ResultCollector;
+import com.gemstone.gemfire.distributed.DistributedMember;
+import com.gemstone.gemfire.distributed.DistributedSystem;
+
+/**
+ * Unit tests for the scatter-gather Function execution of {@link GemfireOnMembersFunctionTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnMembersFunctionTemplate
+ * @see org.springframework.data.gemfire.function.execution.ScatterGatherResults
+ * @since 1.9.0
+ */
+public class GemfireOnMembersFunctionTemplateTest {
+
+	private DistributedMember fastMember = mock(DistributedMember.class, "fastMember");
+	private DistributedMember failingMember = mock(DistributedMember.class, "failingMember");
+	private DistributedMember slowMember = mock(DistributedMember.class, "slowMember");
+
+	@SuppressWarnings("unchecked")
+	private AbstractFunctionExecution mockExecution(String name) {
+		AbstractFunctionExecution mockExecution = mock(AbstractFunctionExecution.class, name);
+
+		when(mockExecution.setArgs(any(Object[].class))).thenReturn(mockExecution);
+		when(mockExecution.setFunctionId(anyString())).thenReturn(mockExecution);
+		when(mockExecution.setTimeout(anyLong())).thenReturn(mockExecution);
+		when(mockExecution.setResultCollector(any(ResultCollector.class))).thenReturn(mockExecution);
+
+		return mockExecution;
+	}
+
+	@Test
+	public void executeScatterGatherReturnsPartialResultsWithMemberStatus() {
+		final Map<DistributedMember, AbstractFunctionExecution> executions =
+			new HashMap<DistributedMember, AbstractFunctionExecution>();
+
+		AbstractFunctionExecution fastExecution = mockExecution("fastExecution");
+		AbstractFunctionExecution failingExecution = mockExecution("failingExecution");
+		AbstractFunctionExecution slowExecution = mockExecution("slowExecution");
+
+		when(fastExecution.execute()).thenReturn(Arrays.<Object>asList(1, 2));
+		when(failingExecution.execute()).thenThrow(new FunctionException("test"));
+		when(slowExecution.execute()).thenAnswer(new Answer<Iterable<Object>>() {
+			@Override
+			public Iterable<Object> answer(InvocationOnMock invocation) throws Throwable {
+				Thread.sleep(5000);
+				return Collections.<Object>singletonList(3);
+			}
+		});
+
+		executions.put(fastMember, fastExecution);
+		executions.put(failingMember, failingExecution);
+		executions.put(slowMember, slowExecution);
+
+		Set<DistributedMember> members = new LinkedHashSet<DistributedMember>(
+			Arrays.asList(fastMember, failingMember, slowMember));
+
+		GemfireOnMembersFunctionTemplate functionTemplate = new GemfireOnMembersFunctionTemplate(members) {
+			@Override
+			AbstractFunctionExecution getMemberFunctionExecution(DistributedMember member) {
+				return executions.get(member);
+			}
+		};
+
+		long startTime = System.currentTimeMillis();
+
+		ScatterGatherResults<Object> results = functionTemplate.executeScatterGather("TestFunction", 200L, "arg");
+
+		assertTrue(System.currentTimeMillis() - startTime < 5000);
+		assertFalse(results.isComplete());
+		assertThat(results.getResults(), is(equalTo(Arrays.<Object>asList(1, 2))));
+		assertThat(results.getMemberResult(fastMember).getStatus(), is(equalTo(MemberStatus.COMPLETED)));
+		assertThat(results.getMemberResult(failingMember).getStatus(), is(equalTo(MemberStatus.FAILED)));
+		assertThat(results.getMemberResult(failingMember).getCause(), is(instanceOf(FunctionException.class)));
+		assertThat(results.getMembers(MemberStatus.TIMED_OUT), is(equalTo(Collections.singletonList(slowMember))));
+		assertThat(results.getMemberResults().size(), is(equalTo(3)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeScatterGatherDoesNotShareTheResultCollectorBetweenMembers() {
+		final Map<DistributedMember, AbstractFunctionExecution> executions =
+			new HashMap<DistributedMember, AbstractFunctionExecution>();
+
+		AbstractFunctionExecution fastExecution = mockExecution("fastExecution");
+		AbstractFunctionExecution slowExecution = mockExecution("slowExecution");
+
+		when(fastExecution.execute()).thenReturn(Arrays.<Object>asList(1, 2));
+		when(slowExecution.execute()).thenReturn(Arrays.<Object>asList(3));
+
+		executions.put(fastMember, fastExecution);
+		executions.put(slowMember, slowExecution);
+
+		GemfireOnMembersFunctionTemplate functionTemplate = new GemfireOnMembersFunctionTemplate(
+				new LinkedHashSet<DistributedMember>(Arrays.asList(fastMember, slowMember))) {
+			@Override
+			AbstractFunctionExecution getMemberFunctionExecution(DistributedMember member) {
+				return executions.get(member);
+			}
+		};
+
+		functionTemplate.setResultCollector(mock(ResultCollector.class));
+
+		ScatterGatherResults<Object> results = functionTemplate.executeScatterGather("TestFunction", 5000L);
+
+		assertTrue(results.isComplete());
+		assertThat(results.getMemberResult(fastMember).getResults(), is(equalTo(Arrays.<Object>asList(1, 2))));
+		assertThat(results.getMemberResult(slowMember).getResults(), is(equalTo(Arrays.<Object>asList(3))));
+
+		verify(fastExecution, never()).setResultCollector(any(ResultCollector.class));
+		verify(slowExecution, never()).setResultCollector(any(ResultCollector.class));
+	}
+
+	@Test
+	public void executeScatterGatherContactsAllMembersAtOnce() {
+		int memberCount = AbstractFunctionTemplate.DEFAULT_ASYNC_POOL_SIZE + 4;
+
+		final CountDownLatch allMembersContacted = new CountDownLatch(memberCount);
+
+		final Map<DistributedMember, AbstractFunctionExecution> executions =
+			new HashMap<DistributedMember, AbstractFunctionExecution>();
+
+		for (int index = 0; index < memberCount; index++) {
+			AbstractFunctionExecution execution = mockExecution("execution" + index);
+
+			// completes only once every member has been contacted
+			when(execution.execute()).thenAnswer(new Answer<Iterable<Object>>() {
+				@Override
+				public Iterable<Object> answer(InvocationOnMock invocation) throws Throwable {
+					allMembersContacted.countDown();
+					allMembersContacted.await(5, TimeUnit.SECONDS);
+					return Collections.<Object>singletonList(1);
+				}
+			});
+
+			executions.put(mock(DistributedMember.class, "member" + index), execution);
+		}
+
+		GemfireOnMembersFunctionTemplate functionTemplate =
+				new GemfireOnMembersFunctionTemplate(new LinkedHashSet<DistributedMember>(executions.keySet())) {
+			@Override
+			AbstractFunctionExecution getMemberFunctionExecution(DistributedMember member) {
+				return executions.get(member);
+			}
+		};
+
+		ScatterGatherResults<Object> results = functionTemplate.executeScatterGather("TestFunction", 10000L);
+
+		assertTrue(results.isComplete());
+		assertThat(results.getMembers(MemberStatus.COMPLETED).size(), is(equalTo(memberCount)));
+	}
+
+	@Test
+	public void resolveMembersReturnsThisMemberAndCacheMembers() {
+		Cache mockCache = mock(Cache.class);
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+
+		when(mockCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(mockDistributedSystem.getDistributedMember()).thenReturn(fastMember);
+		when(mockCache.getMembers()).thenReturn(Collections.singleton(slowMember));
+
+		final Cache cache = mockCache;
+
+		GemfireOnMembersFunctionTemplate functionTemplate = new GemfireOnMembersFunctionTemplate() {
+			@Override
+			Cache resolveCache() {
+				return cache;
+			}
+		};
+
+		assertThat(functionTemplate.resolveMembers(), is(equalTo((Set<DistributedMember>)
+			new LinkedHashSet<DistributedMember>(Arrays.asList(fastMember, slowMember)))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void executeScatterGatherWithInvalidTimeout() {
+		new GemfireOnMembersFunctionTemplate(Collections.singleton(fastMember)).executeScatterGather("TestFunction", 0L);
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.execute.FunctionException;
+
+/**
+ * Unit tests for {@link StreamingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+ * @since 1.9.0
+ */
+public class StreamingResultCollectorTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidCapacity() {
+		new StreamingResultCollector<Object>(0);
+	}
+
+	@Test
+	public void iteratesUnwrappedChunksInOrder() {
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<Integer>(10);
+
+		resultCollector.addResult(null, Arrays.asList(1, 2, 3));
+		resultCollector.addResult(null, new Object[] { 4, 5 });
+		resultCollector.addResult(null, 6);
+		resultCollector.addResult(null, null);
+		resultCollector.endResults();
+
+		List<Integer> actualResults = new ArrayList<Integer>();
+
+		for (Integer result : resultCollector.getResult()) {
+			actualResults.add(result);
+		}
+
+		assertThat(actualResults, is(equalTo(Arrays.asList(1, 2, 3, 4, 5, 6, null))));
+	}
+
+	@Test
+	public void iteratesChunksWhenUnwrappingIsDisabled() {
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<Object>(10);
+
+		resultCollector.setUnwrapChunks(false);
+		resultCollector.addResult(null, Arrays.asList(1, 2));
+		resultCollector.endResults();
+
+		Iterator<Object> iterator = resultCollector.iterator();
+
+		assertThat(iterator.next(), is(equalTo((Object) Arrays.asList(1, 2))));
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void consumerReceivesResultsWhileTheProducerIsBlocked() throws Exception {
+		final StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<Integer>(2);
+
+		Thread producer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for (int count = 0; count < 100; count++) {
+					resultCollector.addResult(null, count);
+				}
+
+				resultCollector.endResults();
+			}
+		});
+
+		producer.setDaemon(true);
+		producer.start();
+
+		int expected = 0;
+
+		for (Integer result : resultCollector) {
+			assertTrue(resultCollector.getBufferedCount() <= 2);
+			assertThat(result, is(equalTo(expected++)));
+		}
+
+		assertThat(expected, is(equalTo(100)));
+
+		producer.join(5000);
+	}
+
+	@Test(expected = FunctionException.class)
+	public void failureIsRethrownToTheConsumer() {
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<Integer>(10);
+
+		resultCollector.addResult(null, 1);
+		resultCollector.fail(new IllegalStateException("test"));
+
+		Iterator<Integer> iterator = resultCollector.iterator();
+
+		assertThat(iterator.next(), is(equalTo(1)));
+
+		iterator.hasNext();
+	}
+
+	@Test(expected = FunctionException.class)
+	public void timesOutWaitingForTheNextResult() {
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<Integer>(10);
+
+		resultCollector.setTimeout(50);
+		resultCollector.iterator().hasNext();
+	}
+
+	@Test
+	public void closeUnblocksTheProducer() throws Exception {
+		final StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<Integer>(1);
+
+		Thread producer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for (int count = 0; count < 10; count++) {
+					resultCollector.addResult(null, count);
+				}
+			}
+		});
+
+		producer.setDaemon(true);
+		producer.start();
+
+		Iterator<Integer> iterator = resultCollector.iterator();
+
+		assertThat(iterator.next(), is(equalTo(0)));
+
+		resultCollector.close();
+		producer.join(5000);
+
+		assertFalse(producer.isAlive());
+		assertTrue(resultCollector.isClosed());
+		assertThat(resultCollector.getResult() == resultCollector, is(true));
+		assertThat(resultCollector.getTimeout(), is(equalTo(0L)));
+	}
+
+}
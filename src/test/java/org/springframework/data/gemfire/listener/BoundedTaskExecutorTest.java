@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BoundedTaskExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.BoundedTaskExecutor
+ * @since 1.9.0
+ */
+public class BoundedTaskExecutorTest {
+
+	private BoundedTaskExecutor taskExecutor;
+
+	@After
+	public void tearDown() throws Exception {
+		if (taskExecutor != null) {
+			taskExecutor.destroy();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidPoolSize() {
+		new BoundedTaskExecutor("test-", 0, 10, BoundedTaskExecutor.RejectionPolicy.BLOCK);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidQueueCapacity() {
+		new BoundedTaskExecutor("test-", 1, 0, BoundedTaskExecutor.RejectionPolicy.BLOCK);
+	}
+
+	@Test
+	public void executeRunsTasksAndRecordsMetrics() throws Exception {
+		taskExecutor = new BoundedTaskExecutor("test-", 2, 10, null);
+
+		assertThat(taskExecutor.getRejectionPolicy(), is(equalTo(BoundedTaskExecutor.RejectionPolicy.BLOCK)));
+
+		final CountDownLatch latch = new CountDownLatch(5);
+
+		for (int count = 0; count < 5; count++) {
+			taskExecutor.execute(new Runnable() {
+				@Override
+				public void run() {
+					latch.countDown();
+				}
+			});
+		}
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertThat(taskExecutor.getSubmittedCount(), is(equalTo(5L)));
+	}
+
+	@Test
+	public void callerRunsPolicyRunsTaskInCallingThreadWhenQueueIsFull() throws Exception {
+		taskExecutor = new BoundedTaskExecutor("test-", 1, 1, BoundedTaskExecutor.RejectionPolicy.CALLER_RUNS);
+
+		final CountDownLatch blockWorker = new CountDownLatch(1);
+		final CountDownLatch workerStarted = new CountDownLatch(1);
+
+		taskExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				workerStarted.countDown();
+
+				try {
+					blockWorker.await();
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+
+		assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+
+		taskExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+			}
+		});
+
+		final AtomicReference<Thread> runningThread = new AtomicReference<Thread>();
+
+		taskExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				runningThread.set(Thread.currentThread());
+			}
+		});
+
+		blockWorker.countDown();
+
+		assertThat(runningThread.get(), is(equalTo(Thread.currentThread())));
+		assertThat(taskExecutor.getRejectedCount(), is(equalTo(1L)));
+	}
+
+	@Test
+	public void dropOldestPolicyDiscardsOldestQueuedTaskWhenQueueIsFull() throws Exception {
+		taskExecutor = new BoundedTaskExecutor("test-", 1, 1, BoundedTaskExecutor.RejectionPolicy.DROP_OLDEST);
+
+		final CountDownLatch blockWorker = new CountDownLatch(1);
+		final CountDownLatch workerStarted = new CountDownLatch(1);
+		final CountDownLatch lastTaskRan = new CountDownLatch(1);
+
+		taskExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				workerStarted.countDown();
+
+				try {
+					blockWorker.await();
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+
+		assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+
+		taskExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+			}
+		});
+
+		assertThat(taskExecutor.getQueueDepth(), is(equalTo(1)));
+
+		taskExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				lastTaskRan.countDown();
+			}
+		});
+
+		blockWorker.countDown();
+
+		assertTrue(lastTaskRan.await(5, TimeUnit.SECONDS));
+		assertThat(taskExecutor.getDroppedCount(), is(equalTo(1L)));
+		assertThat(taskExecutor.getRejectedCount(), is(equalTo(1L)));
+	}
+
+}
@@ -23,6 +23,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -33,7 +34,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -41,12 +48,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.TestUtils;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 
 import com.gemstone.gemfire.cache.RegionService;
 import com.gemstone.gemfire.cache.client.Pool;
+import com.gemstone.gemfire.cache.query.CqEvent;
 import com.gemstone.gemfire.cache.query.QueryService;
 import com.gemstone.gemfire.internal.cache.PoolManagerImpl;
 
@@ -335,6 +344,135 @@ public class ContinuousQueryListenerContainerTest {
 		assertThat(listenerContainer.initExecutor(), is(instanceOf(Executor.class)));
 	}
 
+	@Test
+	public void initializesBoundedTaskExecutorWhenDispatchPoolSizeIsSet() throws Exception {
+		listenerContainer.setDispatchPoolSize(4);
+		listenerContainer.setDispatchQueueCapacity(100);
+		listenerContainer.setDispatchRejectionPolicy(BoundedTaskExecutor.RejectionPolicy.CALLER_RUNS);
+
+		Executor taskExecutor = listenerContainer.initExecutor();
+
+		assertThat(taskExecutor, is(instanceOf(BoundedTaskExecutor.class)));
+
+		BoundedTaskExecutor boundedTaskExecutor = (BoundedTaskExecutor) taskExecutor;
+
+		try {
+			assertThat(boundedTaskExecutor.getPoolSize(), is(equalTo(4)));
+			assertThat(boundedTaskExecutor.getQueueCapacity(), is(equalTo(100)));
+			assertThat(boundedTaskExecutor.getRejectionPolicy(),
+				is(equalTo(BoundedTaskExecutor.RejectionPolicy.CALLER_RUNS)));
+		}
+		finally {
+			boundedTaskExecutor.destroy();
+		}
+	}
+
+	@Test
+	public void isBatchingWhenBatchSizeIsGreaterThanOne() {
+		assertThat(listenerContainer.isBatching(), is(false));
+
+		listenerContainer.setBatchSize(1);
+
+		assertThat(listenerContainer.isBatching(), is(false));
+
+		listenerContainer.setBatchSize(50);
+
+		assertThat(listenerContainer.isBatching(), is(true));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void eventBatchDispatchesEventsWhenBatchSizeIsReached() {
+		BatchingContinuousQueryListener mockListener = mock(BatchingContinuousQueryListener.class);
+		CqEvent mockEventOne = mock(CqEvent.class, "CqEventOne");
+		CqEvent mockEventTwo = mock(CqEvent.class, "CqEventTwo");
+
+		listenerContainer.setBatchSize(2);
+		listenerContainer.setBatchMaxDelay(0L);
+		listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+		listenerContainer.initExecutor();
+
+		ContinuousQueryListenerContainer.EventBatch eventBatch = listenerContainer.new EventBatch(mockListener);
+
+		eventBatch.add(mockEventOne);
+
+		verify(mockListener, never()).onEvents(any(List.class));
+
+		eventBatch.add(mockEventTwo);
+
+		verify(mockListener, times(1)).onEvents(eq(Arrays.asList(mockEventOne, mockEventTwo)));
+	}
+
+	@Test
+	public void eventBatchDispatchesInOrderWhenTimerFlushRacesSizeFlush() throws Exception {
+		final List<List<CqEvent>> dispatchedBatches = Collections.synchronizedList(new ArrayList<List<CqEvent>>());
+
+		BatchingContinuousQueryListener listener = new BatchingContinuousQueryListener() {
+			@Override public void onEvent(final CqEvent event) {
+				onEvents(Collections.singletonList(event));
+			}
+
+			@Override public void onEvents(final List<CqEvent> events) {
+				dispatchedBatches.add(events);
+			}
+		};
+
+		final CountDownLatch firstDispatchStarted = new CountDownLatch(1);
+		final CountDownLatch releaseFirstDispatch = new CountDownLatch(1);
+
+		listenerContainer.setBatchSize(2);
+		listenerContainer.setBatchMaxDelay(0L);
+		listenerContainer.setTaskExecutor(new Executor() {
+			private boolean first = true;
+
+			@Override public void execute(final Runnable task) {
+				if (first) {
+					first = false;
+					firstDispatchStarted.countDown();
+
+					try {
+						releaseFirstDispatch.await(5, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ignore) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				task.run();
+			}
+		});
+		listenerContainer.initExecutor();
+
+		final ContinuousQueryListenerContainer.EventBatch eventBatch = listenerContainer.new EventBatch(listener);
+
+		final CqEvent mockEventOne = mock(CqEvent.class, "CqEventOne");
+		final CqEvent mockEventTwo = mock(CqEvent.class, "CqEventTwo");
+		CqEvent mockEventThree = mock(CqEvent.class, "CqEventThree");
+
+		Thread sizeFlush = new Thread(new Runnable() {
+			@Override public void run() {
+				eventBatch.add(mockEventOne);
+				eventBatch.add(mockEventTwo);
+			}
+		});
+
+		sizeFlush.start();
+
+		assertThat(firstDispatchStarted.await(5, TimeUnit.SECONDS), is(true));
+
+		// the timer scheduled for the next generation fires while the first batch is still being dispatched
+		eventBatch.add(mockEventThree);
+		eventBatch.flush(1L);
+
+		assertThat(dispatchedBatches.isEmpty(), is(true));
+
+		releaseFirstDispatch.countDown();
+		sizeFlush.join(5000L);
+
+		assertThat(dispatchedBatches, is(equalTo(Arrays.asList(Arrays.asList(mockEventOne, mockEventTwo),
+			Collections.singletonList(mockEventThree)))));
+	}
+
 	@Test
 	public void setCacheSetsQueryService() {
 		QueryService mockQueryService = mock(QueryService.class);
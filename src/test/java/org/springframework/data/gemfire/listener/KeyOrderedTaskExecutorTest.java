@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link KeyOrderedTaskExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.KeyOrderedTaskExecutor
+ * @since 1.9.0
+ */
+public class KeyOrderedTaskExecutorTest {
+
+	private KeyOrderedTaskExecutor taskExecutor;
+
+	@After
+	public void tearDown() throws Exception {
+		if (taskExecutor != null) {
+			taskExecutor.destroy();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithCallerRunsRejectionPolicy() {
+		new KeyOrderedTaskExecutor("test-", 2, 10, BoundedTaskExecutor.RejectionPolicy.CALLER_RUNS);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidLaneCount() {
+		new KeyOrderedTaskExecutor("test-", 0, 10, BoundedTaskExecutor.RejectionPolicy.BLOCK);
+	}
+
+	@Test
+	public void laneForKeyIsStableAndInRange() {
+		taskExecutor = new KeyOrderedTaskExecutor("test-", 4, 10, null);
+
+		assertThat(taskExecutor.getLaneCount(), is(equalTo(4)));
+		assertThat(taskExecutor.laneFor(null), is(equalTo(0)));
+
+		for (int key = -100; key < 100; key++) {
+			int lane = taskExecutor.laneFor(key);
+
+			assertTrue(lane >= 0 && lane < 4);
+			assertThat(taskExecutor.laneFor(key), is(equalTo(lane)));
+		}
+	}
+
+	@Test
+	public void tasksForTheSameKeyRunInSubmissionOrder() throws Exception {
+		taskExecutor = new KeyOrderedTaskExecutor("test-", 4, 1000, null);
+
+		final List<Integer> keyOneResults = Collections.synchronizedList(new ArrayList<Integer>());
+		final List<Integer> keyTwoResults = Collections.synchronizedList(new ArrayList<Integer>());
+		final CountDownLatch latch = new CountDownLatch(200);
+
+		for (int count = 0; count < 100; count++) {
+			final int value = count;
+
+			taskExecutor.execute("keyOne", new Runnable() {
+				@Override
+				public void run() {
+					keyOneResults.add(value);
+					latch.countDown();
+				}
+			});
+
+			taskExecutor.execute("keyTwo", new Runnable() {
+				@Override
+				public void run() {
+					keyTwoResults.add(value);
+					latch.countDown();
+				}
+			});
+		}
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+		for (int count = 0; count < 100; count++) {
+			assertThat(keyOneResults.get(count), is(equalTo(count)));
+			assertThat(keyTwoResults.get(count), is(equalTo(count)));
+		}
+	}
+
+}
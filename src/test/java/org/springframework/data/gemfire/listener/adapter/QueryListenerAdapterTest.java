@@ -22,8 +22,12 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
@@ -108,6 +112,8 @@ public class QueryListenerAdapterTest {
 				Object v);
 
 		void handleInvalid(Object o1, Object o2, Object o3);
+
+		void handleBatch(List<CqEvent> events);
 	}
 
 	@Test
@@ -216,6 +222,59 @@ public class QueryListenerAdapterTest {
 		doThrow(new IllegalArgumentException()).when(mock);
 	}
 
+	@Test
+	public void testHandleBatch() throws Exception {
+		Delegate mock = mock(Delegate.class);
+		ContinuousQueryListenerAdapter adapter = new ContinuousQueryListenerAdapter(mock);
+		adapter.setDefaultListenerMethod("handleBatch");
+		List<CqEvent> events = Arrays.asList(event(), event());
+
+		adapter.onEvents(events);
+		verify(mock).handleBatch(events);
+	}
+
+	@Test
+	public void testHandleBatchWithSingleEventListenerMethod() throws Exception {
+		Delegate mock = mock(Delegate.class);
+		ContinuousQueryListenerAdapter adapter = new ContinuousQueryListenerAdapter(mock);
+		adapter.setDefaultListenerMethod("handleKey");
+		CqEvent event = event();
+
+		adapter.onEvents(Arrays.asList(event, event));
+		verify(mock, times(2)).handleKey(event.getKey());
+	}
+
+	@Test
+	public void testArgumentExtractorsResolvedOnceInParameterOrder() throws Exception {
+		ContinuousQueryListenerAdapter.ArgumentExtractor[] extractors =
+			ContinuousQueryListenerAdapter.ArgumentExtractor.resolve(Delegate.class.getMethod("handleAll",
+				CqEvent.class, CqQuery.class, byte[].class, Object.class, Operation.class, Throwable.class,
+					Operation.class, Object.class).getParameterTypes());
+
+		assertEquals(8, extractors.length);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.EVENT, extractors[0]);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.CQ, extractors[1]);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.DELTA_VALUE, extractors[2]);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.KEY, extractors[3]);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.BASE_OPERATION, extractors[4]);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.THROWABLE, extractors[5]);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.QUERY_OPERATION, extractors[6]);
+		assertSame(ContinuousQueryListenerAdapter.ArgumentExtractor.NEW_VALUE, extractors[7]);
+	}
+
+	@Test
+	public void testHandleEventWithListenerMethodBoundOnStartup() throws Exception {
+		Delegate mock = mock(Delegate.class);
+		ContinuousQueryListenerAdapter adapter = new ContinuousQueryListenerAdapter(mock);
+		adapter.setDefaultListenerMethod("handleKV");
+		adapter.afterPropertiesSet();
+		CqEvent event = event();
+
+		adapter.onEvent(event);
+		adapter.onEvent(event);
+		verify(mock, times(2)).handleKV(event.getKey(), event.getNewValue());
+	}
+
 	/**
 	 * @see SGF-89
 	 */
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.repository.sample.Address;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+import com.gemstone.gemfire.pdx.PdxReader;
+import com.gemstone.gemfire.pdx.PdxSerializer;
+import com.gemstone.gemfire.pdx.PdxWriter;
+
+/**
+ * Unit tests for {@link EntityPdxSerializer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.mapping.EntityPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 1.9.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EntityPdxSerializerUnitTests {
+
+	MappingPdxSerializer serializer;
+
+	@Mock
+	PdxReader mockReader;
+
+	@Mock
+	PdxSerializer mockAddressSerializer;
+
+	@Mock
+	PdxWriter mockWriter;
+
+	@Before
+	public void setUp() {
+		serializer = new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService());
+		serializer.setCustomSerializers(Collections.<Class<?>, PdxSerializer>singletonMap(
+			Address.class, mockAddressSerializer));
+	}
+
+	@Test
+	public void entitySerializerIsCreatedOncePerType() {
+		EntityPdxSerializer entitySerializer = serializer.getEntitySerializer(Person.class);
+
+		assertThat(entitySerializer.getEntity().getType(), is(equalTo((Object) Person.class)));
+		assertThat(serializer.getEntitySerializer(Person.class), is(sameInstance(entitySerializer)));
+
+		serializer.setCustomSerializers(Collections.<Class<?>, PdxSerializer>emptyMap());
+
+		assertThat(serializer.getEntitySerializer(Person.class), is(instanceOf(EntityPdxSerializer.class)));
+		assertThat(serializer.getEntitySerializer(Person.class) == entitySerializer, is(false));
+	}
+
+	@Test
+	public void toDataWritesPrimitivesWithTypedMethodsAndObjectsWithWriteField() {
+		Reading reading = new Reading();
+
+		reading.active = true;
+		reading.count = 42;
+		reading.id = 1L;
+		reading.sensor = "temperature";
+		reading.value = 21.5d;
+
+		assertThat(serializer.toData(reading, mockWriter), is(true));
+
+		verify(mockWriter, times(1)).writeBoolean(eq("active"), eq(true));
+		verify(mockWriter, times(1)).writeInt(eq("count"), eq(42));
+		verify(mockWriter, times(1)).writeLong(eq("id"), eq(1L));
+		verify(mockWriter, times(1)).writeDouble(eq("value"), eq(21.5d));
+		verify(mockWriter, times(1)).writeField(eq("sensor"), eq("temperature"), eq(String.class));
+		verify(mockWriter, times(1)).markIdentityField(eq("id"));
+	}
+
+	@Test
+	public void toDataUsesCustomSerializerAndWriteFieldForNonPrimitiveProperties() {
+		Address address = new Address();
+		address.city = "Portland";
+		address.zipCode = "12345";
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		jonDoe.address = address;
+
+		assertThat(serializer.toData(jonDoe, mockWriter), is(true));
+
+		verify(mockAddressSerializer, times(1)).toData(eq(address), eq(mockWriter));
+		verify(mockWriter, times(1)).writeField(eq("id"), eq(1L), eq(Long.class));
+		verify(mockWriter, times(1)).writeField(eq("firstname"), eq("Jon"), eq(String.class));
+		verify(mockWriter, times(1)).writeField(eq("lastname"), eq("Doe"), eq(String.class));
+		verify(mockWriter, never()).writeLong(anyString(), anyLong());
+		verify(mockWriter, times(1)).markIdentityField(eq("id"));
+	}
+
+	@Test
+	public void fromDataReadsPrimitivesWithTypedMethods() {
+		when(mockReader.readBoolean(eq("active"))).thenReturn(true);
+		when(mockReader.readInt(eq("count"))).thenReturn(42);
+		when(mockReader.readLong(eq("id"))).thenReturn(1L);
+		when(mockReader.readField(eq("sensor"))).thenReturn("temperature");
+		when(mockReader.readDouble(eq("value"))).thenReturn(21.5d);
+
+		Object obj = serializer.fromData(Reading.class, mockReader);
+
+		assertThat(obj, is(instanceOf(Reading.class)));
+
+		Reading reading = (Reading) obj;
+
+		assertThat(reading.active, is(true));
+		assertThat(reading.count, is(equalTo(42)));
+		assertThat(reading.id, is(equalTo(1L)));
+		assertThat(reading.sensor, is(equalTo("temperature")));
+		assertThat(reading.value, is(equalTo(21.5d)));
+
+		verify(mockReader, never()).readField(eq("count"));
+	}
+
+	@Test
+	public void fromDataConvertsValuesNotAssignableToThePropertyType() {
+		when(mockReader.readField(eq("id"))).thenReturn(1);
+		when(mockReader.readField(eq("firstname"))).thenReturn("Jon");
+		when(mockReader.readField(eq("lastname"))).thenReturn("Doe");
+
+		Person jonDoe = (Person) serializer.fromData(Person.class, mockReader);
+
+		assertThat(jonDoe.getId(), is(equalTo(1L)));
+		assertThat(jonDoe.getFirstname(), is(equalTo("Jon")));
+		assertThat(jonDoe.getLastname(), is(equalTo("Doe")));
+
+		verify(mockAddressSerializer, times(1)).fromData(eq(Address.class), eq(mockReader));
+	}
+
+	public static class Reading {
+
+		public boolean active;
+
+		public int count;
+
+		@Id
+		public long id;
+
+		public String sensor;
+
+		public double value;
+
+	}
+
+}
@@ -19,7 +19,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -29,6 +31,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -181,6 +187,25 @@ public class MappingPdxSerializerUnitTests {
 		}
 	}
 
+	@Test
+	public void fromDataHandlesCustomSerializerExceptionProperly() {
+		when(mockInstantiator.createInstance(any(GemfirePersistentEntity.class), any(ParameterValueProvider.class)))
+			.thenReturn(new Person(null, null, null));
+		when(mockAddressSerializer.fromData(eq(Address.class), eq(mockReader)))
+			.thenThrow(new IllegalArgumentException("test"));
+
+		serializer.setGemfireInstantiators(Collections.<Class<?>, EntityInstantiator>singletonMap(
+			Person.class, mockInstantiator));
+
+		expectedException.expect(MappingException.class);
+		expectedException.expectCause(isA(IllegalArgumentException.class));
+		expectedException.expectMessage(String.format(
+			"while setting value [null] of property [address] for entity of type [%1$s] from PDX using custom PdxSerializer [%2$s]",
+				Person.class, mockAddressSerializer));
+
+		serializer.fromData(Person.class, mockReader);
+	}
+
 	@Test
 	public void toDataSerializesApplicationDomainObjectToPdx() {
 		Address address = new Address();
@@ -202,6 +227,98 @@ public class MappingPdxSerializerUnitTests {
 		verify(mockWriter, times(1)).markIdentityField(eq("id"));
 	}
 
+	@Test
+	public void toDataWritesPrimitivePropertiesWithTypedPdxMethods() {
+		Counter counter = new Counter();
+
+		counter.count = 42;
+		counter.name = "hits";
+
+		assertThat(serializer.toData(counter, mockWriter), is(true));
+
+		verify(mockWriter, times(1)).writeInt(eq("count"), eq(42));
+		verify(mockWriter, times(1)).writeField(eq("name"), eq("hits"), eq(String.class));
+		verify(mockWriter, never()).writeField(eq("count"), eq(42), eq(int.class));
+	}
+
+	@Test
+	public void fromDataReadsPrimitivePropertiesWithTypedPdxMethods() {
+		when(mockReader.readInt(eq("count"))).thenReturn(42);
+		when(mockReader.readField(eq("name"))).thenReturn("hits");
+
+		Counter counter = (Counter) serializer.fromData(Counter.class, mockReader);
+
+		assertThat(counter.count, is(equalTo(42)));
+		assertThat(counter.name, is(equalTo("hits")));
+
+		verify(mockReader, never()).readField(eq("count"));
+	}
+
+	@Test
+	public void toDataDoesNotAllocatePerProperty() {
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+		assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported());
+
+		allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+
+		PdxWriter noopWriter = newNoopPdxWriter();
+
+		Counter counter = new Counter();
+
+		counter.count = 42;
+		counter.name = "hits";
+
+		int iterations = 10000;
+
+		// warm up both paths so class loading and JIT compilation are not measured
+		for (int index = 0; index < iterations; index++) {
+			serializer.toData(counter, noopWriter);
+			writeCounterDirectly(counter, noopWriter);
+		}
+
+		long threadId = Thread.currentThread().getId();
+
+		long before = allocationMXBean.getThreadAllocatedBytes(threadId);
+
+		for (int index = 0; index < iterations; index++) {
+			writeCounterDirectly(counter, noopWriter);
+		}
+
+		long baselineBytesPerCall = (allocationMXBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+		before = allocationMXBean.getThreadAllocatedBytes(threadId);
+
+		for (int index = 0; index < iterations; index++) {
+			serializer.toData(counter, noopWriter);
+		}
+
+		long toDataBytesPerCall = (allocationMXBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+		// allow for the single PersistentPropertyAccessor created per call, but nothing per property
+		assertThat(toDataBytesPerCall, is(lessThanOrEqualTo(baselineBytesPerCall + 64L)));
+	}
+
+	/* writes the same PDX fields as the MappingPdxSerializer would, without the serializer */
+	private void writeCounterDirectly(Counter counter, PdxWriter writer) {
+		writer.writeInt("count", counter.count);
+		writer.writeField("name", counter.name, String.class);
+	}
+
+	/* (non-Javadoc) */
+	private PdxWriter newNoopPdxWriter() {
+		return (PdxWriter) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PdxWriter.class },
+			new InvocationHandler() {
+				@Override public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					return (PdxWriter.class.isAssignableFrom(method.getReturnType()) ? proxy : null);
+				}
+			});
+	}
+
 	@Test
 	public void toDataHandlesExceptionProperly() {
 		Address address = new Address();
@@ -232,4 +349,12 @@ public class MappingPdxSerializerUnitTests {
 		}
 	}
 
+	public static class Counter {
+
+		public int count;
+
+		public String name;
+
+	}
+
 }
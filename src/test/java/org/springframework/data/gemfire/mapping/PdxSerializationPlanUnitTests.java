@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.gemfire.repository.sample.Address;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+import com.gemstone.gemfire.pdx.PdxSerializer;
+
+/**
+ * Unit tests for {@link PdxSerializationPlan}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.PdxSerializationPlan
+ * @since 1.9.0
+ */
+public class PdxSerializationPlanUnitTests {
+
+	private MappingPdxSerializer serializer;
+
+	private PdxSerializer mockAddressSerializer;
+
+	@Before
+	public void setUp() {
+		mockAddressSerializer = mock(PdxSerializer.class);
+		serializer = new MappingPdxSerializer(new GemfireMappingContext(), new DefaultConversionService());
+		serializer.setCustomSerializers(Collections.<Class<?>, PdxSerializer>singletonMap(
+			Address.class, mockAddressSerializer));
+	}
+
+	@Test
+	public void planResolvesEntityMetaDataOnce() {
+		PdxSerializationPlan plan = serializer.getSerializationPlan(Person.class);
+
+		assertThat(plan.getEntity().getType(), is(equalTo((Object) Person.class)));
+		assertThat(plan.getIdentityFieldName(), is(equalTo("id")));
+		assertThat(plan.getInstantiator(), is(notNullValue()));
+		assertThat(plan.getPropertyCount(), is(equalTo(4)));
+
+		for (int index = 0; index < plan.getPropertyCount(); index++) {
+			GemfirePersistentProperty property = plan.getProperty(index);
+
+			assertThat(plan.isConstructorArgument(index), is(false));
+
+			if (Address.class.equals(property.getType())) {
+				assertThat(plan.getCustomSerializer(index), is(sameInstance(mockAddressSerializer)));
+			}
+			else {
+				assertThat(plan.getCustomSerializer(index), is(nullValue()));
+			}
+		}
+
+		assertThat(serializer.getSerializationPlan(Person.class), is(sameInstance(plan)));
+	}
+
+	@Test
+	public void planIsResolvedAgainWhenCustomSerializersChange() {
+		PdxSerializationPlan plan = serializer.getSerializationPlan(Person.class);
+
+		serializer.setCustomSerializers(Collections.<Class<?>, PdxSerializer>emptyMap());
+
+		PdxSerializationPlan newPlan = serializer.getSerializationPlan(Person.class);
+
+		assertThat(newPlan == plan, is(false));
+
+		for (int index = 0; index < newPlan.getPropertyCount(); index++) {
+			assertThat(newPlan.getCustomSerializer(index), is(nullValue()));
+		}
+	}
+
+}
@@ -25,7 +25,6 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 
-import org.hamcrest.Matchers;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -147,12 +146,12 @@ public class GemfireQueryMethodUnitTests {
 	 * @link http://jira.spring.io/browse/SGF-112
 	 */
 	@Test
-	public void rejectsQueryMethodWithPageableParameter() throws Exception {
-		expectedException.expect(IllegalStateException.class);
-		expectedException.expectCause(is(nullValue(Throwable.class)));
-		expectedException.expectMessage(Matchers.startsWith("Pagination is not supported by GemFire Repositories; Offending method: someMethod"));
+	public void acceptsQueryMethodWithPageableParameter() throws Exception {
+		GemfireQueryMethod queryMethod = new GemfireQueryMethod(Invalid.class.getMethod("someMethod", Pageable.class),
+			metadata, factory, context);
 
-		new GemfireQueryMethod(Invalid.class.getMethod("someMethod", Pageable.class), metadata, factory, context);
+		assertThat(queryMethod.isPageQuery(), is(true));
+		assertThat(queryMethod.getParameters().hasPageableParameter(), is(true));
 	}
 
 	@Test
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+import com.gemstone.gemfire.cache.query.SelectResults;
+
+/**
+ * Unit tests for {@link PagedQueryExecution}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.PagedQueryExecution
+ * @since 1.9.0
+ */
+public class PagedQueryExecutionTest {
+
+	private static final QueryString QUERY = new QueryString("SELECT * FROM /simple x WHERE x.firstname = $1");
+
+	private GemfirePersistentEntity<?> entity;
+
+	private QueryRecordingGemfireTemplate template;
+
+	@Before
+	public void setup() {
+		entity = new GemfireMappingContext().getPersistentEntity(Person.class);
+		template = new QueryRecordingGemfireTemplate();
+	}
+
+	@Test
+	public void firstSliceIsOrderedByIdentifierAndReadsOneEntityBeyondThePage() {
+		template.willReturn(new Person(1L, "Jon", "Doe"), new Person(2L, "Jon", "Doe"), new Person(3L, "Jon", "Smith"));
+
+		Slice<Person> slice = new PagedQueryExecution(template, QUERY, entity).slice(
+			new PageRequest(0, 2, new Sort("lastname")), "Jon");
+
+		assertThat(template.queries, is(equalTo(Arrays.asList(
+			"SELECT DISTINCT * FROM /simple x WHERE x.firstname = $1 ORDER BY lastname ASC, id ASC LIMIT 3"))));
+		assertThat(slice.getContent().size(), is(equalTo(2)));
+		assertThat(slice.hasNext(), is(true));
+
+		Pageable next = slice.nextPageable();
+
+		assertThat(next, is(instanceOf(KeysetPageRequest.class)));
+		assertThat(next.getPageNumber(), is(equalTo(1)));
+		assertThat(((KeysetPageRequest) next).getKeyset(), is(equalTo(new Object[] { "Doe", 2L })));
+	}
+
+	@Test
+	public void nextSliceSeeksPastTheKeyset() {
+		template.willReturn(new Person(3L, "Jon", "Smith"));
+
+		Slice<Person> slice = new PagedQueryExecution(template, QUERY, entity).slice(
+			new KeysetPageRequest(1, 2, new Sort("lastname"), "Doe", 2L), "Jon");
+
+		assertThat(template.queries, is(equalTo(Arrays.asList(
+			"SELECT DISTINCT * FROM /simple x WHERE (lastname > $2 OR (lastname = $2 AND (id > $3)))"
+				+ " AND (x.firstname = $1) ORDER BY lastname ASC, id ASC LIMIT 3"))));
+		assertThat(template.parameters.get(0), is(equalTo(new Object[] { "Jon", "Doe", 2L })));
+		assertThat(slice.getContent().size(), is(equalTo(1)));
+		assertThat(slice.hasNext(), is(false));
+	}
+
+	@Test
+	public void pageCountsOnlyWhenTheTotalCannotBeDerived() {
+		template.willReturn(new Person(1L), new Person(2L), new Person(3L));
+		template.willReturn(42);
+
+		PagedQueryExecution execution = new PagedQueryExecution(template, QUERY, entity);
+
+		Page<Person> page = execution.page(new KeysetPageRequest(2), "Jon");
+
+		assertThat(page.getTotalElements(), is(equalTo(42L)));
+		assertThat(template.queries.get(1), is(equalTo("SELECT count(*) FROM /simple x WHERE x.firstname = $1")));
+
+		template.queries.clear();
+		template.willReturn(new Person(3L));
+
+		page = execution.page(page.nextPageable(), "Jon");
+
+		assertThat(page.getTotalElements(), is(equalTo(3L)));
+		assertThat(template.queries, is(equalTo(Arrays.asList(
+			"SELECT DISTINCT * FROM /simple x WHERE (id > $2) AND (x.firstname = $1) ORDER BY id ASC LIMIT 3"))));
+	}
+
+	@Test
+	public void queryDeclaringOrderByIsPagedByOffset() {
+		template.willReturn(new Person(1L), new Person(2L), new Person(3L), new Person(4L));
+
+		Slice<Person> slice = new PagedQueryExecution(template,
+			new QueryString("SELECT * FROM /simple ORDER BY lastname"), entity).slice(
+				new KeysetPageRequest(1, 2, null, "Doe", 2L));
+
+		assertThat(template.queries, is(equalTo(Arrays.asList("SELECT * FROM /simple ORDER BY lastname LIMIT 5"))));
+		assertThat(slice.getContent().size(), is(equalTo(2)));
+		assertThat(slice.getContent().get(0).getId(), is(equalTo(3L)));
+		assertThat(slice.hasNext(), is(false));
+	}
+
+	static class QueryRecordingGemfireTemplate extends GemfireTemplate {
+
+		final List<String> queries = new ArrayList<String>();
+		final List<Object[]> parameters = new ArrayList<Object[]>();
+		final LinkedList<List<Object>> results = new LinkedList<List<Object>>();
+
+		void willReturn(Object... results) {
+			this.results.add(Arrays.asList(results));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <E> SelectResults<E> find(String queryString, Object... params) {
+			SelectResults<E> mockSelectResults = mock(SelectResults.class);
+
+			queries.add(queryString);
+			parameters.add(params);
+
+			when(mockSelectResults.asList()).thenReturn((List<E>) results.poll());
+
+			return mockSelectResults;
+		}
+	}
+
+}
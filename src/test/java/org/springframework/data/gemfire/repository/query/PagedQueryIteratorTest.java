@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.query.PagedQueryExecutionTest.QueryRecordingGemfireTemplate;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+/**
+ * Unit tests for {@link PagedQueryIterator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.PagedQueryIterator
+ * @since 1.9.0
+ */
+public class PagedQueryIteratorTest {
+
+	private GemfirePersistentEntity<?> entity;
+
+	private QueryRecordingGemfireTemplate template;
+
+	@Before
+	public void setup() {
+		entity = new GemfireMappingContext().getPersistentEntity(Person.class);
+		template = new QueryRecordingGemfireTemplate();
+	}
+
+	@Test
+	public void iteratesQueryResultsOnePageAtATime() {
+		template.willReturn(new Person(1L), new Person(2L), new Person(3L));
+		template.willReturn(new Person(3L), new Person(4L));
+
+		PagedQueryIterator<Person> iterator = new PagedQueryIterator<Person>(new PagedQueryExecution(template,
+			new QueryString("SELECT * FROM /simple x"), entity), 2);
+
+		List<Long> ids = new ArrayList<Long>();
+
+		while (iterator.hasNext()) {
+			ids.add(iterator.next().getId());
+		}
+
+		assertThat(ids, is(equalTo(Arrays.asList(1L, 2L, 3L, 4L))));
+		assertThat(template.queries, is(equalTo(Arrays.asList(
+			"SELECT DISTINCT * FROM /simple x ORDER BY id ASC LIMIT 3",
+			"SELECT DISTINCT * FROM /simple x WHERE id > $1 ORDER BY id ASC LIMIT 3"))));
+		assertThat(template.parameters.get(1), is(equalTo(new Object[] { 2L })));
+	}
+
+	@Test
+	public void closeEndsTheIteration() {
+		template.willReturn(new Person(1L), new Person(2L), new Person(3L));
+
+		PagedQueryIterator<Person> iterator = new PagedQueryIterator<Person>(new PagedQueryExecution(template,
+			new QueryString("SELECT * FROM /simple x"), entity), 2);
+
+		assertThat(iterator.next().getId(), is(equalTo(1L)));
+
+		iterator.close();
+
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(template.queries.size(), is(equalTo(1)));
+	}
+
+	@Test
+	public void queryDeclaringOrderByIsReadInSinglePage() {
+		template.willReturn(new Person(2L), new Person(1L));
+
+		PagedQueryIterator<Person> iterator = new PagedQueryIterator<Person>(new PagedQueryExecution(template,
+			new QueryString("SELECT * FROM /simple ORDER BY lastname"), entity), 1);
+
+		assertThat(iterator.next().getId(), is(equalTo(2L)));
+		assertThat(iterator.next().getId(), is(equalTo(1L)));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(template.queries, is(equalTo(Arrays.asList("SELECT * FROM /simple ORDER BY lastname"))));
+	}
+
+}
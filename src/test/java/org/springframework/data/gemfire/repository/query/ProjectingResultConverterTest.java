@@ -0,0 +1,257 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.CloseableIterator;
+
+import com.gemstone.gemfire.cache.query.Struct;
+import com.gemstone.gemfire.cache.query.types.StructType;
+import com.gemstone.gemfire.pdx.PdxInstance;
+
+/**
+ * Unit tests for {@link ProjectingResultConverter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.ProjectingResultConverter
+ * @since 1.9.0
+ */
+@SuppressWarnings("unchecked")
+public class ProjectingResultConverterTest {
+
+	protected GemfireQueryMethod queryMethod(String methodName, Class<?> returnedDomainClass) throws Exception {
+		RepositoryMetadata mockMetadata = mock(RepositoryMetadata.class);
+
+		when(mockMetadata.getDomainType()).thenReturn((Class) Person.class);
+		when(mockMetadata.getReturnedDomainClass(any(java.lang.reflect.Method.class)))
+			.thenReturn((Class) returnedDomainClass);
+
+		return new GemfireQueryMethod(ProjectionQueryMethods.class.getMethod(methodName, String.class), mockMetadata,
+			new SpelAwareProxyProjectionFactory(), new GemfireMappingContext());
+	}
+
+	protected ReturnedType returnedType(String methodName, Class<?> projectionType) throws Exception {
+		return queryMethod(methodName, projectionType).getResultProcessor().getReturnedType();
+	}
+
+	protected Struct mockStruct(String[] fieldNames, Object... fieldValues) {
+		Struct mockStruct = mock(Struct.class);
+		StructType mockStructType = mock(StructType.class);
+
+		when(mockStruct.getStructType()).thenReturn(mockStructType);
+		when(mockStructType.getFieldNames()).thenReturn(fieldNames);
+
+		for (int index = 0; index < fieldNames.length; index++) {
+			when(mockStruct.get(fieldNames[index])).thenReturn(fieldValues[index]);
+		}
+
+		return mockStruct;
+	}
+
+	@Test
+	public void interfaceProjectionIsBackedByStructFields() throws Exception {
+		ProjectingResultConverter converter = new ProjectingResultConverter(
+			returnedType("findByLastname", NameOnly.class));
+
+		Object result = converter.convert(mockStruct(new String[] { "firstname", "lastname" }, "Jon", "Doe"));
+
+		assertThat(result, is(instanceOf(Map.class)));
+		assertThat(((Map<String, Object>) result).get("firstname"), is(equalTo((Object) "Jon")));
+		assertThat(((Map<String, Object>) result).get("lastname"), is(equalTo((Object) "Doe")));
+	}
+
+	@Test
+	public void interfaceProjectionOfSingleFieldIsBackedByFieldValue() throws Exception {
+		ProjectingResultConverter converter = new ProjectingResultConverter(
+			returnedType("findFirstnameByLastname", FirstnameOnly.class));
+
+		Object result = converter.convert("Jon");
+
+		assertThat(result, is(instanceOf(Map.class)));
+		assertThat(((Map<String, Object>) result).get("firstname"), is(equalTo((Object) "Jon")));
+	}
+
+	@Test
+	public void interfaceProjectionOfEntityIsTheEntity() throws Exception {
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		assertThat(new ProjectingResultConverter(returnedType("findByLastname", NameOnly.class)).convert(jonDoe),
+			is(sameInstance((Object) jonDoe)));
+	}
+
+	@Test
+	public void dtoProjectionIsConstructedFromStructFields() throws Exception {
+		ProjectingResultConverter converter = new ProjectingResultConverter(
+			returnedType("findNameByLastname", Name.class));
+
+		Object result = converter.convert(mockStruct(new String[] { "firstname", "lastname" }, "Jon", "Doe"));
+
+		assertThat(result, is(instanceOf(Name.class)));
+		assertThat(((Name) result).firstname, is(equalTo("Jon")));
+		assertThat(((Name) result).lastname, is(equalTo("Doe")));
+	}
+
+	@Test
+	public void dtoProjectionIsConstructedFromEntity() throws Exception {
+		ProjectingResultConverter converter = new ProjectingResultConverter(
+			returnedType("findNameByLastname", Name.class));
+
+		Object result = converter.convert(new Person(1L, "Jon", "Doe"));
+
+		assertThat(result, is(instanceOf(Name.class)));
+		assertThat(((Name) result).firstname, is(equalTo("Jon")));
+		assertThat(((Name) result).lastname, is(equalTo("Doe")));
+	}
+
+	@Test
+	public void dtoProjectionReadsPdxFieldsWithoutDeserializingTheObject() throws Exception {
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("firstname")).thenReturn(true);
+		when(mockPdxInstance.hasField("lastname")).thenReturn(true);
+		when(mockPdxInstance.getField("firstname")).thenReturn("Jon");
+		when(mockPdxInstance.getField("lastname")).thenReturn("Doe");
+
+		Object result = new ProjectingResultConverter(returnedType("findNameByLastname", Name.class))
+			.convert(mockPdxInstance);
+
+		assertThat(((Name) result).firstname, is(equalTo("Jon")));
+		assertThat(((Name) result).lastname, is(equalTo("Doe")));
+
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void dtoProjectionBindsConstructorParametersByName() throws Exception {
+		ProjectingResultConverter converter = new ProjectingResultConverter(
+			returnedType("findReversedNameByLastname", ReversedName.class));
+
+		Object result = converter.convert(mockStruct(new String[] { "firstname", "lastname" }, "Jon", "Doe"));
+
+		assertThat(result, is(instanceOf(ReversedName.class)));
+		assertThat(((ReversedName) result).firstname, is(equalTo("Jon")));
+		assertThat(((ReversedName) result).lastname, is(equalTo("Doe")));
+	}
+
+	@Test
+	public void iteratorProjectionProjectsEachElement() throws Exception {
+		CloseableIterator<Object> mockIterator = mock(CloseableIterator.class);
+
+		when(mockIterator.hasNext()).thenReturn(true, false);
+		when(mockIterator.next()).thenReturn(mockStruct(new String[] { "firstname", "lastname" }, "Jon", "Doe"));
+
+		Object result = new StringBasedGemfireRepositoryQuery().project(
+			queryMethod("findNamesByLastname", Iterator.class), mockIterator);
+
+		assertThat(result, is(instanceOf(CloseableIterator.class)));
+
+		Iterator<NameOnly> names = (Iterator<NameOnly>) result;
+
+		assertThat(names.hasNext(), is(true));
+
+		NameOnly name = names.next();
+
+		assertThat(name.getFirstname(), is(equalTo("Jon")));
+		assertThat(name.getLastname(), is(equalTo("Doe")));
+		assertThat(names.hasNext(), is(false));
+
+		((CloseableIterator<NameOnly>) result).close();
+
+		verify(mockIterator).close();
+	}
+
+	@Test
+	public void iteratorOfEntitiesIsNotProjected() throws Exception {
+		CloseableIterator<Object> mockIterator = mock(CloseableIterator.class);
+
+		assertThat(new StringBasedGemfireRepositoryQuery().project(queryMethod("findPeopleByLastname", Iterator.class),
+			mockIterator), is(sameInstance((Object) mockIterator)));
+	}
+
+	interface ProjectionQueryMethods {
+
+		FirstnameOnly findFirstnameByLastname(String lastname);
+
+		NameOnly findByLastname(String lastname);
+
+		Name findNameByLastname(String lastname);
+
+		Iterator<NameOnly> findNamesByLastname(String lastname);
+
+		Iterator<Person> findPeopleByLastname(String lastname);
+
+		ReversedName findReversedNameByLastname(String lastname);
+
+	}
+
+	interface FirstnameOnly {
+
+		String getFirstname();
+
+	}
+
+	interface NameOnly {
+
+		String getFirstname();
+
+		String getLastname();
+
+	}
+
+	static class Name {
+
+		final String firstname;
+		final String lastname;
+
+		Name(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
+
+	static class ReversedName {
+
+		final String firstname;
+		final String lastname;
+
+		ReversedName(String lastname, String firstname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
+
+}
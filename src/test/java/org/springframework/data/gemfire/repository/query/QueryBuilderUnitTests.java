@@ -26,6 +26,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -78,6 +81,53 @@ public class QueryBuilderUnitTests {
 		verify(mockPartTree, times(1)).isDistinct();
 	}
 
+	@Test
+	public void createQueryBuilderWithCountQuery() {
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isCountProjection()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree);
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT count(*) FROM /Example x");
+
+		verify(mockPersistentEntity, times(1)).getRegionName();
+		verify(mockPartTree, times(1)).isCountProjection();
+	}
+
+	@Test
+	public void createQueryBuilderWithProjectionQuery() {
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isDistinct()).thenReturn(false);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree,
+			Arrays.asList("firstname", "lastname"));
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT x.firstname, x.lastname FROM /Example x");
+
+		verify(mockPersistentEntity, times(1)).getRegionName();
+		verify(mockPartTree, times(1)).isDistinct();
+	}
+
+	@Test
+	public void createQueryBuilderWithEmptyProjectionSelectsEntity() {
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isDistinct()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree,
+			Collections.<String>emptyList());
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT DISTINCT * FROM /Example x");
+	}
+
 	@Test
 	public void createQueryBuilderWithNullQueryString() {
 		exception.expect(IllegalArgumentException.class);
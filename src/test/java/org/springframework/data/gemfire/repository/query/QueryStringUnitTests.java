@@ -338,4 +338,38 @@ public class QueryStringUnitTests {
 		assertThat(query.withImport("org.example.domain.Type").withHints("IdIdx", "NameIdx").withLimit(20).withTrace().toString())
 			.isEqualTo("<TRACE> <HINT 'IdIdx', 'NameIdx'> IMPORT org.example.domain.Type; SELECT * FROM /Example LIMIT 20");
 	}
+
+	@Test
+	public void withPredicateWithoutWhereClause() {
+		assertThat(new QueryString("SELECT * FROM /Example x").withPredicate("id > $1").toString())
+			.isEqualTo("SELECT * FROM /Example x WHERE id > $1");
+	}
+
+	@Test
+	public void withPredicateCombinesExistingWhereClauseBeforeOrderByAndLimit() {
+		QueryString query = new QueryString("SELECT DISTINCT * FROM /Example x WHERE x.a = $1 OR x.b = $2 ORDER BY id ASC LIMIT 10");
+
+		assertThat(query.withPredicate("id > $3").toString()).isEqualTo(
+			"SELECT DISTINCT * FROM /Example x WHERE (id > $3) AND (x.a = $1 OR x.b = $2) ORDER BY id ASC LIMIT 10");
+	}
+
+	@Test
+	public void withoutPredicate() {
+		QueryString expectedQueryString = new QueryString("SELECT * FROM /Example");
+
+		assertThat(expectedQueryString.withPredicate(" ")).isSameAs(expectedQueryString);
+	}
+
+	@Test
+	public void asCountQuery() {
+		assertThat(new QueryString("<HINT 'IdIdx'> SELECT * FROM /Example x WHERE x.a = $1 ORDER BY id ASC LIMIT 10")
+			.asCountQuery().toString()).isEqualTo("<HINT 'IdIdx'> SELECT count(*) FROM /Example x WHERE x.a = $1");
+	}
+
+	@Test
+	public void asCountQueryKeepsDistinct() {
+		assertThat(new QueryString("<HINT 'IdIdx'> SELECT DISTINCT x.name FROM /Example x WHERE x.a = $1 ORDER BY x.name ASC LIMIT 10")
+			.asCountQuery().toString()).isEqualTo(
+				"<HINT 'IdIdx'> SELECT count(*) FROM (SELECT DISTINCT x.name FROM /Example x WHERE x.a = $1)");
+	}
 }
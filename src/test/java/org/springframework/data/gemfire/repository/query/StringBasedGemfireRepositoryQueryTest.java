@@ -28,6 +28,7 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -40,6 +41,11 @@ import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
 
 import com.gemstone.gemfire.cache.query.SelectResults;
 import com.gemstone.gemfire.cache.query.internal.ResultsBag;
@@ -219,4 +225,53 @@ public class StringBasedGemfireRepositoryQueryTest {
 		verify(mockQueryMethod, times(1)).hasTrace();
 	}
 
+	@Test
+	public void prepareQueryIsComputedOnceAndReused() {
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class, "MockGemfireQueryMethod");
+
+		when(mockQueryMethod.isModifyingQuery()).thenReturn(false);
+		when(mockQueryMethod.isPageQuery()).thenReturn(false);
+		when(mockQueryMethod.hasHint()).thenReturn(false);
+		when(mockQueryMethod.hasImport()).thenReturn(false);
+		when(mockQueryMethod.hasLimit()).thenReturn(true);
+		when(mockQueryMethod.getLimit()).thenReturn(10);
+		when(mockQueryMethod.hasTrace()).thenReturn(false);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = new StringBasedGemfireRepositoryQuery(
+			"SELECT * FROM /Example WHERE id IN SET $1 AND name IN LIST $2", mockQueryMethod,
+				mock(GemfireTemplate.class)).asUserDefinedQuery();
+
+		StringBasedGemfireRepositoryQuery.PreparedQuery preparedQuery = repositoryQuery.prepareQuery(mockQueryMethod);
+
+		assertThat(preparedQuery, is(notNullValue()));
+		assertThat(preparedQuery.hasInParameters(), is(true));
+		assertThat(preparedQuery.getInParameterIndexes(), is(equalTo(Arrays.asList(1, 2))));
+		assertThat(preparedQuery.getQuery().toString(), is(equalTo(
+			"SELECT * FROM /Example WHERE id IN SET $1 AND name IN LIST $2 LIMIT 10")));
+		assertThat(repositoryQuery.prepareQuery(mockQueryMethod), is(sameInstance(preparedQuery)));
+
+		verify(mockQueryMethod, times(1)).hasLimit();
+		verify(mockQueryMethod, times(1)).getLimit();
+	}
+
+	@Test
+	public void getBindableParametersExcludesPageable() throws Exception {
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class, "MockGemfireQueryMethod");
+
+		DefaultParameters parameters = new DefaultParameters(PagedQueries.class.getMethod("findByName",
+			String.class, Pageable.class, Integer.class));
+
+		doReturn(parameters).when(mockQueryMethod).getParameters();
+
+		Object[] bindableParameters = repositoryQuery.getBindableParameters(mockQueryMethod,
+			new ParametersParameterAccessor(parameters, new Object[] { "Jon", new PageRequest(0, 10), 42 }));
+
+		assertThat(bindableParameters, is(equalTo(new Object[] { "Jon", 42 })));
+	}
+
+	@SuppressWarnings("unused")
+	interface PagedQueries {
+		List<Object> findByName(String name, Pageable pageable, Integer age);
+	}
+
 }
@@ -20,7 +20,6 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -267,15 +266,11 @@ public class GemfireRepositoryFactoryUnitTests {
 	 * @link https://jira.spring.io/browse/SGF-112
 	 */
 	@Test
-	public void rejectsInterfacesExtendingPagingAndSortingRepository() {
-		exception.expect(IllegalStateException.class);
-		exception.expectCause(is(nullValue(Throwable.class)));
-		exception.expectMessage(startsWith("Pagination is not supported by GemFire Repositories"));
-
+	public void supportsInterfacesExtendingPagingAndSortingRepository() {
 		GemfireRepositoryFactory repositoryFactory = new GemfireRepositoryFactory(
 			Collections.<Region<?, ?>>singletonList(mockRegion), new GemfireMappingContext());
 
-		repositoryFactory.getRepository(SamplePagingAndSortingRepository.class);
+		assertThat(repositoryFactory.getRepository(SamplePagingAndSortingRepository.class), is(notNullValue()));
 	}
 
 	@Test
@@ -20,12 +20,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,11 +37,16 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.gemstone.gemfire.cache.Cache;
@@ -45,13 +54,19 @@ import com.gemstone.gemfire.cache.CacheTransactionManager;
 import com.gemstone.gemfire.cache.DataPolicy;
 import com.gemstone.gemfire.cache.Region;
 import com.gemstone.gemfire.cache.RegionAttributes;
+import com.gemstone.gemfire.cache.execute.Execution;
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.ResultCollector;
 
 import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.repository.Wrapper;
 import org.springframework.data.gemfire.repository.sample.Animal;
+import org.springframework.data.gemfire.support.ClearRegionFunction;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.repository.core.EntityInformation;
 
@@ -174,6 +189,208 @@ public class SimpleGemfireRepositoryUnitTest {
 		verify(mockRegion, times(1)).putAll(eq(asMap(savedAnimals)));
 	}
 
+	@Test
+	public void testSaveEntitiesInBatches() {
+		List<Animal> animals = new ArrayList<Animal>(5);
+
+		for (String name : Arrays.asList("bird", "cat", "dog", "fish", "snake")) {
+			animals.add(createAnimal(name));
+		}
+
+		Region<Long, Animal> mockRegion = mock(Region.class, "testSaveEntitiesInBatches");
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(2);
+
+		Iterable<Animal> savedAnimals = repository.save(animals);
+
+		assertEquals(animals, savedAnimals);
+
+		verify(mockRegion, times(3)).putAll(any(Map.class));
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(4, 5))));
+	}
+
+	@Test
+	public void testSaveEntitiesInBatchesReportsFailedBatches() {
+		List<Animal> animals = new ArrayList<Animal>(4);
+
+		for (String name : Arrays.asList("bird", "cat", "dog", "fish")) {
+			animals.add(createAnimal(name));
+		}
+
+		Region<Long, Animal> mockRegion = mock(Region.class, "testSaveEntitiesInBatchesReportsFailedBatches");
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(2);
+		repository.setTaskExecutor(new SimpleAsyncTaskExecutor());
+
+		doAnswer(new Answer<Void>() {
+			@Override public Void answer(InvocationOnMock invocation) throws Throwable {
+				if (((Map<?, ?>) invocation.getArguments()[0]).containsKey(1l)) {
+					throw new IllegalStateException("test");
+				}
+				return null;
+			}
+		}).when(mockRegion).putAll(any(Map.class));
+
+		try {
+			repository.save(animals);
+			fail("expected BulkWriteException");
+		}
+		catch (BulkWriteException expected) {
+			assertEquals(2l, expected.getWriteCount());
+			assertEquals(new HashSet<Object>(Arrays.asList(1l, 2l)), new HashSet<Object>(expected.getFailedKeys()));
+			assertEquals(1, expected.getCauses().size());
+			assertTrue(expected.getCause() instanceof IllegalStateException);
+		}
+
+		verify(mockRegion, times(2)).putAll(any(Map.class));
+	}
+
+	@Test
+	public void testSaveEntitiesWithDuplicateIdsWritesLastEntityOfBatch() {
+		Animal bird = createAnimal(1l, "bird");
+		Animal dog = createAnimal(1l, "dog");
+		Animal cat = createAnimal(2l, "cat");
+
+		Region<Long, Animal> mockRegion = mock(Region.class, "testSaveEntitiesWithDuplicateIdsWritesLastEntityOfBatch");
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(2);
+
+		List<Animal> animals = Arrays.asList(bird, dog, cat);
+
+		assertSame(animals, repository.save(animals));
+
+		Map<Long, Animal> expectedBatch = new HashMap<Long, Animal>();
+
+		expectedBatch.put(1l, dog);
+		expectedBatch.put(2l, cat);
+
+		verify(mockRegion, times(1)).putAll(any(Map.class));
+		verify(mockRegion, times(1)).putAll(eq(expectedBatch));
+	}
+
+	@Test
+	public void testSaveEntitiesIteratesOnceHoldingOneBatchAtATime() {
+		final int batchSize = 3;
+		final int entityCount = 10;
+
+		final AtomicInteger pendingEntities = new AtomicInteger(0);
+
+		final Iterator<Animal> animals = new Iterator<Animal>() {
+			private long id = 0;
+
+			@Override public boolean hasNext() {
+				return (id < entityCount);
+			}
+
+			@Override public Animal next() {
+				assertTrue(String.format("[%d] entities held before writing", pendingEntities.get()),
+					pendingEntities.get() < batchSize);
+
+				pendingEntities.incrementAndGet();
+
+				return createAnimal(++id, "animal" + id);
+			}
+
+			@Override public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		Iterable<Animal> oneShotIterable = new Iterable<Animal>() {
+			private boolean iterated = false;
+
+			@Override public Iterator<Animal> iterator() {
+				assertFalse("entities iterated more than once", iterated);
+				iterated = true;
+				return animals;
+			}
+		};
+
+		Region<Long, Animal> mockRegion = mock(Region.class, "testSaveEntitiesIteratesOnceHoldingOneBatchAtATime");
+
+		doAnswer(new Answer<Void>() {
+			@Override public Void answer(InvocationOnMock invocation) throws Throwable {
+				pendingEntities.addAndGet(-((Map<?, ?>) invocation.getArguments()[0]).size());
+				return null;
+			}
+		}).when(mockRegion).putAll(any(Map.class));
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(batchSize);
+
+		assertSame(oneShotIterable, repository.save(oneShotIterable));
+		assertEquals(0, pendingEntities.get());
+
+		verify(mockRegion, times(4)).putAll(any(Map.class));
+	}
+
+	@Test
+	public void testSaveEntitiesInTransactionWritesBatchesSequentially() {
+		Cache mockCache = mockCache("testSaveEntitiesInTransactionWritesBatchesSequentially", true);
+
+		Region<Long, Animal> mockRegion = mockRegion("testSaveEntitiesInTransactionWritesBatchesSequentially",
+			mockCache, DataPolicy.REPLICATE);
+
+		AsyncTaskExecutor mockTaskExecutor = mock(AsyncTaskExecutor.class);
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(1);
+		repository.setTaskExecutor(mockTaskExecutor);
+		repository.save(Arrays.asList(createAnimal("bird"), createAnimal("cat")));
+
+		verify(mockRegion, times(2)).putAll(any(Map.class));
+		verify(mockTaskExecutor, never()).submit(any(Runnable.class));
+	}
+
+	@Test
+	public void testSaveEntitiesInterruptedCancelsPendingBatches() throws Exception {
+		Future<Object> interruptedFuture = mock(Future.class, "interruptedFuture");
+		Future<Object> pendingFuture = mock(Future.class, "pendingFuture");
+
+		when(interruptedFuture.get()).thenThrow(new InterruptedException("test"));
+		when(pendingFuture.cancel(true)).thenReturn(true);
+
+		AsyncTaskExecutor mockTaskExecutor = mock(AsyncTaskExecutor.class);
+
+		when(mockTaskExecutor.submit(any(Runnable.class))).thenReturn((Future) interruptedFuture,
+			(Future) pendingFuture);
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mock(Region.class)), mockEntityInformation());
+
+		repository.setBatchSize(1);
+		repository.setTaskExecutor(mockTaskExecutor);
+
+		try {
+			repository.save(Arrays.asList(createAnimal("bird"), createAnimal("cat")));
+			fail("expected BulkWriteException");
+		}
+		catch (BulkWriteException expected) {
+			assertEquals(0l, expected.getWriteCount());
+			assertEquals(Arrays.<Object>asList(1l, 2l), expected.getFailedKeys());
+			assertTrue(expected.getCause() instanceof InterruptedException);
+		}
+		finally {
+			assertTrue(Thread.interrupted());
+		}
+
+		verify(pendingFuture, times(1)).cancel(eq(true));
+		verify(pendingFuture, never()).get();
+	}
+
 	@Test
 	public void testSaveWrapper() {
 		Animal dog = createAnimal(1l, "dog");
@@ -192,21 +409,84 @@ public class SimpleGemfireRepositoryUnitTest {
 
 	@Test
 	public void testExists() {
-		final Animal dog = createAnimal(1l, "dog");
+		Region<Long, Animal> mockRegion = mock(Region.class, "testExists");
 
-		Region<Long, Animal> mockRegion = mock(Region.class, "testFindOne");
+		when(mockRegion.containsKey(eq(1l))).thenReturn(true);
 
-		when(mockRegion.get(any(Long.class))).then(new Answer<Animal>() {
-			@Override public Animal answer(final InvocationOnMock invocation) throws Throwable {
-				return (dog.getId().equals(invocation.getArguments()[0]) ? dog : null);
-			}
-		});
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertTrue(repository.exists(1l));
+		assertFalse(repository.exists(10l));
+
+		verify(mockRegion, never()).get(any());
+		verify(mockRegion, never()).containsKeyOnServer(any());
+	}
+
+	@Test
+	public void testExistsUsesContainsKeyOnServerForClientRegions() {
+		Region<Long, Animal> mockRegion = mockRegion("testExistsUsesContainsKeyOnServerForClientRegions",
+			null, DataPolicy.EMPTY);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("gemfirePool");
+		when(mockRegion.containsKeyOnServer(eq(1l))).thenReturn(true);
 
 		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
 			createGemfireTemplate(mockRegion), mockEntityInformation());
 
 		assertTrue(repository.exists(1l));
 		assertFalse(repository.exists(10l));
+
+		verify(mockRegion, never()).containsKey(any());
+	}
+
+	@Test
+	public void testExistsAll() {
+		Region<Long, Animal> mockRegion = mock(Region.class, "testExistsAll");
+
+		when(mockRegion.containsKey(eq(1l))).thenReturn(true);
+		when(mockRegion.containsKey(eq(2l))).thenReturn(true);
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertTrue(repository.existsAll(Arrays.asList(1l, 2l)));
+		assertFalse(repository.existsAll(Arrays.asList(1l, 2l, 3l)));
+		assertTrue(repository.existsAll(Collections.<Long>emptyList()));
+
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void testExistsAllQueriesKeysOnServerInBatchesForClientRegions() {
+		Region<Long, Animal> mockRegion = mockRegion("testExistsAllQueriesKeysOnServerInBatchesForClientRegions",
+			null, DataPolicy.EMPTY);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("gemfirePool");
+		when(mockRegion.getFullPath()).thenReturn("/Animals");
+
+		final List<Set<Long>> batches = new ArrayList<Set<Long>>();
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+				createGemfireTemplate(mockRegion), mockEntityInformation()) {
+
+			@Override boolean existsAllOnServer(final Region<?, ?> region, final Set<Long> ids) {
+				batches.add(ids);
+				return !ids.contains(4l);
+			}
+		};
+
+		repository.setBatchSize(2);
+
+		assertTrue(repository.existsAll(Arrays.asList(1l, 2l, 3l)));
+		assertEquals(Arrays.<Set<Long>>asList(new HashSet<Long>(Arrays.asList(1l, 2l)),
+			new HashSet<Long>(Arrays.asList(3l))), batches);
+
+		batches.clear();
+
+		assertFalse(repository.existsAll(Arrays.asList(1l, 4l, 5l)));
+		assertEquals(1, batches.size());
+		verify(mockRegion, never()).containsKey(any());
 	}
 
 	@Test
@@ -298,9 +578,86 @@ public class SimpleGemfireRepositoryUnitTest {
 
 		repository.delete(Arrays.asList(createAnimal(1l, "bird"), createAnimal(2l, "cat"), createAnimal(3l, "dog")));
 
-		verify(mockRegion, times(1)).remove(eq(1l));
-		verify(mockRegion, times(1)).remove(eq(2l));
-		verify(mockRegion, times(1)).remove(eq(3l));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1l, 2l, 3l)));
+		verify(mockRegion, never()).remove(any());
+	}
+
+	@Test
+	public void testDeleteAllByIdsInBatches() {
+		Region<Long, Animal> mockRegion = mock(Region.class, "testDeleteAllByIdsInBatches");
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(2);
+		repository.deleteAll(Arrays.asList(1l, 2l, 3l));
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1l, 2l)));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(3l)));
+	}
+
+	@Test
+	public void testDeleteAllByIdsReportsFailedBatchesAsRemoved() {
+		Region<Long, Animal> mockRegion = mock(Region.class, "testDeleteAllByIdsReportsFailedBatchesAsRemoved");
+
+		doAnswer(new Answer<Void>() {
+			@Override public Void answer(InvocationOnMock invocation) throws Throwable {
+				if (((Collection<?>) invocation.getArguments()[0]).contains(3l)) {
+					throw new IllegalStateException("test");
+				}
+				return null;
+			}
+		}).when(mockRegion).removeAll(anyCollection());
+
+		SimpleGemfireRepository<Animal, Long> repository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchSize(2);
+
+		try {
+			repository.deleteAll(Arrays.asList(1l, 2l, 1l, 3l));
+			fail("expected BulkWriteException");
+		}
+		catch (BulkWriteException expected) {
+			assertTrue(expected.getMessage().startsWith("1 of 2 batches failed; 2 entries were removed"));
+			assertEquals(Arrays.<Object>asList(3l), expected.getFailedKeys());
+		}
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1l, 2l)));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(3l)));
+	}
+
+	@Test
+	public void testCountUsesRegionSize() {
+		Region<Long, Animal> mockRegion = mockRegion("testCountUsesRegionSize",
+			mockCache("testCountUsesRegionSize", false), DataPolicy.PARTITION);
+
+		when(mockRegion.size()).thenReturn(42);
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertEquals(42l, gemfireRepository.count());
+
+		verify(mockRegion, times(1)).size();
+		verify(mockRegion, never()).sizeOnServer();
+	}
+
+	@Test
+	public void testCountUsesSizeOnServerForClientRegions() {
+		Region<Long, Animal> mockRegion = mockRegion("testCountUsesSizeOnServerForClientRegions",
+			mockCache("testCountUsesSizeOnServerForClientRegions", false), DataPolicy.EMPTY);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("DEFAULT");
+		when(mockRegion.sizeOnServer()).thenReturn(21);
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertEquals(21l, gemfireRepository.count());
+
+		verify(mockRegion, times(1)).sizeOnServer();
+		verify(mockRegion, never()).size();
 	}
 
 	@Test
@@ -368,6 +725,157 @@ public class SimpleGemfireRepositoryUnitTest {
 		verify(mockRegion, times(1)).removeAll(eq(keys));
 	}
 
+	@Test
+	public void testDeleteAllWithKeysInBatchesWhenPartitionRegion() {
+		Cache mockCache = mockCache("testDeleteAllWithKeysInBatchesWhenPartitionRegion.MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("testDeleteAllWithKeysInBatchesWhenPartitionRegion.MockRegion",
+			mockCache, DataPolicy.PARTITION);
+
+		when(mockRegion.keySet()).thenReturn(new LinkedHashSet<Long>(Arrays.asList(1l, 2l, 3l)));
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository = new SimpleGemfireRepository<Animal, Long>(
+			createGemfireTemplate(mockRegion), mockEntityInformation());
+
+		gemfireRepository.setBatchSize(2);
+		gemfireRepository.deleteAll();
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1l, 2l)));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(3l)));
+		verify(mockRegion, times(0)).clear();
+	}
+
+	@Test
+	public void testDeleteAllWithClearRegionFunctionWhenPartitionRegion() {
+		Cache mockCache = mockCache("testDeleteAllWithClearRegionFunctionWhenPartitionRegion.MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("testDeleteAllWithClearRegionFunctionWhenPartitionRegion.MockRegion",
+			mockCache, DataPolicy.PARTITION);
+
+		final Execution mockExecution = mock(Execution.class, "MockExecution");
+
+		ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(ClearRegionFunction.ID))).thenReturn(mockResultCollector);
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository = new SimpleGemfireRepository<Animal, Long>(
+				createGemfireTemplate(mockRegion), mockEntityInformation()) {
+
+			@Override boolean isClearFunctionRegistered() {
+				return true;
+			}
+
+			@Override Execution newClearFunctionExecution(final Region region) {
+				return mockExecution;
+			}
+		};
+
+		gemfireRepository.deleteAll();
+
+		verify(mockExecution, times(1)).withArgs(eq(SimpleGemfireRepository.DEFAULT_BATCH_SIZE));
+		verify(mockExecution, times(1)).execute(eq(ClearRegionFunction.ID));
+		verify(mockResultCollector, times(1)).getResult();
+		verify(mockRegion, never()).keySet();
+		verify(mockRegion, never()).removeAll(anyCollection());
+		verify(mockRegion, never()).clear();
+	}
+
+	@Test
+	public void testDeleteAllWithClearRegionFunctionWhenClientProxyRegion() {
+		Cache mockCache = mockCache("testDeleteAllWithClearRegionFunctionWhenClientProxyRegion.MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("testDeleteAllWithClearRegionFunctionWhenClientProxyRegion.MockRegion",
+			mockCache, DataPolicy.EMPTY);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("gemfirePool");
+
+		final Execution mockExecution = mock(Execution.class, "MockExecution");
+
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(ClearRegionFunction.ID))).thenReturn(mock(ResultCollector.class));
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository = new SimpleGemfireRepository<Animal, Long>(
+				createGemfireTemplate(mockRegion), mockEntityInformation()) {
+
+			@Override boolean isClearFunctionRegistered() {
+				return true;
+			}
+
+			@Override Execution newClearFunctionExecution(final Region region) {
+				return mockExecution;
+			}
+		};
+
+		gemfireRepository.deleteAll();
+
+		verify(mockExecution, times(1)).execute(eq(ClearRegionFunction.ID));
+		verify(mockRegion, never()).clear();
+	}
+
+	@Test
+	public void testDeleteAllWithClearWhenClientCachingProxyRegion() {
+		Cache mockCache = mockCache("testDeleteAllWithClearWhenClientCachingProxyRegion.MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("testDeleteAllWithClearWhenClientCachingProxyRegion.MockRegion",
+			mockCache, DataPolicy.NORMAL);
+
+		when(mockRegion.getAttributes().getPoolName()).thenReturn("gemfirePool");
+
+		final Execution mockExecution = mock(Execution.class, "MockExecution");
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository = new SimpleGemfireRepository<Animal, Long>(
+				createGemfireTemplate(mockRegion), mockEntityInformation()) {
+
+			@Override boolean isClearFunctionRegistered() {
+				return true;
+			}
+
+			@Override Execution newClearFunctionExecution(final Region region) {
+				return mockExecution;
+			}
+		};
+
+		gemfireRepository.deleteAll();
+
+		verify(mockExecution, never()).execute(any(String.class));
+		verify(mockRegion, times(1)).clear();
+	}
+
+	@Test
+	public void testDeleteAllWithKeysWhenClearRegionFunctionFails() {
+		Cache mockCache = mockCache("testDeleteAllWithKeysWhenClearRegionFunctionFails.MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("testDeleteAllWithKeysWhenClearRegionFunctionFails.MockRegion",
+			mockCache, DataPolicy.PARTITION);
+
+		Set<Long> keys = new HashSet<Long>(Arrays.asList(1l, 2l, 3l));
+
+		when(mockRegion.keySet()).thenReturn(keys);
+
+		final Execution mockExecution = mock(Execution.class, "MockExecution");
+
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(ClearRegionFunction.ID))).thenThrow(new FunctionException("test"));
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository = new SimpleGemfireRepository<Animal, Long>(
+				createGemfireTemplate(mockRegion), mockEntityInformation()) {
+
+			@Override boolean isClearFunctionRegistered() {
+				return true;
+			}
+
+			@Override Execution newClearFunctionExecution(final Region region) {
+				return mockExecution;
+			}
+		};
+
+		gemfireRepository.deleteAll();
+
+		verify(mockExecution, times(1)).execute(eq(ClearRegionFunction.ID));
+		verify(mockRegion, times(1)).removeAll(eq(keys));
+	}
+
 	@Test
 	public void testDeleteAllWithKeysWhenTransactionPresent() {
 		Cache mockCache = mockCache("testDeleteAllWithKeysWhenTransactionPresent.MockCache", true);
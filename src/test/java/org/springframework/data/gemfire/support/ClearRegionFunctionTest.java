@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.execute.FunctionContext;
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.RegionFunctionContext;
+import com.gemstone.gemfire.cache.execute.ResultSender;
+
+/**
+ * The ClearRegionFunctionTest class is a test suite of test cases testing the contract and functionality
+ * of the ClearRegionFunction GemFire Function class.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.support.ClearRegionFunction
+ * @since 1.9.0
+ */
+@SuppressWarnings("unchecked")
+public class ClearRegionFunctionTest {
+
+	private ClearRegionFunction function = new ClearRegionFunction();
+
+	protected RegionFunctionContext mockRegionFunctionContext(Region<Object, Object> region, Object arguments,
+			ResultSender<Object> resultSender) {
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class, "MockGemFireFunctionContext");
+
+		when(mockFunctionContext.getDataSet()).thenReturn(region);
+		when(mockFunctionContext.getArguments()).thenReturn(arguments);
+		when(mockFunctionContext.getResultSender()).thenReturn(resultSender);
+
+		return mockFunctionContext;
+	}
+
+	@Test
+	public void executeRemovesLocalPrimaryKeysOfPartitionedRegionInBatches() {
+		Region<Object, Object> mockRegion = mock(Region.class, "MockGemFireRegion");
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class, "MockGemFireResultSender");
+
+		final Set<Object> localPrimaryKeys = new LinkedHashSet<Object>(Arrays.<Object>asList(1, 2, 3, 4, 5));
+
+		ClearRegionFunction function = new ClearRegionFunction() {
+			@Override boolean isPartitioned(Region<Object, Object> region) {
+				return true;
+			}
+
+			@Override Collection<Object> getLocalPrimaryKeys(Region<Object, Object> region) {
+				return localPrimaryKeys;
+			}
+		};
+
+		function.execute(mockRegionFunctionContext(mockRegion, new Object[] { 2 }, mockResultSender));
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.<Object>asList(1, 2)));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.<Object>asList(3, 4)));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.<Object>asList(5)));
+		verify(mockRegion, never()).clear();
+		verify(mockResultSender, times(1)).lastResult(eq(5));
+	}
+
+	@Test
+	public void executeClearsNonPartitionedRegion() {
+		Region<Object, Object> mockRegion = mock(Region.class, "MockGemFireRegion");
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class, "MockGemFireResultSender");
+
+		when(mockRegion.size()).thenReturn(3);
+
+		ClearRegionFunction function = new ClearRegionFunction() {
+			@Override boolean isPartitioned(Region<Object, Object> region) {
+				return false;
+			}
+		};
+
+		function.execute(mockRegionFunctionContext(mockRegion, null, mockResultSender));
+
+		verify(mockRegion, times(1)).clear();
+		verify(mockRegion, never()).removeAll(anyCollection());
+		verify(mockResultSender, times(1)).lastResult(eq(3));
+	}
+
+	@Test
+	public void executeRemovesAllKeysWhenClearIsUnsupported() {
+		Region<Object, Object> mockRegion = mock(Region.class, "MockGemFireRegion");
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class, "MockGemFireResultSender");
+
+		doThrow(new UnsupportedOperationException("Not Implemented!")).when(mockRegion).clear();
+		when(mockRegion.keySet()).thenReturn(new LinkedHashSet<Object>(Arrays.<Object>asList("a", "b")));
+
+		ClearRegionFunction function = new ClearRegionFunction() {
+			@Override boolean isPartitioned(Region<Object, Object> region) {
+				return false;
+			}
+		};
+
+		function.execute(mockRegionFunctionContext(mockRegion, 10, mockResultSender));
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.<Object>asList("a", "b")));
+		verify(mockResultSender, times(1)).lastResult(eq(2));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeOutsideOfRegionThrowsFunctionException() {
+		ResultSender<Object> mockResultSender = mock(ResultSender.class, "MockGemFireResultSender");
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class, "MockGemFireFunctionContext");
+
+		when(mockFunctionContext.getResultSender()).thenReturn(mockResultSender);
+
+		try {
+			function.execute(mockFunctionContext);
+		}
+		finally {
+			verify(mockResultSender, never()).lastResult(any());
+		}
+	}
+
+	@Test
+	public void resolveBatchSizeDefaultsWhenArgumentIsMissingOrInvalid() {
+		assertThat(function.resolveBatchSize(null), is(equalTo(ClearRegionFunction.DEFAULT_BATCH_SIZE)));
+		assertThat(function.resolveBatchSize(new Object[0]), is(equalTo(ClearRegionFunction.DEFAULT_BATCH_SIZE)));
+		assertThat(function.resolveBatchSize(0), is(equalTo(ClearRegionFunction.DEFAULT_BATCH_SIZE)));
+		assertThat(function.resolveBatchSize("100"), is(equalTo(ClearRegionFunction.DEFAULT_BATCH_SIZE)));
+		assertThat(function.resolveBatchSize(new Object[] { 100L }), is(equalTo(100)));
+	}
+
+	@Test
+	public void getIdIsFullyQualifiedClassName() {
+		assertThat(function.getId(), is(equalTo(ClearRegionFunction.class.getName())));
+	}
+
+	@Test
+	public void hasResultIsTrue() {
+		assertThat(function.hasResult(), is(true));
+	}
+
+	@Test
+	public void isHighAvailabilityIsFalseAndOptimizeForWriteIsTrue() {
+		assertThat(function.isHA(), is(false));
+		assertThat(function.optimizeForWrite(), is(true));
+	}
+
+}